@@ -0,0 +1,88 @@
+package com.dynata.test.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.dynata.test.config.DataProperties;
+import com.dynata.test.generator.DatasetSpec;
+import com.dynata.test.generator.SyntheticDataset;
+import com.dynata.test.service.MemberService;
+import com.dynata.test.service.SurveyService;
+import com.dynata.test.service.impl.DataServiceImpl;
+import com.dynata.test.service.impl.MemberServiceImpl;
+import com.dynata.test.service.impl.SurveyServiceImpl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Synthetic dataset shared by all benchmarks of a trial.
+ * <p>
+ * The CSV files are generated once per size into the temp directory and reused by later
+ * forks and runs, then loaded through {@link DataServiceImpl} exactly like at startup.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDataset {
+
+    @Param({"300", "100000", "10000000"})
+    private long participations;
+
+    private DatasetSpec spec;
+    private SurveyService surveyService;
+    private MemberService memberService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        spec = DatasetSpec.forParticipations(participations);
+        DataServiceImpl dataService = SyntheticDataset.load(directory(participations));
+
+        surveyService = new SurveyServiceImpl(dataService);
+        memberService = new MemberServiceImpl(dataService, surveyService);
+    }
+
+    /**
+     * Gets the directory holding the CSV files of the given size, generating them on first use.
+     *
+     * @param participations the number of participations
+     * @return the directory
+     * @throws IOException if the files cannot be written
+     */
+    public static Path directory(long participations) throws IOException {
+        Path directory = Path.of(System.getProperty("java.io.tmpdir"), "dynata-benchmark", String.valueOf(participations));
+        if (!Files.exists(directory.resolve(DataProperties.PARTICIPATION_CSV))) {
+            SyntheticDataset.write(directory, DatasetSpec.forParticipations(participations));
+        }
+        return directory;
+    }
+
+    public SurveyService getSurveyService() {
+        return surveyService;
+    }
+
+    public MemberService getMemberService() {
+        return memberService;
+    }
+
+    /**
+     * Maps a running counter to a member id, cycling over all members.
+     *
+     * @param counter the counter
+     * @return a member id
+     */
+    public int memberId(int counter) {
+        return 1 + Math.floorMod(counter, spec.getMembers());
+    }
+
+    /**
+     * Maps a running counter to a survey id, cycling over all surveys.
+     *
+     * @param counter the counter
+     * @return a survey id
+     */
+    public int surveyId(int counter) {
+        return 1 + Math.floorMod(counter, spec.getSurveys());
+    }
+}
@@ -0,0 +1,106 @@
+package com.dynata.test.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.dynata.test.DynataTestApplication;
+import com.dynata.test.generator.DatasetSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+/**
+ * HTTP benchmarks of the application serving requests on platform threads and on virtual threads.
+ * <p>
+ * The application is started in the benchmark fork with {@code spring.threads.virtual.enabled} set by the
+ * {@code mode} parameter and called by {@value #CLIENTS} concurrent clients over HTTP/1.1. Throughput and the
+ * latency distribution, including p99, are reported per mode. The platform thread pool of Tomcat is sized by
+ * the {@code maxThreads} parameter, its default of 200 is below the number of clients. The dataset-versioned
+ * response cache is turned off, otherwise every call would be served the same cached body and the benchmark
+ * would measure the cache rather than the execution of the requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(ExecutionModeBenchmark.CLIENTS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ExecutionModeBenchmark {
+
+    static final int CLIENTS = 512;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"100000"})
+    private long participations;
+
+    @Param({"200"})
+    private int maxThreads;
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private DatasetSpec spec;
+    private ServletWebServerApplicationContext context;
+    private HttpClient client;
+    private URI statistics;
+    private String baseUri;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        spec = DatasetSpec.forParticipations(participations);
+        context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(DynataTestApplication.class)
+                .run("--server.port=0",
+                     "--server.tomcat.threads.max=" + maxThreads,
+                     "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                     "--dynata.data.location=" + BenchmarkDataset.directory(participations).toUri(),
+                     "--dynata.http-cache.enabled=false",
+                     "--logging.level.root=WARN");
+        baseUri = "http://localhost:" + context.getWebServer().getPort();
+        statistics = URI.create(baseUri + "/api/surveys/statistics");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getSurveyStatistics() throws IOException, InterruptedException {
+        return get(statistics);
+    }
+
+    @Benchmark
+    public int getPointsCollectedByMember() throws IOException, InterruptedException {
+        int memberId = 1 + Math.floorMod(counter.getAndIncrement(), spec.getMembers());
+        return get(URI.create(baseUri + "/api/members/" + memberId + "/points"));
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET %s returned %d".formatted(uri, response.statusCode()));
+        }
+        return response.body().length;
+    }
+}
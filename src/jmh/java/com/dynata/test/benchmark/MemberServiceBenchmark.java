@@ -0,0 +1,57 @@
+package com.dynata.test.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Survey;
+import com.dynata.test.service.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of every {@link MemberService} query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class MemberServiceBenchmark {
+
+    private int counter;
+
+    @Benchmark
+    public List<Member> getAllMembers(BenchmarkDataset dataset) {
+        return dataset.getMemberService().getAllMembers();
+    }
+
+    @Benchmark
+    public Member getMemberById(BenchmarkDataset dataset) {
+        return dataset.getMemberService().getMemberById(dataset.memberId(counter++));
+    }
+
+    @Benchmark
+    public List<Member> getActiveMembers(BenchmarkDataset dataset) {
+        return dataset.getMemberService().getActiveMembers();
+    }
+
+    @Benchmark
+    public List<Survey> getSurveysCompletedByMember(BenchmarkDataset dataset) {
+        return dataset.getMemberService().getSurveysCompletedByMember(dataset.memberId(counter++));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> getPointsCollectedByMember(BenchmarkDataset dataset) {
+        return dataset.getMemberService().getPointsCollectedByMember(dataset.memberId(counter++));
+    }
+}
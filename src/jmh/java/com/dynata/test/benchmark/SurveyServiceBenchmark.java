@@ -0,0 +1,67 @@
+package com.dynata.test.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Survey;
+import com.dynata.test.service.SurveyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of every {@link SurveyService} query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SurveyServiceBenchmark {
+
+    private int counter;
+
+    @Benchmark
+    public List<Member> getRespondentsWhoCompletedSurvey(BenchmarkDataset dataset) {
+        return dataset.getSurveyService().getRespondentsWhoCompletedSurvey(dataset.surveyId(counter++));
+    }
+
+    @Benchmark
+    public List<Survey> getSurveysCompletedByMember(BenchmarkDataset dataset) {
+        return dataset.getSurveyService().getSurveysCompletedByMember(dataset.memberId(counter++));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> getPointsCollectedByMember(BenchmarkDataset dataset) {
+        return dataset.getSurveyService().getPointsCollectedByMember(dataset.memberId(counter++));
+    }
+
+    @Benchmark
+    public List<Member> getMembersWhoCanBeInvitedForSurvey(BenchmarkDataset dataset) {
+        return dataset.getSurveyService().getMembersWhoCanBeInvitedForSurvey(dataset.surveyId(counter++));
+    }
+
+    @Benchmark
+    public int[] getIdsOfMembersWhoCanBeInvitedForSurvey(BenchmarkDataset dataset) {
+        return dataset.getSurveyService().getIdsOfMembersWhoCanBeInvitedForSurvey(dataset.surveyId(counter++));
+    }
+
+    @Benchmark
+    public int countMembersWhoCanBeInvitedForSurvey(BenchmarkDataset dataset) {
+        return dataset.getSurveyService().countMembersWhoCanBeInvitedForSurvey(dataset.surveyId(counter++));
+    }
+
+    @Benchmark
+    public List<SurveyService.SurveyStatistics> getSurveyStatistics(BenchmarkDataset dataset) {
+        return dataset.getSurveyService().getSurveyStatistics();
+    }
+}
@@ -0,0 +1,171 @@
+package com.dynata.test.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Response wrapper buffering the body as long as it fits in a maximum size.
+ * <p>
+ * Once the body outgrows the maximum size, the given action is run, the buffered content is written to the wrapped
+ * response and any further content is written through, so a response is never held in memory beyond the maximum size.
+ * A body that fits stays buffered until {@link #copyBodyToResponse()}.
+ */
+final class BoundedResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int maxSize;
+    private final Runnable beforeStreaming;
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    private boolean streaming;
+
+    /**
+     * Creates a wrapper of the given response.
+     *
+     * @param response        the response
+     * @param maxSize         the maximum size of the buffered body
+     * @param beforeStreaming the action run before the body is written through, while the response is not committed
+     */
+    BoundedResponseWrapper(HttpServletResponse response, long maxSize, Runnable beforeStreaming) {
+        super(response);
+        this.maxSize = (int) Math.min(maxSize, Integer.MAX_VALUE - 8);
+        this.beforeStreaming = beforeStreaming;
+    }
+
+    /**
+     * Determines if the body outgrew the maximum size and is written through to the wrapped response.
+     *
+     * @return true if the body is not buffered
+     */
+    boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Gets the buffered body.
+     *
+     * @return the body, empty once it is written through
+     */
+    byte[] getContentAsByteArray() {
+        flushWriter();
+        return streaming ? new byte[0] : buffer.toByteArray();
+    }
+
+    /**
+     * Writes the buffered body, if any, to the wrapped response.
+     *
+     * @throws IOException if the body cannot be written
+     */
+    void copyBodyToResponse() throws IOException {
+        flushWriter();
+        if (streaming) {
+            return;
+        }
+        if (buffer.size() > 0) {
+            if (!getResponse().isCommitted()) {
+                getResponse().setContentLength(buffer.size());
+            }
+            buffer.writeTo(getResponse().getOutputStream());
+            buffer.reset();
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new BoundedOutputStream(getResponse().getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        if (streaming) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        buffer.reset();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        buffer.reset();
+    }
+
+    private void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    private void write(ServletOutputStream target, byte[] bytes, int offset, int length) throws IOException {
+        if (!streaming && buffer.size() + length > maxSize) {
+            beforeStreaming.run();
+            streaming = true;
+            buffer.writeTo(target);
+            buffer = new ByteArrayOutputStream(0);
+        }
+        if (streaming) {
+            target.write(bytes, offset, length);
+        } else {
+            buffer.write(bytes, offset, length);
+        }
+    }
+
+    private final class BoundedOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream target;
+
+        private BoundedOutputStream(ServletOutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            BoundedResponseWrapper.this.write(target, bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (streaming) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+    }
+}
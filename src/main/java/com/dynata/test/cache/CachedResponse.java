@@ -0,0 +1,11 @@
+package com.dynata.test.cache;
+
+/**
+ * A serialized response body held by the {@link ResponseCache}.
+ *
+ * @param contentType the content type of the body
+ * @param body        the body
+ * @param gzipBody    the gzip-compressed body, or null if the body is not kept compressed
+ */
+public record CachedResponse(String contentType, byte[] body, byte[] gzipBody) {
+}
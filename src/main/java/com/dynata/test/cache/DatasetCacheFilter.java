@@ -0,0 +1,187 @@
+package com.dynata.test.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import com.dynata.test.config.HttpCacheProperties;
+import com.dynata.test.service.DataService;
+import com.dynata.test.store.Dataset;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Serves GET requests of the configured endpoints with strong ETags derived from the dataset version and revision.
+ * <p>
+ * Since the responses only change when the data changes, a request whose {@code If-None-Match} matches the
+ * current ETag is answered with 304 Not Modified without invoking the controller. The {@code *} wildcard is not
+ * matched, since whether the resource exists is only known once the controller ran. Successful JSON responses are
+ * cached serialized, optionally with a gzip-compressed copy, and served from the cache until the data changes.
+ * A response body is buffered only up to the maximum entry size, larger responses are tagged and streamed to the
+ * client instead of being cached. Newline-delimited JSON streams are neither tagged nor cached.
+ */
+@Component
+public class DatasetCacheFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+    private static final String GZIP_SUFFIX = "-" + GZIP;
+
+    private final DataService dataService;
+    private final HttpCacheProperties httpCacheProperties;
+    private final ResponseCache responseCache;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public DatasetCacheFilter(DataService dataService, HttpCacheProperties httpCacheProperties) {
+        this.dataService = dataService;
+        this.httpCacheProperties = httpCacheProperties;
+        this.responseCache = new ResponseCache(httpCacheProperties.getMaxEntries());
+    }
+
+    /**
+     * Gets the cache of the serialized responses.
+     *
+     * @return the response cache
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!httpCacheProperties.isEnabled() || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE)) {
+            return true;
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        return httpCacheProperties.getPaths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String tag = tagOf(dataService.getDataset());
+        if (isNotModified(request, tag)) {
+            setCacheHeaders(response, tag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        String key = keyOf(request);
+        boolean acceptsGzip = acceptsGzip(request);
+        CachedResponse cached = responseCache.get(tag, key);
+        if (cached != null) {
+            write(response, tag, cached, acceptsGzip);
+            return;
+        }
+
+        BoundedResponseWrapper wrapper = new BoundedResponseWrapper(response, httpCacheProperties.getMaxEntrySize().toBytes(), () -> {
+            if (response.getStatus() == HttpServletResponse.SC_OK) {
+                setCacheHeaders(response, tag);
+            }
+        });
+        filterChain.doFilter(request, wrapper);
+        if (wrapper.isStreaming() || wrapper.getStatus() != HttpServletResponse.SC_OK) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        if (isCacheable(wrapper) && tag.equals(tagOf(dataService.getDataset()))) {
+            cached = toCachedResponse(wrapper);
+            responseCache.put(tag, key, cached);
+            write(response, tag, cached, acceptsGzip);
+            return;
+        }
+        setCacheHeaders(response, tag);
+        wrapper.copyBodyToResponse();
+    }
+
+    private static String tagOf(Dataset dataset) {
+        return dataset.getVersion() + "." + dataset.getRevision();
+    }
+
+    private static String keyOf(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String tag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String etag : ifNoneMatch.split(",")) {
+            String value = etag.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(quote(tag)) || value.equals(quote(tag + GZIP_SUFFIX))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return httpCacheProperties.isGzip() && acceptEncoding != null && acceptEncoding.contains(GZIP);
+    }
+
+    private static boolean isCacheable(BoundedResponseWrapper wrapper) {
+        String contentType = wrapper.getContentType();
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private CachedResponse toCachedResponse(BoundedResponseWrapper wrapper) {
+        byte[] body = wrapper.getContentAsByteArray();
+        boolean gzip = httpCacheProperties.isGzip() && body.length >= httpCacheProperties.getGzipMinSize().toBytes();
+        return new CachedResponse(wrapper.getContentType(), body, gzip ? gzip(body) : null);
+    }
+
+    private void write(HttpServletResponse response, String tag, CachedResponse cached, boolean acceptsGzip) throws IOException {
+        boolean gzip = acceptsGzip && cached.gzipBody() != null;
+        byte[] body = gzip ? cached.gzipBody() : cached.body();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        setCacheHeaders(response, gzip ? tag + GZIP_SUFFIX : tag);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void setCacheHeaders(HttpServletResponse response, String tag) {
+        response.setHeader(HttpHeaders.ETAG, quote(tag));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (httpCacheProperties.isGzip()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
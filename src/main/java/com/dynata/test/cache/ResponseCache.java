@@ -0,0 +1,92 @@
+package com.dynata.test.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of serialized response bodies of one dataset state at a time.
+ * <p>
+ * Entries are stored under the ETag of the dataset state they were computed from. Storing an entry of another
+ * ETag drops all entries at once, so that a new dataset version or an append invalidates the whole cache.
+ * Within one ETag the least recently used entry is evicted once the cache holds the maximum number of entries.
+ */
+public class ResponseCache {
+
+    private final int maxEntries;
+    private volatile Generation generation;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxEntries the maximum number of entries
+     */
+    public ResponseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.generation = new Generation("", maxEntries);
+    }
+
+    /**
+     * Gets the response cached under the given ETag and key.
+     *
+     * @param etag the ETag of the current dataset state
+     * @param key  the key of the response
+     * @return the cached response, or null if there is none for the ETag and key
+     */
+    public CachedResponse get(String etag, String key) {
+        Generation current = generation;
+        return current.etag.equals(etag) ? current.get(key) : null;
+    }
+
+    /**
+     * Caches a response under the given ETag and key, dropping all entries of other ETags.
+     *
+     * @param etag     the ETag of the dataset state the response was computed from
+     * @param key      the key of the response
+     * @param response the response
+     */
+    public void put(String etag, String key, CachedResponse response) {
+        Generation current = generation;
+        if (!current.etag.equals(etag)) {
+            current = new Generation(etag, maxEntries);
+            generation = current;
+        }
+        current.put(key, response);
+    }
+
+    /**
+     * Gets the number of cached responses.
+     *
+     * @return the number of entries of the current ETag
+     */
+    public int size() {
+        return generation.size();
+    }
+
+    private static final class Generation {
+
+        private final String etag;
+        private final Map<String, CachedResponse> entries;
+
+        private Generation(String etag, int maxEntries) {
+            this.etag = etag;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        private synchronized CachedResponse get(String key) {
+            return entries.get(key);
+        }
+
+        private synchronized void put(String key, CachedResponse response) {
+            entries.put(key, response);
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+}
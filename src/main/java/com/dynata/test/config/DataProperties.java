@@ -0,0 +1,77 @@
+package com.dynata.test.config;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties of the data loaded by the application, bound from {@code dynata.data.*}.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "dynata.data")
+public class DataProperties {
+
+    public static final String MEMBERS_CSV = "members.csv";
+    public static final String SURVEYS_CSV = "surveys.csv";
+    public static final String STATUSES_CSV = "statuses.csv";
+    public static final String PARTICIPATION_CSV = "participation.csv";
+
+    /**
+     * Resource location of the directory holding the CSV files, e.g. {@code classpath:} or {@code file:/data/}.
+     */
+    private String location = "classpath:";
+
+    /**
+     * Whether the participation file is parsed in parallel chunks. Only applies when the location is a file
+     * on the file system, other resources are always read sequentially.
+     */
+    private boolean parallelLoad = false;
+
+    /**
+     * Number of worker threads used by the parallel load.
+     */
+    private int loadThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of partitions of the participations whose survey statistics are aggregated in parallel on a
+     * fork/join pool when a dataset is built, 1 aggregates them sequentially.
+     */
+    private int statisticsParallelism = 1;
+
+    /**
+     * Path of the binary snapshot of the loaded data, no snapshot is used when not set. The snapshot is loaded
+     * instead of the CSV files when it was written from CSV files of the same location, length and modification
+     * time, otherwise the CSV files are loaded and the snapshot is rewritten.
+     */
+    private String snapshotFile;
+
+    /**
+     * Whether the data directory is watched and the data reloaded when one of the CSV files changes.
+     * Only applies when the location is a directory on the file system.
+     */
+    private boolean watch = false;
+
+    /**
+     * Time without further changes to the CSV files after which a watched change is reloaded,
+     * so that files that are still being written are not loaded.
+     */
+    private Duration watchDelay = Duration.ofSeconds(2);
+
+    /**
+     * Resolves the resource location of a data file.
+     *
+     * @param fileName the name of the file
+     * @return the resource location of the file
+     */
+    public String resolve(String fileName) {
+        if (location.endsWith(":") || location.endsWith("/")) {
+            return location + fileName;
+        }
+        return location + "/" + fileName;
+    }
+}
@@ -0,0 +1,32 @@
+package com.dynata.test.config;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration of the threads running the application's own work, i.e. parallel data loading and the data directory watcher.
+ * <p>
+ * The execution mode is switched with {@code spring.threads.virtual.enabled}: when set, Tomcat serves requests,
+ * streamed responses are written and the application's own work runs on virtual threads, otherwise on platform threads.
+ */
+@Configuration
+public class ExecutionConfig {
+
+    /**
+     * Creates the factory of the threads running the application's own work.
+     *
+     * @param environment the environment
+     * @return a factory of virtual threads if virtual threads are enabled, of daemon platform threads otherwise
+     */
+    @Bean
+    public ThreadFactory dataThreadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name("data-", 0).factory();
+        }
+        return Thread.ofPlatform().name("data-", 0).daemon().factory();
+    }
+}
@@ -0,0 +1,49 @@
+package com.dynata.test.config;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties of the dataset-versioned HTTP caching of GET responses, bound from {@code dynata.http-cache.*}.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "dynata.http-cache")
+public class HttpCacheProperties {
+
+    /**
+     * Whether GET responses carry an ETag of the dataset version and are served from the response cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Path patterns of the cached endpoints.
+     */
+    private List<String> paths = List.of("/api/surveys/**", "/api/members/**");
+
+    /**
+     * Maximum number of cached response bodies, the least recently used body is evicted first.
+     */
+    private int maxEntries = 1024;
+
+    /**
+     * Maximum size of a cached response body, larger responses are still tagged but streamed without being buffered.
+     */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+
+    /**
+     * Whether a gzip-compressed copy of every cached body is kept for clients accepting gzip.
+     */
+    private boolean gzip = true;
+
+    /**
+     * Minimum size of a cached body to keep a gzip-compressed copy of.
+     */
+    private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+}
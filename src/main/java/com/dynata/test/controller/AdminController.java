@@ -0,0 +1,42 @@
+package com.dynata.test.controller;
+
+import com.dynata.test.service.DataService;
+import com.dynata.test.service.DataService.DatasetInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for administrative endpoints.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final DataService dataService;
+
+    /**
+     * Reloads all data and publishes the new dataset once it is complete.
+     * Requests served during the reload read the previous dataset.
+     *
+     * @return the version, load duration and size of the new dataset
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<DatasetInfo> reload() {
+        return ResponseEntity.ok(dataService.reload());
+    }
+
+    /**
+     * Gets information about the current dataset.
+     *
+     * @return the version, load time, load duration and size of the current dataset
+     */
+    @GetMapping("/dataset")
+    public ResponseEntity<DatasetInfo> getDatasetInfo() {
+        return ResponseEntity.ok(dataService.getDatasetInfo());
+    }
+}
@@ -5,16 +5,28 @@ import java.util.Map;
 
 import com.dynata.test.model.Member;
 import com.dynata.test.model.Survey;
+import com.dynata.test.service.MemberPage;
 import com.dynata.test.service.MemberService;
+import com.dynata.test.service.MemberService.LeaderboardEntry;
+import com.dynata.test.service.MemberService.MemberFilter;
+import com.dynata.test.service.MemberService.MemberQueryResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controller for member-related endpoints.
+ * Member lists can also be fetched in pages with {@code limit} and {@code cursor} parameters,
+ * or streamed as newline-delimited JSON when {@code application/x-ndjson} is accepted.
  */
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +34,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class MemberController {
 
     private final MemberService memberService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Gets all members.
@@ -33,6 +46,94 @@ public class MemberController {
         return ResponseEntity.ok(memberService.getAllMembers());
     }
 
+    /**
+     * Gets a page of all members, ordered by member id.
+     *
+     * @param limit  the maximum number of members of the page
+     * @param cursor the cursor returned with the previous page, omitted for the first page
+     * @return the page of members and the cursor of the next page
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<MemberPage> getMembers(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(memberService.getMembers(cursor, limit));
+    }
+
+    /**
+     * Streams all members as newline-delimited JSON, ordered by member id.
+     *
+     * @return the streamed members
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMembers() {
+        return NdjsonResponses.stream(objectMapper, memberService::forEachMember);
+    }
+
+    /**
+     * Searches members by the start of their email or of the words of their full name, ignoring case.
+     *
+     * @param q     the start of the email, or of one or more words of the full name
+     * @param limit the maximum number of members
+     * @return the matching members, those matching by email first
+     */
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<List<Member>> searchMembers(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(memberService.searchMembers(q, limit));
+    }
+
+    /**
+     * Gets the members with the given email, ignoring case.
+     *
+     * @param email the email
+     * @return the members with the email
+     */
+    @GetMapping(value = "/search", params = "email")
+    public ResponseEntity<List<Member>> getMembersByEmail(@RequestParam String email) {
+        return ResponseEntity.ok(memberService.getMembersByEmail(email));
+    }
+
+    /**
+     * Gets the members with the most points collected, highest first.
+     *
+     * @param limit the maximum number of members
+     * @return the rank, points and member of every leaderboard entry
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntry>> getLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(memberService.getLeaderboard(limit));
+    }
+
+    /**
+     * Queries the members matching a filter of {@code and}, {@code or}, {@code not}, {@code active} and
+     * {@code participated} clauses.
+     *
+     * @param filter the filter
+     * @param select {@code count} for the number of matching members only, {@code ids} or {@code members}
+     *               for the first matching member ids or members in member id order as well
+     * @param limit  the maximum number of member ids or members returned
+     * @return the number of matching members and the selected member ids or members
+     */
+    @PostMapping("/query")
+    public ResponseEntity<MemberQueryResult> queryMembers(@RequestBody MemberFilter filter,
+                                                          @RequestParam(defaultValue = "count") String select,
+                                                          @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(memberService.queryMembers(filter, select, limit));
+    }
+
+    /**
+     * Gets the leaderboard rank and total points of the given member id.
+     *
+     * @param memberId the member ID
+     * @return the rank, points and member, or 404 if the member is not found
+     */
+    @GetMapping("/{memberId}/rank")
+    public ResponseEntity<LeaderboardEntry> getLeaderboardEntry(@PathVariable int memberId) {
+        LeaderboardEntry entry = memberService.getLeaderboardEntry(memberId);
+        if (entry == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(entry);
+    }
+
     /**
      * Gets a member by ID.
      *
@@ -58,6 +159,28 @@ public class MemberController {
         return ResponseEntity.ok(memberService.getActiveMembers());
     }
 
+    /**
+     * Gets a page of the active members, ordered by member id.
+     *
+     * @param limit  the maximum number of members of the page
+     * @param cursor the cursor returned with the previous page, omitted for the first page
+     * @return the page of members and the cursor of the next page
+     */
+    @GetMapping(value = "/active", params = "limit")
+    public ResponseEntity<MemberPage> getActiveMembers(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(memberService.getActiveMembers(cursor, limit));
+    }
+
+    /**
+     * Streams the active members as newline-delimited JSON, ordered by member id.
+     *
+     * @return the streamed members
+     */
+    @GetMapping(value = "/active", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamActiveMembers() {
+        return NdjsonResponses.stream(objectMapper, memberService::forEachActiveMember);
+    }
+
     /**
      * Gets all surveys completed by the given member id.
      *
@@ -79,4 +202,26 @@ public class MemberController {
     public ResponseEntity<Map<Integer, Integer>> getPointsCollectedByMember(@PathVariable int memberId) {
         return ResponseEntity.ok(memberService.getPointsCollectedByMember(memberId));
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the surveys completed by each of the given member ids.
+     *
+     * @param memberIds the member IDs
+     * @return the surveys completed by each member, by member ID
+     */
+    @PostMapping("/completed-surveys/batch")
+    public ResponseEntity<Map<Integer, List<Survey>>> getSurveysCompletedByMembers(@RequestBody List<Integer> memberIds) {
+        return ResponseEntity.ok(memberService.getSurveysCompletedByMembers(memberIds));
+    }
+
+    /**
+     * Gets the points collected by each of the given member ids.
+     *
+     * @param memberIds the member IDs
+     * @return the map of survey IDs to points collected of each member, by member ID
+     */
+    @PostMapping("/points/batch")
+    public ResponseEntity<Map<Integer, Map<Integer, Integer>>> getPointsCollectedByMembers(@RequestBody List<Integer> memberIds) {
+        return ResponseEntity.ok(memberService.getPointsCollectedByMembers(memberIds));
+    }
+}
@@ -0,0 +1,46 @@
+package com.dynata.test.controller;
+
+import java.util.List;
+
+import com.dynata.test.service.IngestService;
+import com.dynata.test.service.IngestService.IngestResult;
+import com.dynata.test.service.IngestService.ParticipationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for ingesting participation outcomes.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/participations")
+public class ParticipationController {
+
+    private final IngestService ingestService;
+
+    /**
+     * Ingests a single participation outcome. It is visible to all queries once the response is sent.
+     *
+     * @param event the participation event
+     * @return the number of accepted events and the size of the dataset they were appended to
+     */
+    @PostMapping
+    public ResponseEntity<IngestResult> ingest(@RequestBody ParticipationEvent event) {
+        return ResponseEntity.ok(ingestService.ingest(event));
+    }
+
+    /**
+     * Ingests a batch of up to 10 000 participation outcomes. The batch is rejected as a whole if any event is invalid.
+     *
+     * @param events the participation events
+     * @return the number of accepted events and the size of the dataset they were appended to
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<IngestResult> ingestAll(@RequestBody List<ParticipationEvent> events) {
+        return ResponseEntity.ok(ingestService.ingestAll(events));
+    }
+}
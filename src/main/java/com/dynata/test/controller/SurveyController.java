@@ -5,13 +5,22 @@ import java.util.Map;
 
 import com.dynata.test.model.Member;
 import com.dynata.test.model.Survey;
+import com.dynata.test.service.MemberPage;
 import com.dynata.test.service.SurveyService;
+import com.dynata.test.service.SurveyService.InvitationPlan;
+import com.dynata.test.service.SurveyService.SurveyFulfilment;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controller for survey-related endpoints.
@@ -22,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class SurveyController {
 
     private final SurveyService surveyService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Gets all respondents who completed the questionnaire for the given survey id.
@@ -34,6 +44,17 @@ public class SurveyController {
         return ResponseEntity.ok(surveyService.getRespondentsWhoCompletedSurvey(surveyId));
     }
 
+    /**
+     * Gets the respondents who completed the questionnaire for each of the given survey ids.
+     *
+     * @param surveyIds the survey IDs
+     * @return the members who completed each survey, by survey ID
+     */
+    @PostMapping("/respondents/batch")
+    public ResponseEntity<Map<Integer, List<Member>>> getRespondentsWhoCompletedSurveys(@RequestBody List<Integer> surveyIds) {
+        return ResponseEntity.ok(surveyService.getRespondentsWhoCompletedSurveys(surveyIds));
+    }
+
     /**
      * Gets all members who can be invited for the given survey.
      *
@@ -45,6 +66,84 @@ public class SurveyController {
         return ResponseEntity.ok(surveyService.getMembersWhoCanBeInvitedForSurvey(surveyId));
     }
 
+    /**
+     * Gets a page of the members who can be invited for the given survey, ordered by member id.
+     *
+     * @param surveyId the survey ID
+     * @param limit    the maximum number of members of the page
+     * @param cursor   the cursor returned with the previous page, omitted for the first page
+     * @return the page of members and the cursor of the next page
+     */
+    @GetMapping(value = "/{surveyId}/invitable-members", params = "limit")
+    public ResponseEntity<MemberPage> getMembersWhoCanBeInvitedForSurvey(@PathVariable int surveyId,
+                                                                         @RequestParam int limit,
+                                                                         @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(surveyService.getMembersWhoCanBeInvitedForSurvey(surveyId, cursor, limit));
+    }
+
+    /**
+     * Streams the members who can be invited for the given survey as newline-delimited JSON, ordered by member id.
+     *
+     * @param surveyId the survey ID
+     * @return the streamed members
+     */
+    @GetMapping(value = "/{surveyId}/invitable-members", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMembersWhoCanBeInvitedForSurvey(@PathVariable int surveyId) {
+        return NdjsonResponses.<Member>stream(objectMapper, action -> surveyService.forEachMemberWhoCanBeInvitedForSurvey(surveyId, action));
+    }
+
+    /**
+     * Gets the ids of all members who can be invited for the given survey.
+     *
+     * @param surveyId the survey ID
+     * @return the ids of the members who can be invited, in ascending order
+     */
+    @GetMapping("/{surveyId}/invitable-members/ids")
+    public ResponseEntity<int[]> getIdsOfMembersWhoCanBeInvitedForSurvey(@PathVariable int surveyId) {
+        return ResponseEntity.ok(surveyService.getIdsOfMembersWhoCanBeInvitedForSurvey(surveyId));
+    }
+
+    /**
+     * Gets the number of members who can be invited for the given survey.
+     *
+     * @param surveyId the survey ID
+     * @return the number of members who can be invited
+     */
+    @GetMapping("/{surveyId}/invitable-members/count")
+    public ResponseEntity<Integer> countMembersWhoCanBeInvitedForSurvey(@PathVariable int surveyId) {
+        return ResponseEntity.ok(surveyService.countMembersWhoCanBeInvitedForSurvey(surveyId));
+    }
+
+    /**
+     * Gets the fulfilment of every survey, its completes against its expected completes.
+     *
+     * @param underFulfilledOnly whether only surveys with remaining completes are returned, false by default
+     * @param sort               the order of the surveys: {@code id} (default), {@code remaining} or {@code fulfilled}
+     * @return the fulfilment of the surveys
+     */
+    @GetMapping("/fulfilment")
+    public ResponseEntity<List<SurveyFulfilment>> getSurveyFulfilment(@RequestParam(defaultValue = "false") boolean underFulfilledOnly,
+                                                                      @RequestParam(defaultValue = "id") String sort) {
+        return ResponseEntity.ok(surveyService.getSurveyFulfilment(underFulfilledOnly, sort));
+    }
+
+    /**
+     * Plans the invitations needed to reach the expected completes of the given survey.
+     *
+     * @param surveyId the survey ID
+     * @param limit    the maximum number of planned invites, 100 by default
+     * @return the invitation plan, or 404 if the survey does not exist
+     */
+    @GetMapping("/{surveyId}/invitation-plan")
+    public ResponseEntity<InvitationPlan> planInvitations(@PathVariable int surveyId,
+                                                          @RequestParam(defaultValue = "100") int limit) {
+        InvitationPlan plan = surveyService.planInvitations(surveyId, limit);
+        if (plan == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(plan);
+    }
+
     /**
      * Gets all surveys with statistics.
      *
@@ -0,0 +1,183 @@
+package com.dynata.test.generator;
+
+import static com.dynata.test.config.DataProperties.MEMBERS_CSV;
+import static com.dynata.test.config.DataProperties.PARTICIPATION_CSV;
+import static com.dynata.test.config.DataProperties.STATUSES_CSV;
+import static com.dynata.test.config.DataProperties.SURVEYS_CSV;
+import static com.dynata.test.mapper.CsvColumnConstants.ACTIVE_VALUE;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_COMPLETION_POINTS;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_EMAIL_ADDRESS;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_EXPECTED_COMPLETES;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_FILTERED_POINTS;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_FULL_NAME;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_IS_ACTIVE;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_LENGTH;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_MEMBER_ID;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_NAME;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_STATUS;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_STATUS_ID;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_SURVEY_ID;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.dynata.test.model.Status;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Generates synthetic members, surveys, statuses and participation CSV files in the format
+ * expected by {@link com.dynata.test.service.impl.DataServiceImpl}.
+ * <p>
+ * Participations are first distributed over the surveys according to the survey skew, then every
+ * survey draws distinct members according to the member skew, so a member participates in a survey
+ * at most once. The output only depends on the {@link DatasetSpec}, so the same spec always
+ * produces the same files.
+ */
+@RequiredArgsConstructor
+public class DatasetGenerator {
+
+    private static final List<Status> STATUSES = List.of(Status.NOT_ASKED, Status.REJECTED, Status.FILTERED, Status.COMPLETED);
+    private static final String[] FIRST_NAMES = {"Malissa", "Teri", "Yesenia", "Meghann", "Lee", "Salvatore", "Zoe", "Viola", "Kyla", "Robert",
+            "Anna", "Peter", "Maria", "John", "Eva", "David", "Laura", "Tom", "Nina", "Oscar"};
+    private static final String[] LAST_NAMES = {"Arn", "Villalobos", "Conte", "Followell", "Harlow", "Monico", "Solar", "Blackstock", "Kays", "Smith",
+            "Johnson", "Brown", "Nagy", "Kovacs", "Miller", "Davis", "Garcia", "Wilson", "Moore", "Taylor"};
+    private static final int MAX_DRAW_ATTEMPTS_PER_MEMBER = 8;
+
+    private final DatasetSpec spec;
+
+    /**
+     * Writes the four CSV files into the given directory, creating it if needed.
+     *
+     * @param directory the target directory
+     * @throws IOException              if a file cannot be written
+     * @throws IllegalArgumentException if the spec is invalid
+     */
+    public void writeTo(Path directory) throws IOException {
+        spec.validate();
+        Files.createDirectories(directory);
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        writeStatuses(directory.resolve(STATUSES_CSV));
+        writeMembers(directory.resolve(MEMBERS_CSV), random.split());
+        writeSurveys(directory.resolve(SURVEYS_CSV), random.split());
+        writeParticipation(directory.resolve(PARTICIPATION_CSV), random.split());
+    }
+
+    private void writeStatuses(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeLine(writer, HEADER_STATUS_ID, HEADER_NAME);
+            for (Status status : STATUSES) {
+                writeLine(writer, String.valueOf(status.getId()), status.getName());
+            }
+        }
+    }
+
+    private void writeMembers(Path file, SplittableRandom random) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeLine(writer, HEADER_MEMBER_ID, HEADER_FULL_NAME, HEADER_EMAIL_ADDRESS, HEADER_IS_ACTIVE);
+            for (int id = 1; id <= spec.getMembers(); id++) {
+                String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                String active = random.nextDouble() < spec.getActiveRatio() ? ACTIVE_VALUE : "0";
+                writeLine(writer, String.valueOf(id), firstName + " " + lastName, firstName + lastName + id + "@example.com", active);
+            }
+        }
+    }
+
+    private void writeSurveys(Path file, SplittableRandom random) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeLine(writer, HEADER_SURVEY_ID, HEADER_NAME, HEADER_EXPECTED_COMPLETES, HEADER_COMPLETION_POINTS, HEADER_FILTERED_POINTS);
+            for (int id = 1; id <= spec.getSurveys(); id++) {
+                writeLine(writer,
+                          String.valueOf(id),
+                          "Survey %02d".formatted(id),
+                          String.valueOf(10 * (1 + random.nextInt(10))),
+                          String.valueOf(5 * (1 + random.nextInt(10))),
+                          String.valueOf(1 + random.nextInt(5)));
+            }
+        }
+    }
+
+    private void writeParticipation(Path file, SplittableRandom random) throws IOException {
+        int[] participationsBySurvey = distributeOverSurveys(random);
+        WeightedSampler memberSampler = WeightedSampler.zipf(spec.getMembers(), spec.getMemberSkew());
+        WeightedSampler statusSampler = WeightedSampler.of(spec.getStatusWeights());
+        BitSet drawn = new BitSet(spec.getMembers());
+        int[] memberIndexes = new int[spec.getMembers()];
+
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeLine(writer, HEADER_MEMBER_ID, HEADER_SURVEY_ID, HEADER_STATUS, HEADER_LENGTH);
+            for (int surveyIndex = 0; surveyIndex < participationsBySurvey.length; surveyIndex++) {
+                int count = drawDistinctMembers(participationsBySurvey[surveyIndex], memberSampler, random, drawn, memberIndexes);
+                for (int i = 0; i < count; i++) {
+                    Status status = STATUSES.get(statusSampler.sample(random));
+                    String length = status == Status.COMPLETED ? String.valueOf(nextLength(random)) : "";
+                    writeLine(writer, String.valueOf(memberIndexes[i] + 1), String.valueOf(surveyIndex + 1), String.valueOf(status.getId()), length);
+                    drawn.clear(memberIndexes[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Distributes the participations over the surveys according to the survey skew. A survey cannot
+     * take more participations than there are members, the overflow of a full survey goes to the next one.
+     */
+    private int[] distributeOverSurveys(SplittableRandom random) {
+        WeightedSampler surveySampler = WeightedSampler.zipf(spec.getSurveys(), spec.getSurveySkew());
+        int[] participationsBySurvey = new int[spec.getSurveys()];
+        long total = Math.min(spec.getParticipations(), (long) spec.getSurveys() * spec.getMembers());
+        for (long i = 0; i < total; i++) {
+            int surveyIndex = surveySampler.sample(random);
+            while (participationsBySurvey[surveyIndex] == spec.getMembers()) {
+                surveyIndex = (surveyIndex + 1) % participationsBySurvey.length;
+            }
+            participationsBySurvey[surveyIndex]++;
+        }
+        return participationsBySurvey;
+    }
+
+    /**
+     * Draws distinct member indexes according to the member skew into {@code memberIndexes}.
+     * When the skewed draws keep hitting members that were already drawn, the remaining
+     * members are taken in order from a random offset.
+     *
+     * @return the number of members drawn
+     */
+    private int drawDistinctMembers(int target, WeightedSampler memberSampler, SplittableRandom random, BitSet drawn, int[] memberIndexes) {
+        int count = 0;
+        long attempts = (long) target * MAX_DRAW_ATTEMPTS_PER_MEMBER;
+        while (count < target && attempts-- > 0) {
+            int memberIndex = memberSampler.sample(random);
+            if (!drawn.get(memberIndex)) {
+                drawn.set(memberIndex);
+                memberIndexes[count++] = memberIndex;
+            }
+        }
+        int memberIndex = random.nextInt(spec.getMembers());
+        while (count < target) {
+            memberIndex = drawn.nextClearBit(memberIndex);
+            if (memberIndex >= spec.getMembers()) {
+                memberIndex = drawn.nextClearBit(0);
+            }
+            drawn.set(memberIndex);
+            memberIndexes[count++] = memberIndex;
+        }
+        return count;
+    }
+
+    private int nextLength(SplittableRandom random) {
+        long length = Math.round(spec.getLengthMean() + spec.getLengthStdDev() * random.nextGaussian());
+        return (int) Math.max(spec.getLengthMin(), Math.min(spec.getLengthMax(), length));
+    }
+
+    private static void writeLine(Writer writer, String... values) throws IOException {
+        writer.write(String.join(",", values));
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,56 @@
+package com.dynata.test.generator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Command line entry point of the {@link DatasetGenerator}.
+ * <p>
+ * Usage: {@code DatasetGeneratorCli [--output=DIR] [--members=N] [--surveys=N] [--participations=N]
+ * [--active-ratio=R] [--status-weights=W1,W2,W3,W4] [--length-mean=M] [--length-std-dev=S]
+ * [--length-min=N] [--length-max=N] [--survey-skew=S] [--member-skew=S] [--seed=N]}
+ * <p>
+ * The generated directory can be loaded by the application with {@code --dynata.data.location=file:DIR/}.
+ */
+public final class DatasetGeneratorCli {
+
+    private static final String DEFAULT_OUTPUT = "data";
+
+    private DatasetGeneratorCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = Path.of(DEFAULT_OUTPUT);
+        DatasetSpec.DatasetSpecBuilder builder = DatasetSpec.builder();
+
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2 || !option[0].startsWith("--")) {
+                throw new IllegalArgumentException("Invalid argument: " + arg);
+            }
+            String value = option[1];
+            switch (option[0]) {
+                case "--output" -> output = Path.of(value);
+                case "--members" -> builder.members(Integer.parseInt(value));
+                case "--surveys" -> builder.surveys(Integer.parseInt(value));
+                case "--participations" -> builder.participations(Long.parseLong(value));
+                case "--active-ratio" -> builder.activeRatio(Double.parseDouble(value));
+                case "--status-weights" -> builder.statusWeights(Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray());
+                case "--length-mean" -> builder.lengthMean(Double.parseDouble(value));
+                case "--length-std-dev" -> builder.lengthStdDev(Double.parseDouble(value));
+                case "--length-min" -> builder.lengthMin(Integer.parseInt(value));
+                case "--length-max" -> builder.lengthMax(Integer.parseInt(value));
+                case "--survey-skew" -> builder.surveySkew(Double.parseDouble(value));
+                case "--member-skew" -> builder.memberSkew(Double.parseDouble(value));
+                case "--seed" -> builder.seed(Long.parseLong(value));
+                default -> throw new IllegalArgumentException("Unknown option: " + option[0]);
+            }
+        }
+
+        DatasetSpec spec = builder.build();
+        long start = System.nanoTime();
+        new DatasetGenerator(spec).writeTo(output);
+        System.out.printf("Generated %s into %s in %d ms%n", spec, output.toAbsolutePath(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
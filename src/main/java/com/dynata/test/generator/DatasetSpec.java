@@ -0,0 +1,120 @@
+package com.dynata.test.generator;
+
+import java.util.Arrays;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Describes the shape of a synthetic dataset produced by {@link DatasetGenerator}.
+ * <p>
+ * The defaults reproduce the proportions of the bundled sample data: about three quarters of
+ * the members are active, participations are 10% rejected, 20% filtered and 70% completed,
+ * and completes last 5 to 25 minutes.
+ */
+@Getter
+@Builder(toBuilder = true)
+@ToString
+public class DatasetSpec {
+
+    @Builder.Default
+    private int members = 300;
+
+    @Builder.Default
+    private int surveys = 100;
+
+    /**
+     * Number of participation rows to generate. Every member participates at most once
+     * in a survey, so at most {@code members * surveys} rows are generated.
+     */
+    @Builder.Default
+    private long participations = 3000;
+
+    /**
+     * Share of active members, between 0 and 1.
+     */
+    @Builder.Default
+    private double activeRatio = 0.74;
+
+    /**
+     * Relative weights of the statuses, indexed by status id - 1
+     * (not asked, rejected, filtered, completed).
+     */
+    @Builder.Default
+    private double[] statusWeights = {0, 0.1, 0.2, 0.7};
+
+    /**
+     * Mean of the normally distributed length of completes.
+     */
+    @Builder.Default
+    private double lengthMean = 15;
+
+    /**
+     * Standard deviation of the normally distributed length of completes.
+     */
+    @Builder.Default
+    private double lengthStdDev = 5;
+
+    @Builder.Default
+    private int lengthMin = 5;
+
+    @Builder.Default
+    private int lengthMax = 25;
+
+    /**
+     * Zipf exponent of the survey popularity, 0 spreads participations evenly over the surveys,
+     * higher values concentrate them on a few hot surveys with the lowest ids.
+     */
+    @Builder.Default
+    private double surveySkew = 0;
+
+    /**
+     * Zipf exponent of the member activity, 0 spreads participations evenly over the members,
+     * higher values concentrate them on a few heavy members with the lowest ids.
+     */
+    @Builder.Default
+    private double memberSkew = 0;
+
+    @Builder.Default
+    private long seed = 42;
+
+    /**
+     * Creates a spec for the given number of participations, with member and survey counts
+     * scaled in the same proportion as the bundled sample data.
+     *
+     * @param participations the number of participations
+     * @return a new spec
+     */
+    public static DatasetSpec forParticipations(long participations) {
+        return DatasetSpec.builder()
+                          .members((int) Math.max(300, participations / 10))
+                          .surveys((int) Math.max(100, participations / 1000))
+                          .participations(participations)
+                          .build();
+    }
+
+    /**
+     * Checks that the spec describes a dataset that can be generated.
+     *
+     * @throws IllegalArgumentException if any of the values is out of range
+     */
+    public void validate() {
+        require(members > 0, "Number of members must be positive");
+        require(surveys > 0, "Number of surveys must be positive");
+        require(participations >= 0, "Number of participations cannot be negative");
+        require(activeRatio >= 0 && activeRatio <= 1, "Active ratio must be between 0 and 1");
+        require(statusWeights.length == 4, "Exactly 4 status weights are expected");
+        require(Arrays.stream(statusWeights).allMatch(weight -> weight >= 0), "Status weights cannot be negative");
+        require(Arrays.stream(statusWeights).sum() > 0, "At least one status weight must be positive");
+        require(lengthMin >= 0 && lengthMin <= lengthMax, "Length range is invalid");
+        require(lengthStdDev >= 0, "Length standard deviation cannot be negative");
+        require(surveySkew >= 0 && memberSkew >= 0, "Skew cannot be negative");
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.dynata.test.generator;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples indexes {@code 0..n-1} with fixed relative weights using a cumulative distribution
+ * and binary search.
+ */
+final class WeightedSampler {
+
+    private final double[] cumulative;
+
+    private WeightedSampler(double[] weights) {
+        cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+    }
+
+    /**
+     * Creates a sampler with the given relative weights.
+     *
+     * @param weights the weights, not all zero
+     * @return a new sampler
+     */
+    static WeightedSampler of(double[] weights) {
+        return new WeightedSampler(weights);
+    }
+
+    /**
+     * Creates a sampler following Zipf's law: index {@code i} has weight {@code 1 / (i + 1)^exponent},
+     * so an exponent of 0 gives a uniform distribution.
+     *
+     * @param size     the number of indexes
+     * @param exponent the Zipf exponent
+     * @return a new sampler
+     */
+    static WeightedSampler zipf(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = exponent == 0 ? 1 : 1 / Math.pow(i + 1, exponent);
+        }
+        return new WeightedSampler(weights);
+    }
+
+    int sample(RandomGenerator random) {
+        double value = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, value);
+        // an exact hit belongs to the next index, a miss returns -(insertion point) - 1
+        index = index >= 0 ? index + 1 : -index - 1;
+        // skip zero-weight indexes sharing the same cumulative value
+        while (index < cumulative.length - 1 && cumulative[index] == (index == 0 ? 0 : cumulative[index - 1])) {
+            index++;
+        }
+        return Math.min(index, cumulative.length - 1);
+    }
+}
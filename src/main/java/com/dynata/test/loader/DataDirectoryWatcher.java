@@ -0,0 +1,133 @@
+package com.dynata.test.loader;
+
+import static com.dynata.test.config.DataProperties.MEMBERS_CSV;
+import static com.dynata.test.config.DataProperties.PARTICIPATION_CSV;
+import static com.dynata.test.config.DataProperties.STATUSES_CSV;
+import static com.dynata.test.config.DataProperties.SURVEYS_CSV;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.dynata.test.config.DataProperties;
+import com.dynata.test.service.DataService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Watches the data directory and reloads the data when one of the CSV files is created, modified or replaced.
+ * <p>
+ * Changes are debounced: the data is reloaded once no CSV file changed for the configured delay, so that
+ * replacing several files results in a single reload of the complete set. A failed reload is logged and
+ * the previous dataset stays published. Enabled by {@code dynata.data.watch}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataDirectoryWatcher {
+
+    private static final Set<String> DATA_FILES = Set.of(MEMBERS_CSV, SURVEYS_CSV, STATUSES_CSV, PARTICIPATION_CSV);
+
+    private final DataService dataService;
+    private final DataProperties dataProperties;
+    private final ThreadFactory dataThreadFactory;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * Starts watching the data directory if watching is enabled and the location is a directory on the file system.
+     *
+     * @throws IOException if the directory cannot be watched
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (!dataProperties.isWatch()) {
+            return;
+        }
+        Resource location = new DefaultResourceLoader().getResource(dataProperties.getLocation());
+        if (!location.isFile()) {
+            log.warn("Data location {} is not a directory on the file system, changes are not watched", dataProperties.getLocation());
+            return;
+        }
+        Path directory = location.getFile().toPath();
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        thread = dataThreadFactory.newThread(this::watch);
+        thread.setName("data-directory-watcher");
+        thread.start();
+        log.info("Watching data directory {} for changes", directory);
+    }
+
+    /**
+     * Stops watching the data directory.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Returns whether the data directory is being watched.
+     *
+     * @return true if the watcher thread is running
+     */
+    public boolean isWatching() {
+        return thread != null && thread.isAlive();
+    }
+
+    private void watch() {
+        long delayMillis = dataProperties.getWatchDelay().toMillis();
+        boolean changed = false;
+        try {
+            while (true) {
+                WatchKey key = changed ? watchService.poll(delayMillis, TimeUnit.MILLISECONDS) : watchService.take();
+                if (key == null) {
+                    reload();
+                    changed = false;
+                } else {
+                    changed |= isDataFileChanged(key);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Stopped watching the data directory");
+        }
+    }
+
+    private static boolean isDataFileChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            changed |= event.kind() == OVERFLOW || event.context() instanceof Path file && DATA_FILES.contains(file.toString());
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reload() {
+        try {
+            dataService.reload();
+        } catch (RuntimeException e) {
+            log.error("Could not reload the changed data files, keeping dataset version {}", dataService.getDatasetInfo().getVersion(), e);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.dynata.test.loader;
+
+import static com.dynata.test.mapper.CsvColumnConstants.COLUMN_NOT_FOUND;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_LENGTH;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_MEMBER_ID;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_STATUS;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_SURVEY_ID;
+import static com.dynata.test.mapper.CsvColumnConstants.MEMBER_ID_EMPTY;
+import static com.dynata.test.mapper.CsvColumnConstants.STATUS_EMPTY;
+import static com.dynata.test.mapper.CsvColumnConstants.STATUS_NOT_FOUND;
+import static com.dynata.test.mapper.CsvColumnConstants.SURVEY_ID_EMPTY;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntPredicate;
+
+import com.dynata.test.store.ParticipationVisitor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads a participation CSV file in parallel.
+ * <p>
+ * The file is split on line boundaries into chunks, every chunk is memory-mapped and parsed on its own
+ * worker with a lightweight numeric field parser, without creating objects per row or per field. The parsed
+ * rows of a chunk grow with the rows actually found, and are handed to the sink on the calling thread and
+ * released chunk by chunk, in file order.
+ * <p>
+ * Only unquoted or simply quoted numeric values are supported in the member id, survey id, status and
+ * length columns, which is the format of the participation file. Validation errors use the same messages
+ * as the {@link com.dynata.test.mapper.ParticipationMapper}, and values that are not numbers or do not fit in
+ * an int are rejected like {@link com.dynata.test.mapper.CsvRowReader} does.
+ */
+@RequiredArgsConstructor
+public class ParallelParticipationLoader {
+
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+    private static final int SCAN_BUFFER_SIZE = 8192;
+    private static final int INITIAL_ROWS = 1 << 12;
+
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    /**
+     * Parses the given file and passes every row to the sink, in file order.
+     *
+     * @param file         the participation CSV file
+     * @param statusExists tells whether a status id is known
+     * @param sink         receives the parsed rows on the calling thread
+     * @return the number of rows loaded
+     * @throws IOException           if the file cannot be read
+     * @throws IllegalStateException if a row is invalid
+     */
+    public long load(Path file, IntPredicate statusExists, ParticipationVisitor sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long headerEnd = nextLineStart(channel, 0);
+            Columns columns = Columns.of(readHeader(channel, headerEnd));
+            long[] bounds = splitIntoChunks(channel, headerEnd);
+
+            List<Future<ParsedRows>> futures = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i < bounds.length - 1; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                futures.add(executor.submit(() -> parse(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), columns, statusExists)));
+            }
+
+            long rows = 0;
+            try {
+                for (Future<ParsedRows> future : futures) {
+                    ParsedRows parsed = await(future);
+                    rows += parsed.size;
+                    parsed.drainTo(sink);
+                }
+            } catch (IOException | RuntimeException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+            return rows;
+        }
+    }
+
+    private static ParsedRows await(Future<ParsedRows> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading participations", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private long[] splitIntoChunks(FileChannel channel, long headerEnd) throws IOException {
+        long size = channel.size();
+        long dataSize = size - headerEnd;
+        int chunks = (int) Math.max(1, Math.max(parallelism, (dataSize + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE));
+        long[] bounds = new long[chunks + 1];
+        bounds[0] = headerEnd;
+        for (int i = 1; i < chunks; i++) {
+            long nominal = headerEnd + dataSize * i / chunks;
+            bounds[i] = Math.max(bounds[i - 1], nextLineStart(channel, nominal));
+        }
+        bounds[chunks] = size;
+        return bounds;
+    }
+
+    /**
+     * Finds the start of the first line beginning at or after the given position.
+     */
+    private static long nextLineStart(FileChannel channel, long position) throws IOException {
+        if (position == 0) {
+            return findNewline(channel, 0);
+        }
+        return findNewline(channel, position - 1);
+    }
+
+    private static long findNewline(FileChannel channel, long from) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from;
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static String[] readHeader(FileChannel channel, long headerEnd) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) headerEnd);
+        channel.read(buffer, 0);
+        String header = new String(buffer.array(), StandardCharsets.UTF_8);
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        return Arrays.stream(header.strip().split(","))
+                     .map(column -> column.strip().replace("\"", ""))
+                     .toArray(String[]::new);
+    }
+
+    private static ParsedRows parse(MappedByteBuffer buffer, Columns columns, IntPredicate statusExists) {
+        ParsedRows rows = new ParsedRows(INITIAL_ROWS);
+        int[] values = new int[columns.count];
+        boolean[] present = new boolean[columns.count];
+        int column = 0;
+        int fieldStart = 0;
+        long value = 0;
+        boolean negative = false;
+        boolean signed = false;
+        boolean hasDigits = false;
+        boolean emptyLine = true;
+
+        int limit = buffer.limit();
+        for (int position = 0; position < limit; position++) {
+            byte b = buffer.get(position);
+            if (b == ',' || b == '\n') {
+                if (column < columns.count && columns.relevant[column]) {
+                    values[column] = toInt(buffer, fieldStart, value, negative, signed && !hasDigits);
+                    present[column] = hasDigits;
+                }
+                if (b == ',') {
+                    column++;
+                    emptyLine = false;
+                } else {
+                    if (!emptyLine || hasDigits) {
+                        rows.add(columns, values, present, statusExists);
+                    }
+                    column = 0;
+                    emptyLine = true;
+                }
+                fieldStart = position + 1;
+                value = 0;
+                negative = false;
+                signed = false;
+                hasDigits = false;
+            } else if (column >= columns.count || !columns.relevant[column]) {
+                emptyLine = emptyLine && (b == '\r' || b == ' ');
+            } else if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                if (value > Integer.MAX_VALUE + 1L) {
+                    throw invalidNumber(buffer, fieldStart);
+                }
+                hasDigits = true;
+                emptyLine = false;
+            } else if ((b == '-' || b == '+') && !hasDigits && !signed) {
+                negative = b == '-';
+                signed = true;
+                emptyLine = false;
+            } else if (b != ' ' && b != '"' && b != '\r' && b != '\t') {
+                throw invalidNumber(buffer, fieldStart);
+            }
+        }
+        if (!emptyLine || hasDigits) {
+            if (column < columns.count && columns.relevant[column]) {
+                values[column] = toInt(buffer, fieldStart, value, negative, signed && !hasDigits);
+                present[column] = hasDigits;
+            }
+            rows.add(columns, values, present, statusExists);
+        }
+        return rows;
+    }
+
+    /**
+     * Gets the value of a parsed field, rejecting a sign without digits and values that do not fit in an int.
+     */
+    private static int toInt(MappedByteBuffer buffer, int fieldStart, long value, boolean negative, boolean signOnly) {
+        long signedValue = negative ? -value : value;
+        if (signOnly || signedValue > Integer.MAX_VALUE) {
+            throw invalidNumber(buffer, fieldStart);
+        }
+        return (int) signedValue;
+    }
+
+    /**
+     * Creates the exception of an invalid numeric field, with the same message as the {@link com.dynata.test.mapper.CsvRowReader}.
+     */
+    private static NumberFormatException invalidNumber(MappedByteBuffer buffer, int fieldStart) {
+        int fieldEnd = fieldStart;
+        while (fieldEnd < buffer.limit() && buffer.get(fieldEnd) != ',' && buffer.get(fieldEnd) != '\n') {
+            fieldEnd++;
+        }
+        byte[] field = new byte[fieldEnd - fieldStart];
+        buffer.get(fieldStart, field);
+        String value = new String(field, StandardCharsets.UTF_8).strip().replace("\"", "");
+        return new NumberFormatException("For input string: \"%s\"".formatted(value));
+    }
+
+    /**
+     * Positions of the participation columns, resolved once from the header.
+     */
+    private record Columns(int count, int memberId, int surveyId, int status, int length, boolean[] relevant) {
+
+        private static Columns of(String[] header) {
+            List<String> names = Arrays.asList(header);
+            int memberId = indexOf(names, HEADER_MEMBER_ID);
+            int surveyId = indexOf(names, HEADER_SURVEY_ID);
+            int status = indexOf(names, HEADER_STATUS);
+            int length = indexOf(names, HEADER_LENGTH);
+            boolean[] relevant = new boolean[header.length];
+            relevant[memberId] = true;
+            relevant[surveyId] = true;
+            relevant[status] = true;
+            relevant[length] = true;
+            return new Columns(header.length, memberId, surveyId, status, length, relevant);
+        }
+
+        private static int indexOf(List<String> names, String name) {
+            int index = names.indexOf(name);
+            if (index < 0) {
+                throw new IllegalStateException(COLUMN_NOT_FOUND.formatted(name));
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Columnar rows parsed from one chunk.
+     */
+    private static final class ParsedRows {
+        private int[] memberIds;
+        private int[] surveyIds;
+        private int[] statusIds;
+        private int[] lengths;
+        private int size;
+
+        private ParsedRows(int capacity) {
+            memberIds = new int[capacity];
+            surveyIds = new int[capacity];
+            statusIds = new int[capacity];
+            lengths = new int[capacity];
+        }
+
+        private void add(Columns columns, int[] values, boolean[] present, IntPredicate statusExists) {
+            if (!present[columns.memberId()]) {
+                throw new IllegalStateException(MEMBER_ID_EMPTY);
+            }
+            if (!present[columns.surveyId()]) {
+                throw new IllegalStateException(SURVEY_ID_EMPTY);
+            }
+            if (!present[columns.status()]) {
+                throw new IllegalStateException(STATUS_EMPTY);
+            }
+            int statusId = values[columns.status()];
+            if (!statusExists.test(statusId)) {
+                throw new IllegalStateException(STATUS_NOT_FOUND.formatted(statusId));
+            }
+            if (size == memberIds.length) {
+                int capacity = size * 2;
+                memberIds = Arrays.copyOf(memberIds, capacity);
+                surveyIds = Arrays.copyOf(surveyIds, capacity);
+                statusIds = Arrays.copyOf(statusIds, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            memberIds[size] = values[columns.memberId()];
+            surveyIds[size] = values[columns.surveyId()];
+            statusIds[size] = statusId;
+            lengths[size] = present[columns.length()] ? values[columns.length()] : 0;
+            size++;
+            Arrays.fill(present, false);
+        }
+
+        /**
+         * Passes every row to the visitor and releases the rows.
+         */
+        private void drainTo(ParticipationVisitor visitor) {
+            for (int i = 0; i < size; i++) {
+                visitor.visit(memberIds[i], surveyIds[i], statusIds[i], lengths[i]);
+            }
+            memberIds = null;
+            surveyIds = null;
+            statusIds = null;
+            lengths = null;
+            size = 0;
+        }
+    }
+}
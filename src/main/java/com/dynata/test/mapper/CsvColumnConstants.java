@@ -34,6 +34,7 @@ public final class CsvColumnConstants {
     public static final String EXPECTED_COMPLETES_EMPTY = "Expected completes cannot be empty";
     public static final String COMPLETION_POINTS_EMPTY = "Completion points cannot be empty";
     public static final String FILTERED_POINTS_EMPTY = "Filtered points cannot be empty";
+    public static final String COLUMN_NOT_FOUND = "Column %s not found in header";
 
     public static final String ACTIVE_VALUE = "1";
 }
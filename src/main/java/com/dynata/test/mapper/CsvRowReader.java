@@ -0,0 +1,335 @@
+package com.dynata.test.mapper;
+
+import static com.dynata.test.mapper.CsvColumnConstants.COLUMN_NOT_FOUND;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Reads CSV rows from a character stream into a reusable buffer.
+ * <p>
+ * The header is read when the reader is created, so column positions can be resolved once per file
+ * with {@link #indexOf(String)}. Fields of the current row are then accessed by position directly from
+ * the buffer: numbers are parsed into primitives and strings are only created for text columns, so no
+ * objects are allocated per row or per numeric field.
+ * <p>
+ * The format matches {@link org.apache.commons.csv.CSVFormat#DEFAULT}: comma separated, optionally
+ * double-quoted fields with {@code ""} as an escaped quote, and empty lines are skipped. Values are trimmed,
+ * and a blank or missing field is considered empty.
+ */
+public final class CsvRowReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final String[] header;
+
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private boolean[] fieldEscaped = new boolean[16];
+    private int fieldCount;
+
+    /**
+     * Creates a reader and reads the header row.
+     *
+     * @param reader the character stream, closed when this reader is closed
+     * @throws IOException if the header cannot be read
+     */
+    public CsvRowReader(Reader reader) throws IOException {
+        this.reader = reader;
+        if (!next()) {
+            header = new String[0];
+            return;
+        }
+        header = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            header[i] = getString(i);
+        }
+        if (header.length > 0 && !header[0].isEmpty() && header[0].charAt(0) == BYTE_ORDER_MARK) {
+            header[0] = header[0].substring(1);
+        }
+    }
+
+    /**
+     * Resolves the position of a column from the header.
+     *
+     * @param column the column name
+     * @return the position of the column
+     * @throws IllegalStateException if the header has no such column
+     */
+    public int indexOf(String column) {
+        for (int i = 0; i < header.length; i++) {
+            if (header[i].equals(column)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException(COLUMN_NOT_FOUND.formatted(column));
+    }
+
+    /**
+     * Advances to the next non-empty row.
+     *
+     * @return false if there are no more rows
+     * @throws IOException if the stream cannot be read
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            if (!scanRow()) {
+                return false;
+            }
+            if (fieldCount > 1 || fieldStarts[0] < fieldEnds[0] || fieldEscaped[0]) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Tells whether a field of the current row is blank or missing.
+     *
+     * @param column the column position
+     * @return true if the field has no value
+     */
+    public boolean isEmpty(int column) {
+        return column >= fieldCount || trimmedStart(column) == trimmedEnd(column);
+    }
+
+    /**
+     * Parses a field of the current row as an integer.
+     *
+     * @param column       the column position
+     * @param emptyMessage the error message used when the field is empty
+     * @return the value of the field
+     * @throws IllegalStateException if the field is empty
+     * @throws NumberFormatException if the field is not an integer
+     */
+    public int getInt(int column, String emptyMessage) {
+        if (isEmpty(column)) {
+            throw new IllegalStateException(emptyMessage);
+        }
+        return parseInt(column);
+    }
+
+    /**
+     * Parses a field of the current row as an integer, or returns a default value if it is empty.
+     *
+     * @param column       the column position
+     * @param defaultValue the value returned when the field is empty
+     * @return the value of the field
+     * @throws NumberFormatException if the field is not an integer
+     */
+    public int getInt(int column, int defaultValue) {
+        return isEmpty(column) ? defaultValue : parseInt(column);
+    }
+
+    /**
+     * Gets a field of the current row as a trimmed string.
+     *
+     * @param column       the column position
+     * @param emptyMessage the error message used when the field is empty
+     * @return the value of the field
+     * @throws IllegalStateException if the field is empty
+     */
+    public String getString(int column, String emptyMessage) {
+        if (isEmpty(column)) {
+            throw new IllegalStateException(emptyMessage);
+        }
+        return getString(column);
+    }
+
+    /**
+     * Compares a trimmed field of the current row with a value, without creating a string.
+     *
+     * @param column       the column position
+     * @param value        the value to compare with
+     * @param emptyMessage the error message used when the field is empty
+     * @return true if the field equals the value
+     * @throws IllegalStateException if the field is empty
+     */
+    public boolean matches(int column, String value, String emptyMessage) {
+        if (isEmpty(column)) {
+            throw new IllegalStateException(emptyMessage);
+        }
+        int start = trimmedStart(column);
+        int end = trimmedEnd(column);
+        if (fieldEscaped[column]) {
+            return getString(column).equals(value);
+        }
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (buffer[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String getString(int column) {
+        if (column >= fieldCount) {
+            return "";
+        }
+        String value = new String(buffer, trimmedStart(column), trimmedEnd(column) - trimmedStart(column));
+        return fieldEscaped[column] ? value.replace("\"\"", "\"") : value;
+    }
+
+    private int parseInt(int column) {
+        int start = trimmedStart(column);
+        int end = trimmedEnd(column);
+        boolean negative = buffer[start] == '-';
+        int i = negative || buffer[start] == '+' ? start + 1 : start;
+        if (i == end) {
+            throw invalidNumber(column);
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            char c = buffer[i];
+            if (c < '0' || c > '9') {
+                throw invalidNumber(column);
+            }
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw invalidNumber(column);
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw invalidNumber(column);
+        }
+        return (int) value;
+    }
+
+    private NumberFormatException invalidNumber(int column) {
+        return new NumberFormatException("For input string: \"%s\"".formatted(getString(column)));
+    }
+
+    private int trimmedStart(int column) {
+        int start = fieldStarts[column];
+        int end = fieldEnds[column];
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(int column) {
+        int start = trimmedStart(column);
+        int end = fieldEnds[column];
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Scans the next row, refilling the buffer while the row continues past its end.
+     *
+     * @return false at the end of input
+     */
+    private boolean scanRow() throws IOException {
+        while (!tryScanRow()) {
+            if (endOfInput) {
+                return false;
+            }
+            fill();
+        }
+        return true;
+    }
+
+    /**
+     * Records the field boundaries of the row starting at the current position, relative to the buffer.
+     *
+     * @return false if the buffer does not hold a complete row
+     */
+    private boolean tryScanRow() {
+        if (endOfInput && position >= limit) {
+            return false;
+        }
+        fieldCount = 0;
+        int fieldStart = position;
+        int quotedEnd = -1;
+        boolean quoted = false;
+        boolean escaped = false;
+        for (int i = position; ; i++) {
+            if (i >= limit) {
+                if (!endOfInput) {
+                    return false;
+                }
+                addField(fieldStart, quoted ? limit : quotedEnd, limit, escaped);
+                position = limit;
+                return true;
+            }
+            char c = buffer[i];
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 >= limit && !endOfInput) {
+                        return false;
+                    }
+                    if (i + 1 < limit && buffer[i + 1] == '"') {
+                        escaped = true;
+                        i++;
+                    } else {
+                        quoted = false;
+                        quotedEnd = i;
+                    }
+                }
+            } else if (c == '"' && i == fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                addField(fieldStart, quotedEnd, i, escaped);
+                fieldStart = i + 1;
+                quotedEnd = -1;
+                escaped = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 >= limit && !endOfInput) {
+                    return false;
+                }
+                addField(fieldStart, quotedEnd, i, escaped);
+                position = c == '\r' && i + 1 < limit && buffer[i + 1] == '\n' ? i + 2 : i + 1;
+                return true;
+            }
+        }
+    }
+
+    private void addField(int fieldStart, int quotedEnd, int end, boolean escaped) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+            fieldEscaped = Arrays.copyOf(fieldEscaped, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = quotedEnd >= 0 ? fieldStart + 1 : fieldStart;
+        fieldEnds[fieldCount] = quotedEnd >= 0 ? quotedEnd : end;
+        fieldEscaped[fieldCount] = escaped;
+        fieldCount++;
+    }
+
+    private void fill() throws IOException {
+        int remaining = limit - position;
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+        } else if (remaining == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        position = 0;
+        limit = remaining;
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+}
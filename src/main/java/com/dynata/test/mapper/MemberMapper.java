@@ -10,6 +10,8 @@ import static com.dynata.test.mapper.CsvColumnConstants.HEADER_MEMBER_ID;
 import static com.dynata.test.mapper.CsvColumnConstants.IS_ACTIVE_EMPTY;
 import static com.dynata.test.mapper.CsvColumnConstants.MEMBER_ID_EMPTY;
 
+import java.util.function.Function;
+
 import com.dynata.test.model.Member;
 import org.apache.commons.csv.CSVRecord;
 import org.mapstruct.Mapper;
@@ -34,6 +36,26 @@ public interface MemberMapper extends BaseCsvRecordMapper {
     @Mapping(source = "record", target = "active", qualifiedByName = "toActive")
     Member toMember(CSVRecord record);
 
+    /**
+     * Resolves the member columns from the header of the reader and returns a mapper
+     * of its rows to Member objects, reading the fields by position.
+     *
+     * @param reader the CSV reader
+     * @return the row mapper
+     */
+    default Function<CsvRowReader, Member> toMemberRowMapper(CsvRowReader reader) {
+        int id = reader.indexOf(HEADER_MEMBER_ID);
+        int fullName = reader.indexOf(HEADER_FULL_NAME);
+        int email = reader.indexOf(HEADER_EMAIL_ADDRESS);
+        int active = reader.indexOf(HEADER_IS_ACTIVE);
+        return row -> Member.builder()
+                            .id(row.getInt(id, MEMBER_ID_EMPTY))
+                            .fullname(row.getString(fullName, FULL_NAME_EMPTY))
+                            .email(row.getString(email, EMAIL_EMPTY))
+                            .active(row.matches(active, ACTIVE_VALUE, IS_ACTIVE_EMPTY))
+                            .build();
+    }
+
     @Named("toMemberId")
     default int toMemberId(CSVRecord record) {
         return getCsvColumnAsInteger(record, HEADER_MEMBER_ID).orElseThrow(() -> new IllegalStateException(MEMBER_ID_EMPTY));
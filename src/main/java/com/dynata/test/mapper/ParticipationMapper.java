@@ -1,15 +1,21 @@
 package com.dynata.test.mapper;
 
 import static com.dynata.test.mapper.CsvColumnConstants.HEADER_LENGTH;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_MEMBER_ID;
 import static com.dynata.test.mapper.CsvColumnConstants.HEADER_STATUS;
+import static com.dynata.test.mapper.CsvColumnConstants.HEADER_SURVEY_ID;
+import static com.dynata.test.mapper.CsvColumnConstants.MEMBER_ID_EMPTY;
 import static com.dynata.test.mapper.CsvColumnConstants.STATUS_EMPTY;
 import static com.dynata.test.mapper.CsvColumnConstants.STATUS_NOT_FOUND;
+import static com.dynata.test.mapper.CsvColumnConstants.SURVEY_ID_EMPTY;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.dynata.test.model.Participation;
 import com.dynata.test.model.Status;
+import com.dynata.test.store.ParticipationVisitor;
 import org.apache.commons.csv.CSVRecord;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -45,9 +51,36 @@ public class ParticipationMapper implements BaseCsvRecordMapper {
                             .build();
     }
 
+    /**
+     * Resolves the participation columns from the header of the reader and returns a consumer
+     * of its rows, which parses the fields by position into primitives and passes them to the sink
+     * without creating Participation objects.
+     *
+     * @param reader    the CSV reader
+     * @param statusMap a map of status IDs to Status objects, used to validate the status
+     * @param sink      receives the parsed participations
+     * @return the row consumer
+     */
+    public Consumer<CsvRowReader> toParticipationRowConsumer(CsvRowReader reader, Map<Integer, Status> statusMap, ParticipationVisitor sink) {
+        int memberId = reader.indexOf(HEADER_MEMBER_ID);
+        int surveyId = reader.indexOf(HEADER_SURVEY_ID);
+        int status = reader.indexOf(HEADER_STATUS);
+        int length = reader.indexOf(HEADER_LENGTH);
+        return row -> {
+            int memberIdValue = row.getInt(memberId, MEMBER_ID_EMPTY);
+            int surveyIdValue = row.getInt(surveyId, SURVEY_ID_EMPTY);
+            int statusId = row.getInt(status, STATUS_EMPTY);
+            if (!statusMap.containsKey(statusId)) {
+                throw new IllegalStateException(String.format(STATUS_NOT_FOUND, statusId));
+            }
+            sink.visit(memberIdValue, surveyIdValue, statusId, row.getInt(length, 0));
+        };
+    }
+
     private Status toStatus(CSVRecord record, Map<Integer, Status> statusMap) {
-        return Optional.ofNullable(statusMap.get(getStatusId(record)))
-                       .orElseThrow(() -> new IllegalStateException(String.format(STATUS_NOT_FOUND, getStatusId(record))));
+        Integer statusId = getStatusId(record);
+        return Optional.ofNullable(statusMap.get(statusId))
+                       .orElseThrow(() -> new IllegalStateException(String.format(STATUS_NOT_FOUND, statusId)));
     }
 
     private Integer getStatusId(CSVRecord record) {
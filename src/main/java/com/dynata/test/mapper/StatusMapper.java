@@ -6,6 +6,7 @@ import static com.dynata.test.mapper.CsvColumnConstants.STATUS_ID_EMPTY;
 import static com.dynata.test.mapper.CsvColumnConstants.STATUS_NAME_EMPTY;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 import com.dynata.test.model.Status;
 import org.apache.commons.csv.CSVRecord;
@@ -30,6 +31,22 @@ public interface StatusMapper extends BaseCsvRecordMapper {
     @Mapping(source = "record", target = "name", qualifiedByName = "toName")
     Status toStatus(CSVRecord record);
 
+    /**
+     * Resolves the status columns from the header of the reader and returns a mapper
+     * of its rows to Status objects, reading the fields by position.
+     *
+     * @param reader the CSV reader
+     * @return the row mapper
+     */
+    default Function<CsvRowReader, Status> toStatusRowMapper(CsvRowReader reader) {
+        int id = reader.indexOf(HEADER_STATUS_ID);
+        int name = reader.indexOf(HEADER_NAME);
+        return row -> Status.builder()
+                            .id(row.getInt(id, STATUS_ID_EMPTY))
+                            .name(row.getString(name, STATUS_NAME_EMPTY))
+                            .build();
+    }
+
     @Named("toStatusId")
     default int toStatusId(CSVRecord record) {
         return Optional.ofNullable(record.get(HEADER_STATUS_ID))
@@ -11,6 +11,8 @@ import static com.dynata.test.mapper.CsvColumnConstants.HEADER_SURVEY_ID;
 import static com.dynata.test.mapper.CsvColumnConstants.SURVEY_ID_EMPTY;
 import static com.dynata.test.mapper.CsvColumnConstants.SURVEY_NAME_EMPTY;
 
+import java.util.function.Function;
+
 import com.dynata.test.model.Survey;
 import org.apache.commons.csv.CSVRecord;
 import org.mapstruct.Mapper;
@@ -36,6 +38,28 @@ public interface SurveyMapper extends BaseCsvRecordMapper {
     @Mapping(source = "record", target = "filteredPoints", qualifiedByName = "toFilteredPoints")
     Survey toSurvey(CSVRecord record);
 
+    /**
+     * Resolves the survey columns from the header of the reader and returns a mapper
+     * of its rows to Survey objects, reading the fields by position.
+     *
+     * @param reader the CSV reader
+     * @return the row mapper
+     */
+    default Function<CsvRowReader, Survey> toSurveyRowMapper(CsvRowReader reader) {
+        int id = reader.indexOf(HEADER_SURVEY_ID);
+        int name = reader.indexOf(HEADER_NAME);
+        int expectedCompletes = reader.indexOf(HEADER_EXPECTED_COMPLETES);
+        int completionPoints = reader.indexOf(HEADER_COMPLETION_POINTS);
+        int filteredPoints = reader.indexOf(HEADER_FILTERED_POINTS);
+        return row -> Survey.builder()
+                            .id(row.getInt(id, SURVEY_ID_EMPTY))
+                            .name(row.getString(name, SURVEY_NAME_EMPTY))
+                            .expectedCompletes(row.getInt(expectedCompletes, EXPECTED_COMPLETES_EMPTY))
+                            .completionPoints(row.getInt(completionPoints, COMPLETION_POINTS_EMPTY))
+                            .filteredPoints(row.getInt(filteredPoints, FILTERED_POINTS_EMPTY))
+                            .build();
+    }
+
     @Named("toSurveyId")
     default int toSurveyId(CSVRecord record) {
         return getCsvColumnAsInteger(record, HEADER_SURVEY_ID).orElseThrow(() -> new IllegalStateException(SURVEY_ID_EMPTY));
@@ -0,0 +1,38 @@
+package com.dynata.test.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+import com.dynata.test.service.DataService;
+import com.dynata.test.store.Dataset;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gauges of the size and version of the currently published dataset, read from the dataset on every scrape.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatasetMetrics implements MeterBinder {
+
+    private final DataService dataService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gauge(registry, "dynata.dataset.members", "Number of members", dataset -> dataset.getMembers().size());
+        gauge(registry, "dynata.dataset.members.active", "Number of active members",
+              dataset -> dataset.getMemberBitmapIndex().countActiveMembers());
+        gauge(registry, "dynata.dataset.surveys", "Number of surveys", dataset -> dataset.getSurveys().size());
+        gauge(registry, "dynata.dataset.participations", "Number of participations, including appended ones",
+              dataset -> dataset.getParticipationStore().size());
+        gauge(registry, "dynata.dataset.version", "Version of the published dataset", Dataset::getVersion);
+    }
+
+    private void gauge(MeterRegistry registry, String name, String description, ToDoubleFunction<Dataset> value) {
+        Gauge.builder(name, dataService, service -> value.applyAsDouble(service.getDataset()))
+             .description(description)
+             .register(registry);
+    }
+}
@@ -2,16 +2,19 @@ package com.dynata.test.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
 /**
- * Represents a member who can participate in surveys.
+ * Represents a member who can participate in surveys. Members are equal when all their fields are,
+ * so that the members looked up in the {@link com.dynata.test.store.MemberStore} equal the loaded ones.
  */
 @Getter
 @AllArgsConstructor
 @Builder
 @ToString
+@EqualsAndHashCode
 public class Member {
     private int id;
     private String fullname;
@@ -1,7 +1,5 @@
 package com.dynata.test.model;
 
-import java.util.Optional;
-
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,12 +25,6 @@ public class Participation {
      * @return true if eligible for points, false otherwise
      */
     public boolean isEligibleForPoints() {
-        return Optional.ofNullable(status)
-                       .map(Participation::isStatusFilteredOrCompleted)
-                       .orElse(false);
-    }
-
-    private static boolean isStatusFilteredOrCompleted(Status s) {
-        return s.equals(Status.FILTERED) || s.equals(Status.COMPLETED);
+        return status != null && StatusCode.isEligibleForPoints(status.getId());
     }
 }
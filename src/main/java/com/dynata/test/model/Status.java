@@ -2,20 +2,35 @@ package com.dynata.test.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 /**
  * Represents the participation status of a member in a survey.
+ * <p>
+ * Statuses are equal when their ids are, so that the constants below equal the statuses loaded from the
+ * statuses file, whose names are served for display.
  */
 @Getter
 @AllArgsConstructor
 @Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Status {
-    public static final Status NOT_ASKED = new Status(1, "Not asked");
-    public static final Status REJECTED = new Status(2, "Rejected");
-    public static final Status FILTERED = new Status(3, "Filtered");
-    public static final Status COMPLETED = new Status(4, "Completed");
+    public static final Status NOT_ASKED = StatusCode.NOT_ASKED.toStatus("Not asked");
+    public static final Status REJECTED = StatusCode.REJECTED.toStatus("Rejected");
+    public static final Status FILTERED = StatusCode.FILTERED.toStatus("Filtered");
+    public static final Status COMPLETED = StatusCode.COMPLETED.toStatus("Completed");
 
+    @EqualsAndHashCode.Include
     private int id;
     private String name;
+
+    /**
+     * Gets the code of the status.
+     *
+     * @return the code, or null if the status has no code
+     */
+    public StatusCode toCode() {
+        return StatusCode.of(id);
+    }
 }
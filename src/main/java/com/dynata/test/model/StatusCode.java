@@ -0,0 +1,71 @@
+package com.dynata.test.model;
+
+import lombok.Getter;
+
+/**
+ * The participation statuses the application acts on, identified by their status id.
+ * <p>
+ * Status ids fit into a byte, so a code is looked up by indexing a table with the id instead of comparing
+ * {@link Status} instances. Ids of other statuses loaded from the statuses file have no code.
+ */
+@Getter
+public enum StatusCode {
+    NOT_ASKED(1, false),
+    REJECTED(2, false),
+    FILTERED(3, true),
+    COMPLETED(4, true);
+
+    /**
+     * The largest status id, status ids are stored as bytes.
+     */
+    public static final int MAX_ID = Byte.MAX_VALUE;
+
+    private static final StatusCode[] CODES_BY_ID = new StatusCode[MAX_ID + 1];
+    private static final boolean[] ELIGIBLE_FOR_POINTS_BY_ID = new boolean[MAX_ID + 1];
+
+    static {
+        for (StatusCode code : values()) {
+            CODES_BY_ID[code.id] = code;
+            ELIGIBLE_FOR_POINTS_BY_ID[code.id] = code.eligibleForPoints;
+        }
+    }
+
+    private final int id;
+    private final boolean eligibleForPoints;
+
+    StatusCode(int id, boolean eligibleForPoints) {
+        this.id = id;
+        this.eligibleForPoints = eligibleForPoints;
+    }
+
+    /**
+     * Gets the code of the given status id.
+     *
+     * @param statusId the status ID
+     * @return the code, or null if the status id has no code
+     */
+    public static StatusCode of(int statusId) {
+        return statusId >= 0 && statusId <= MAX_ID ? CODES_BY_ID[statusId] : null;
+    }
+
+    /**
+     * Determines if a participation with the given status id is eligible for points,
+     * i.e. whether it was filtered or completed.
+     *
+     * @param statusId the status ID
+     * @return true if eligible for points, false otherwise
+     */
+    public static boolean isEligibleForPoints(int statusId) {
+        return statusId >= 0 && statusId <= MAX_ID && ELIGIBLE_FOR_POINTS_BY_ID[statusId];
+    }
+
+    /**
+     * Creates the status of this code with the given name.
+     *
+     * @param name the display name of the status
+     * @return a new status
+     */
+    Status toStatus(String name) {
+        return new Status(id, name);
+    }
+}
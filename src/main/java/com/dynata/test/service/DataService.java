@@ -2,13 +2,24 @@ package com.dynata.test.service;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import com.dynata.test.model.Member;
 import com.dynata.test.model.Participation;
 import com.dynata.test.model.Status;
 import com.dynata.test.model.Survey;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.MemberBitmapIndex;
+import com.dynata.test.store.MemberStore;
+import com.dynata.test.store.ParticipationStore;
+import com.dynata.test.store.SurveyStatisticsEngine;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 
@@ -22,6 +33,44 @@ public interface DataService {
      */
     void loadData();
 
+    /**
+     * Loads a new version of all data and publishes it once it is complete.
+     * Readers keep seeing the previous version until the new one is published, and keep it if the reload fails.
+     *
+     * @return information about the new dataset
+     */
+    DatasetInfo reload();
+
+    /**
+     * Appends participations to the current dataset, updating its indexes and survey statistics in place,
+     * so that they are visible to queries as soon as this method returns.
+     * <p>
+     * The participations are created from the same dataset they are appended to, which cannot be replaced by a
+     * reload in between, so that they can be validated against it; if the function throws, nothing is appended.
+     * Appended participations are carried over into the datasets published by later reloads. Only a participation
+     * appended before the participation file was last modified, and equal to a reloaded participation, is not
+     * carried over: the file is then assumed to contain it, so it is not appended twice.
+     *
+     * @param participations the function creating the participations to append from the current dataset
+     * @return information about the dataset the participations were appended to
+     */
+    DatasetInfo appendParticipations(Function<Dataset, ? extends Collection<Participation>> participations);
+
+    /**
+     * Gets the current dataset. Queries that read several parts of the data should get the dataset once
+     * and read everything from it, so that they see a single version even if a reload happens meanwhile.
+     *
+     * @return the current dataset
+     */
+    Dataset getDataset();
+
+    /**
+     * Gets information about the current dataset.
+     *
+     * @return the version, load time and size of the current dataset
+     */
+    DatasetInfo getDatasetInfo();
+
     /**
      * Gets all members.
      *
@@ -45,11 +94,34 @@ public interface DataService {
 
     /**
      * Gets all participations.
+     * The list is materialized lazily from the {@link ParticipationStore} and kept for compatibility,
+     * queries should iterate the store instead.
      *
      * @return a list of all participations
      */
     List<Participation> getAllParticipations();
 
+    /**
+     * Gets the columnar store holding all participations.
+     *
+     * @return the participation store
+     */
+    ParticipationStore getParticipationStore();
+
+    /**
+     * Gets the per-survey participation counters, aggregated while participations are loaded.
+     *
+     * @return the survey statistics engine
+     */
+    SurveyStatisticsEngine getSurveyStatisticsEngine();
+
+    /**
+     * Gets the bitmaps of active members and of the participants of every survey.
+     *
+     * @return the member bitmap index
+     */
+    MemberBitmapIndex getMemberBitmapIndex();
+
     /**
      * Gets a member by ID.
      *
@@ -75,11 +147,11 @@ public interface DataService {
     Status getStatusById(int id);
 
     /**
-     * Gets a map of all members by ID.
+     * Gets the compact store of all members, looking members up by ID.
      *
-     * @return a map of member IDs to members
+     * @return the member store
      */
-    Map<Integer, Member> getMembersMap();
+    MemberStore getMemberStore();
 
     /**
      * Gets a map of all surveys by ID.
@@ -108,4 +180,38 @@ public interface DataService {
     default CSVParser createCSVParser(Reader reader) throws IOException {
         return CSVFormat.DEFAULT.builder().setHeader().setSkipHeaderRecord(true).build().parse(reader);
     }
-}
\ No newline at end of file
+
+    /**
+     * Inner class representing the version, load time and size of a dataset.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    class DatasetInfo {
+        private long version;
+        private Instant loadedAt;
+        private long loadDurationMillis;
+        private int members;
+        private int surveys;
+        private int statuses;
+        private int participations;
+
+        /**
+         * Creates the information about the given dataset.
+         *
+         * @param dataset the dataset
+         * @return the dataset information
+         */
+        public static DatasetInfo of(Dataset dataset) {
+            return DatasetInfo.builder()
+                              .version(dataset.getVersion())
+                              .loadedAt(dataset.getLoadedAt())
+                              .loadDurationMillis(dataset.getLoadDuration().toMillis())
+                              .members(dataset.getMembers().size())
+                              .surveys(dataset.getSurveys().size())
+                              .statuses(dataset.getStatuses().size())
+                              .participations(dataset.getParticipationStore().size())
+                              .build();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.dynata.test.service;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Service for ingesting participation outcomes while the application is running.
+ */
+public interface IngestService {
+
+    /**
+     * Ingests a single participation event.
+     *
+     * @param event the participation event
+     * @return the result of the ingest
+     */
+    IngestResult ingest(ParticipationEvent event);
+
+    /**
+     * Ingests a batch of participation events. The batch is validated as a whole,
+     * either all events are appended or none. A batch holds at most 10 000 events.
+     *
+     * @param events the participation events
+     * @return the result of the ingest
+     */
+    IngestResult ingestAll(List<ParticipationEvent> events);
+
+    /**
+     * Inner class representing a participation outcome to ingest.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    class ParticipationEvent {
+        private int memberId;
+        private int surveyId;
+        private int statusId;
+        private int length;
+    }
+
+    /**
+     * Inner class representing the result of an ingest.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    class IngestResult {
+        private int accepted;
+        private long datasetVersion;
+        private int participations;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dynata.test.service;
+
+import java.util.List;
+
+import com.dynata.test.model.Member;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A page of members ordered by member id, returned by both the {@link MemberService} and the {@link SurveyService}.
+ * The next cursor is an opaque token for the following page, null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class MemberPage {
+    private List<Member> members;
+    private String nextCursor;
+}
@@ -3,8 +3,16 @@ package com.dynata.test.service;
 import com.dynata.test.model.Member;
 import com.dynata.test.model.Survey;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 /**
  * Service for member-related operations.
@@ -18,6 +26,22 @@ public interface MemberService {
      */
     List<Member> getAllMembers();
 
+    /**
+     * Gets a page of all members, ordered by member id.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit  the maximum number of members of the page
+     * @return the page of members
+     */
+    MemberPage getMembers(String cursor, int limit);
+
+    /**
+     * Passes all members to the given action one at a time, ordered by member id.
+     *
+     * @param action the action
+     */
+    void forEachMember(Consumer<Member> action);
+
     /**
      * Gets a member by ID.
      *
@@ -26,6 +50,23 @@ public interface MemberService {
      */
     Member getMemberById(int id);
 
+    /**
+     * Searches members by the start of their email or of the words of their full name, ignoring case.
+     *
+     * @param query the start of the email, or of one or more words of the full name
+     * @param limit the maximum number of members
+     * @return the matching members, those matching by email first
+     */
+    List<Member> searchMembers(String query, int limit);
+
+    /**
+     * Gets the members with the given email, ignoring case.
+     *
+     * @param email the email
+     * @return the members with the email
+     */
+    List<Member> getMembersByEmail(String email);
+
     /**
      * Gets all active members.
      *
@@ -33,6 +74,22 @@ public interface MemberService {
      */
     List<Member> getActiveMembers();
 
+    /**
+     * Gets a page of the active members, ordered by member id.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit  the maximum number of members of the page
+     * @return the page of members
+     */
+    MemberPage getActiveMembers(String cursor, int limit);
+
+    /**
+     * Passes the active members to the given action one at a time, ordered by member id.
+     *
+     * @param action the action
+     */
+    void forEachActiveMember(Consumer<Member> action);
+
     /**
      * Fetches all the surveys that were completed by the given member id.
      *
@@ -48,4 +105,107 @@ public interface MemberService {
      * @return a map of survey IDs to points collected
      */
     Map<Integer, Integer> getPointsCollectedByMember(int memberId);
-}
\ No newline at end of file
+
+    /**
+     * Fetches the surveys completed by each of the given member ids in a single lookup.
+     *
+     * @param memberIds the member IDs
+     * @return the surveys completed by each member, by member ID in request order
+     */
+    Map<Integer, List<Survey>> getSurveysCompletedByMembers(Collection<Integer> memberIds);
+
+    /**
+     * Fetches the points (with the related survey id) collected by each of the given member ids in a single lookup.
+     *
+     * @param memberIds the member IDs
+     * @return the map of survey IDs to points collected of each member, by member ID in request order
+     */
+    Map<Integer, Map<Integer, Integer>> getPointsCollectedByMembers(Collection<Integer> memberIds);
+
+    /**
+     * Gets the members with the most points collected, highest first.
+     * Members with equal points share a rank and are ordered by member id.
+     *
+     * @param limit the maximum number of members
+     * @return the leaderboard entries
+     */
+    List<LeaderboardEntry> getLeaderboard(int limit);
+
+    /**
+     * Gets the rank and total points of the given member.
+     *
+     * @param memberId the member ID
+     * @return the leaderboard entry of the member, or null if not found
+     */
+    LeaderboardEntry getLeaderboardEntry(int memberId);
+
+    /**
+     * Queries the members matching the given filter. Depending on {@code select} only the number of matching members,
+     * or also the first matching member ids or members in member id order, are returned.
+     *
+     * @param filter the filter
+     * @param select {@code count}, {@code ids} or {@code members}
+     * @param limit  the maximum number of member ids or members returned
+     * @return the number of matching members and the selected ids or members
+     */
+    MemberQueryResult queryMembers(MemberFilter filter, String select, int limit);
+
+    /**
+     * Inner class representing a member's place on the points leaderboard.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    class LeaderboardEntry {
+        private int rank;
+        private int points;
+        private Member member;
+    }
+
+    /**
+     * Inner class representing a filter over members. Exactly one of its fields is set: the members matching all
+     * or any of a list of filters, the members not matching a filter, the members with the given active flag or
+     * the members who have a participation matching a participation filter.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    class MemberFilter {
+        private List<MemberFilter> and;
+        private List<MemberFilter> or;
+        private MemberFilter not;
+        private Boolean active;
+        private ParticipationFilter participated;
+    }
+
+    /**
+     * Inner class representing a filter over the participations of a member. A participation matches when it
+     * matches every field that is set, a filter without fields matches any participation.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    class ParticipationFilter {
+        private Integer surveyId;
+        private Integer statusId;
+        private Integer minLength;
+        private Integer maxLength;
+    }
+
+    /**
+     * Inner class representing the result of a member query.
+     * The member ids or members are null unless selected.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    class MemberQueryResult {
+        private int count;
+        private List<Integer> memberIds;
+        private List<Member> members;
+    }
+}
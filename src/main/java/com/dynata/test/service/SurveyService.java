@@ -1,7 +1,9 @@
 package com.dynata.test.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import com.dynata.test.model.Member;
 import com.dynata.test.model.Survey;
@@ -38,6 +40,33 @@ public interface SurveyService {
      */
     Map<Integer, Integer> getPointsCollectedByMember(int memberId);
 
+    /**
+     * Fetches the respondents who completed the questionnaire for each of the given survey ids,
+     * probing the survey index once per survey of a single dataset.
+     *
+     * @param surveyIds the survey IDs
+     * @return the members who completed each survey, by survey ID in request order
+     */
+    Map<Integer, List<Member>> getRespondentsWhoCompletedSurveys(Collection<Integer> surveyIds);
+
+    /**
+     * Fetches the surveys completed by each of the given member ids,
+     * probing the member index once per member of a single dataset.
+     *
+     * @param memberIds the member IDs
+     * @return the surveys completed by each member, by member ID in request order
+     */
+    Map<Integer, List<Survey>> getSurveysCompletedByMembers(Collection<Integer> memberIds);
+
+    /**
+     * Fetches the points (with the related survey id) collected by each of the given member ids,
+     * probing the member index once per member of a single dataset.
+     *
+     * @param memberIds the member IDs
+     * @return the map of survey IDs to points collected of each member, by member ID in request order
+     */
+    Map<Integer, Map<Integer, Integer>> getPointsCollectedByMembers(Collection<Integer> memberIds);
+
     /**
      * Fetches the list of members who can be invited for the given survey
      * (not participated in that survey yet and active).
@@ -47,6 +76,61 @@ public interface SurveyService {
      */
     List<Member> getMembersWhoCanBeInvitedForSurvey(int surveyId);
 
+    /**
+     * Fetches a page of the members who can be invited for the given survey, ordered by member id.
+     *
+     * @param surveyId the survey ID
+     * @param cursor   the cursor returned with the previous page, or null for the first page
+     * @param limit    the maximum number of members of the page
+     * @return the page of members who can be invited
+     */
+    MemberPage getMembersWhoCanBeInvitedForSurvey(int surveyId, String cursor, int limit);
+
+    /**
+     * Passes the members who can be invited for the given survey to the given action one at a time, ordered by member id.
+     *
+     * @param surveyId the survey ID
+     * @param action   the action
+     */
+    void forEachMemberWhoCanBeInvitedForSurvey(int surveyId, Consumer<Member> action);
+
+    /**
+     * Fetches the ids of the members who can be invited for the given survey, in ascending order.
+     *
+     * @param surveyId the survey ID
+     * @return the ids of the members who can be invited
+     */
+    int[] getIdsOfMembersWhoCanBeInvitedForSurvey(int surveyId);
+
+    /**
+     * Counts the members who can be invited for the given survey.
+     *
+     * @param surveyId the survey ID
+     * @return the number of members who can be invited
+     */
+    int countMembersWhoCanBeInvitedForSurvey(int surveyId);
+
+    /**
+     * Fetches the fulfilment of every survey, i.e. its completes against its expected completes.
+     *
+     * @param underFulfilledOnly whether only surveys with remaining completes are returned
+     * @param sort               the order of the surveys: {@code id}, {@code remaining} (most remaining completes first)
+     *                           or {@code fulfilled} (lowest percentage fulfilled first)
+     * @return the fulfilment of the surveys
+     */
+    List<SurveyFulfilment> getSurveyFulfilment(boolean underFulfilledOnly, String sort);
+
+    /**
+     * Plans the invitations needed to reach the expected completes of the given survey: the remaining completes,
+     * the survey's historical rates, the number of invites they require and the invitable members most likely to
+     * complete it, ranked by completion probability.
+     *
+     * @param surveyId the survey ID
+     * @param limit    the maximum number of planned invites
+     * @return the invitation plan, or null if the survey does not exist
+     */
+    InvitationPlan planInvitations(int surveyId, int limit);
+
     /**
      * Fetches the list of surveys with statistics.
      *
@@ -55,7 +139,8 @@ public interface SurveyService {
     List<SurveyStatistics> getSurveyStatistics();
 
     /**
-     * Inner class representing survey statistics.
+     * Inner class representing survey statistics. The lengths of time are those of the completed participations,
+     * the percentiles are estimated from a histogram and are exact below 64.
      */
     @Getter
     @AllArgsConstructor
@@ -67,5 +152,60 @@ public interface SurveyService {
         private int numberOfFilteredParticipants;
         private int numberOfRejectedParticipants;
         private double averageLengthOfTime;
+        private int minLengthOfTime;
+        private int medianLengthOfTime;
+        private int p90LengthOfTime;
+        private int p99LengthOfTime;
+        private int maxLengthOfTime;
+    }
+
+    /**
+     * Inner class representing the fulfilment of a survey. A survey without expected completes is fulfilled.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    class SurveyFulfilment {
+        private int surveyId;
+        private String surveyName;
+        private int expectedCompletes;
+        private int completes;
+        private int remainingCompletes;
+        private double percentFulfilled;
+    }
+
+    /**
+     * Inner class representing the invitation plan of a survey. The rates are the shares of the survey's
+     * participations with that outcome, the estimated invites are derived from the survey's completion rate
+     * and are null if no participation was ever completed.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    class InvitationPlan {
+        private int surveyId;
+        private int expectedCompletes;
+        private int completes;
+        private int remainingCompletes;
+        private double completionRate;
+        private double filterRate;
+        private double rejectionRate;
+        private double overallCompletionRate;
+        private Integer estimatedInvites;
+        private int invitableMembers;
+        private double expectedCompletesOfInvites;
+        private List<PlannedInvite> invites;
+    }
+
+    /**
+     * Inner class representing a member to invite and the probability that the member completes the survey.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    class PlannedInvite {
+        private int rank;
+        private double completionProbability;
+        private Member member;
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,37 @@
 package com.dynata.test.service.impl;
 
+import static com.dynata.test.config.DataProperties.MEMBERS_CSV;
+import static com.dynata.test.config.DataProperties.PARTICIPATION_CSV;
+import static com.dynata.test.config.DataProperties.STATUSES_CSV;
+import static com.dynata.test.config.DataProperties.SURVEYS_CSV;
+
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.zip.CRC32;
 
+import com.dynata.test.config.DataProperties;
+import com.dynata.test.loader.ParallelParticipationLoader;
+import com.dynata.test.mapper.CsvRowReader;
 import com.dynata.test.mapper.MemberMapper;
 import com.dynata.test.mapper.ParticipationMapper;
 import com.dynata.test.mapper.StatusMapper;
@@ -18,48 +41,73 @@ import com.dynata.test.model.Participation;
 import com.dynata.test.model.Status;
 import com.dynata.test.model.Survey;
 import com.dynata.test.service.DataService;
+import com.dynata.test.snapshot.DataSnapshot;
+import com.dynata.test.snapshot.SnapshotReader;
+import com.dynata.test.snapshot.SnapshotWriter;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.MemberBitmapIndex;
+import com.dynata.test.store.MemberStore;
+import com.dynata.test.store.ParticipationStore;
+import com.dynata.test.store.ParticipationVisitor;
+import com.dynata.test.store.SurveyStatisticsEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
-import org.springframework.core.io.ClassPathResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
 
 /**
  * Implementation of the DataService interface.
  * Loads data from CSV files and provides access to it.
+ * The files are read from the location configured by {@link DataProperties}.
+ * The participation file can optionally be parsed in parallel by the {@link ParallelParticipationLoader},
+ * on threads of the data thread factory.
+ * When a snapshot file is configured, the loaded data is written into a binary snapshot, which is loaded
+ * instead of the CSV files on the next start as long as the CSV files did not change.
+ * <p>
+ * All data is held in an immutable {@link Dataset}. A reload builds a complete new dataset off to the side
+ * and publishes it with a single volatile write, so readers see either the old or the new dataset, never a mix.
+ * Participations appended to a dataset after it was loaded are carried over into the next one when it is published.
+ * Readers never lock, appends share a read lock that is only held exclusively while a new dataset is published.
+ * <p>
+ * Every load is timed per phase ({@code dynata.data.load.phase}), with the rows parsed and rejected per phase
+ * counted by {@code dynata.data.load.rows}.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DataServiceImpl implements DataService {
 
-    private static final String MEMBERS_CSV = "members.csv";
-    private static final String SURVEYS_CSV = "surveys.csv";
-    private static final String STATUSES_CSV = "statuses.csv";
-    private static final String PARTICIPATION_CSV = "participation.csv";
+    private static final String LOAD_PHASE_TIMER = "dynata.data.load.phase";
+    private static final String LOAD_ROWS_COUNTER = "dynata.data.load.rows";
+
     private final MemberMapper memberMapper;
     private final SurveyMapper surveyMapper;
     private final StatusMapper statusMapper;
     private final ParticipationMapper participationMapper;
+    private final DataProperties dataProperties;
+    private final ThreadFactory dataThreadFactory;
+    private final MeterRegistry meterRegistry;
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+    private final SnapshotReader snapshotReader = new SnapshotReader();
+    private final SnapshotWriter snapshotWriter = new SnapshotWriter();
+    private final ReadWriteLock publishLock = new ReentrantReadWriteLock();
 
-    private CopyOnWriteArrayList<Member> members;
-    private CopyOnWriteArrayList<Survey> surveys;
-    private CopyOnWriteArrayList<Status> statuses;
-    private CopyOnWriteArrayList<Participation> participation;
-
-    private ConcurrentHashMap<Integer, Member> membersMap;
-    private ConcurrentHashMap<Integer, Survey> surveysMap;
-    private ConcurrentHashMap<Integer, Status> statusesMap;
+    private volatile Dataset dataset = Dataset.empty();
+    private volatile ParticipationView participationView;
 
     /**
      * Loads all required data from corresponding CSV files into memory.
-     * The method initializes and populates the internal collections and maps
-     * for members, surveys, statuses, and participation records, ensuring
+     * The method builds a new dataset of the members, surveys, statuses and
+     * participation records together with their maps and indexes, ensuring
      * that the data is available for later access.
      * <p>
      * This method is executed after the bean is constructed due to the
-     * {@code @PostConstruct} annotation. It invokes specific helper methods
-     * to handle the loading of each type of data.
+     * {@code @PostConstruct} annotation. It is equivalent to {@link #reload()}.
      * <p>
      * If an I/O error occurs during the loading process, an unchecked
      * {@link RuntimeException} is thrown with a descriptive error message.
@@ -69,121 +117,363 @@ public class DataServiceImpl implements DataService {
     @PostConstruct
     @Override
     public void loadData() {
+        reload();
+    }
+
+    /**
+     * Loads a new dataset and publishes it. Reloads are serialized, while readers keep reading the
+     * previous dataset until the new one is complete. If loading fails, the previous dataset stays published.
+     *
+     * @throws RuntimeException if any IOException occurs while reading the CSV files.
+     */
+    @Override
+    public synchronized DatasetInfo reload() {
+        long start = System.nanoTime();
+        long version = dataset.getVersion() + 1;
+        Instant participationsModifiedAt = participationsModifiedAt();
+        Dataset loaded;
         try {
-            loadMembers();
-            loadSurveys();
-            loadStatuses();
-            loadParticipation();
+            if (dataProperties.getSnapshotFile() == null) {
+                loaded = loadCsvFiles(version, start);
+            } else {
+                loaded = loadWithSnapshot(Path.of(dataProperties.getSnapshotFile()), version, start);
+            }
         } catch (IOException e) {
             throw new RuntimeException("Error loading data from CSV files", e);
         }
+        int appended;
+        int carriedOver;
+        Lock lock = publishLock.writeLock();
+        lock.lock();
+        try {
+            appended = dataset.getParticipationStore().size() - dataset.getLoadedParticipations();
+            carriedOver = loaded.carryOverAppendedParticipations(dataset, participationsModifiedAt);
+            dataset = loaded;
+        } finally {
+            lock.unlock();
+        }
+        log.info("Published dataset version {} with {} members, {} surveys and {} participations ({} carried over), loaded in {} ms",
+                 version, loaded.getMembers().size(), loaded.getSurveys().size(), loaded.getParticipationStore().size(),
+                 carriedOver, loaded.getLoadDuration().toMillis());
+        if (carriedOver < appended) {
+            log.info("{} of {} participations appended to dataset version {} were found in the participation file and not carried over",
+                     appended - carriedOver, appended, version - 1);
+        }
+        return DatasetInfo.of(loaded);
+    }
+
+    @Override
+    public DatasetInfo appendParticipations(Function<Dataset, ? extends Collection<Participation>> participations) {
+        Lock lock = publishLock.readLock();
+        lock.lock();
+        try {
+            Dataset current = dataset;
+            current.appendParticipations(participations.apply(current));
+            return DatasetInfo.of(current);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the last modification time of the participation file, read before the file is loaded.
+     *
+     * @return the modification time, or null if it is unknown
+     */
+    private Instant participationsModifiedAt() {
+        try {
+            long lastModified = resourceLoader.getResource(dataProperties.resolve(PARTICIPATION_CSV)).lastModified();
+            return lastModified > 0 ? Instant.ofEpochMilli(lastModified) : null;
+        } catch (IOException e) {
+            return null;
+        }
     }
 
-    private void loadMembers() throws IOException {
-        members = new CopyOnWriteArrayList<>();
-        membersMap = new ConcurrentHashMap<>();
+    private Dataset loadCsvFiles(long version, long start) throws IOException {
+        List<Member> members = loadPhase("members", this::loadMembers, List::size);
+        List<Survey> surveys = loadPhase("surveys", this::loadSurveys, List::size);
+        List<Status> statuses = loadPhase("statuses", this::loadStatuses, List::size);
+        ParticipationStore participationStore = loadPhase("participations", () -> loadParticipation(statusesById(statuses)), ParticipationStore::size);
+        return buildDataset(version, members, surveys, statuses, participationStore, start);
+    }
 
-        try (Reader reader = new InputStreamReader(new ClassPathResource(MEMBERS_CSV).getInputStream(), StandardCharsets.UTF_8);
-             CSVParser csvParser = createCSVParser(reader)) {
+    private Dataset buildDataset(long version,
+                                 List<Member> members,
+                                 List<Survey> surveys,
+                                 List<Status> statuses,
+                                 ParticipationStore participationStore,
+                                 long start) throws IOException {
+        return loadPhase("indexes", () -> Dataset.build(version, members, surveys, statuses, participationStore, dataProperties.getStatisticsParallelism(), start), null);
+    }
 
-            for (CSVRecord record : csvParser) {
-                Member member = memberMapper.toMember(record);
-                members.add(member);
-                membersMap.put(member.getId(), member);
+    /**
+     * Runs a load phase, recording its duration and outcome, the rows it parsed unless rows is null and, if a row
+     * is invalid, the rejected row. Invalid rows abort the load, so at most one row is rejected per phase.
+     */
+    private <T> T loadPhase(String phase, LoadPhase<T> loader, ToLongFunction<T> rows) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            T loaded = loader.load();
+            if (rows != null) {
+                meterRegistry.counter(LOAD_ROWS_COUNTER, "phase", phase, "result", "parsed").increment(rows.applyAsLong(loaded));
             }
+            outcome = "success";
+            return loaded;
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            meterRegistry.counter(LOAD_ROWS_COUNTER, "phase", phase, "result", "rejected").increment();
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(LOAD_PHASE_TIMER, "phase", phase, "outcome", outcome));
         }
     }
 
-    private void loadSurveys() throws IOException {
-        surveys = new CopyOnWriteArrayList<>();
-        surveysMap = new ConcurrentHashMap<>();
+    /**
+     * Loads the data from the snapshot if it was written from the current source files,
+     * otherwise loads the CSV files and rewrites the snapshot.
+     */
+    private Dataset loadWithSnapshot(Path snapshotFile, long version, long start) throws IOException {
+        long fingerprint = sourceFingerprint();
+        Optional<Dataset> fromSnapshot = loadSnapshot(snapshotFile, fingerprint, version, start);
+        if (fromSnapshot.isPresent()) {
+            return fromSnapshot.get();
+        }
+        Dataset loaded = loadCsvFiles(version, start);
+        try {
+            snapshotWriter.write(snapshotFile, fingerprint, loaded.getMembers(), loaded.getSurveys(), loaded.getStatuses(),
+                                 loaded.getParticipationStore());
+            log.info("Wrote data snapshot {}", snapshotFile);
+        } catch (IOException e) {
+            log.warn("Could not write data snapshot {}", snapshotFile, e);
+        }
+        return loaded;
+    }
 
-        try (Reader reader = new InputStreamReader(new ClassPathResource(SURVEYS_CSV).getInputStream(), StandardCharsets.UTF_8);
-             CSVParser csvParser = createCSVParser(reader)) {
+    private Optional<Dataset> loadSnapshot(Path snapshotFile, long fingerprint, long version, long start) throws IOException {
+        Optional<DataSnapshot> loaded;
+        try {
+            loaded = loadPhase("snapshot",
+                               () -> snapshotReader.read(snapshotFile, fingerprint),
+                               snapshot -> snapshot.map(DataSnapshot::getParticipationCount).orElse(0));
+        } catch (IOException e) {
+            log.warn("Could not read data snapshot {}, loading CSV files", snapshotFile, e);
+            return Optional.empty();
+        }
+        if (loaded.isEmpty()) {
+            log.info("Data snapshot {} is missing or stale, loading CSV files", snapshotFile);
+            return Optional.empty();
+        }
+        DataSnapshot snapshot = loaded.get();
+        ParticipationStore participationStore = ParticipationStore.of(snapshot.getMemberIds(),
+                                                                      snapshot.getSurveyIds(),
+                                                                      snapshot.getStatusIds(),
+                                                                      snapshot.getLengths(),
+                                                                      snapshot.getParticipationCount());
+        Dataset dataset = buildDataset(version, snapshot.getMembers(), snapshot.getSurveys(), snapshot.getStatuses(), participationStore, start);
+        log.info("Loaded {} members, {} surveys and {} participations from data snapshot {} in {} ms",
+                 dataset.getMembers().size(), dataset.getSurveys().size(), participationStore.size(), snapshotFile,
+                 dataset.getLoadDuration().toMillis());
+        return Optional.of(dataset);
+    }
 
-            for (CSVRecord record : csvParser) {
-                Survey survey = surveyMapper.toSurvey(record);
-                surveys.add(survey);
-                surveysMap.put(survey.getId(), survey);
-            }
+    /**
+     * Computes a fingerprint of the location, length and last modification time of the source files.
+     */
+    private long sourceFingerprint() throws IOException {
+        CRC32 checksum = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2);
+        for (String fileName : List.of(MEMBERS_CSV, SURVEYS_CSV, STATUSES_CSV, PARTICIPATION_CSV)) {
+            String location = dataProperties.resolve(fileName);
+            Resource resource = resourceLoader.getResource(location);
+            checksum.update(location.getBytes(StandardCharsets.UTF_8));
+            checksum.update(buffer.clear().putLong(resource.contentLength()).putLong(resource.lastModified()).flip());
         }
+        return checksum.getValue();
     }
 
-    private void loadStatuses() throws IOException {
-        statuses = new CopyOnWriteArrayList<>();
-        statusesMap = new ConcurrentHashMap<>();
+    private List<Member> loadMembers() throws IOException {
+        try (CsvRowReader reader = openCsv(MEMBERS_CSV)) {
+            List<Member> loaded = new ArrayList<>();
+            Function<CsvRowReader, Member> rowMapper = memberMapper.toMemberRowMapper(reader);
+            while (reader.next()) {
+                loaded.add(rowMapper.apply(reader));
+            }
+            return loaded;
+        }
+    }
 
-        try (Reader reader = new InputStreamReader(new ClassPathResource(STATUSES_CSV).getInputStream(), StandardCharsets.UTF_8);
-             CSVParser csvParser = createCSVParser(reader)) {
+    private List<Survey> loadSurveys() throws IOException {
+        try (CsvRowReader reader = openCsv(SURVEYS_CSV)) {
+            List<Survey> loaded = new ArrayList<>();
+            Function<CsvRowReader, Survey> rowMapper = surveyMapper.toSurveyRowMapper(reader);
+            while (reader.next()) {
+                loaded.add(rowMapper.apply(reader));
+            }
+            return loaded;
+        }
+    }
 
-            for (CSVRecord record : csvParser) {
-                Status status = statusMapper.toStatus(record);
-                statuses.add(status);
-                statusesMap.put(status.getId(), status);
+    private List<Status> loadStatuses() throws IOException {
+        try (CsvRowReader reader = openCsv(STATUSES_CSV)) {
+            List<Status> loaded = new ArrayList<>();
+            Function<CsvRowReader, Status> rowMapper = statusMapper.toStatusRowMapper(reader);
+            while (reader.next()) {
+                loaded.add(rowMapper.apply(reader));
             }
+            return loaded;
         }
     }
 
-    private void loadParticipation() throws IOException {
-        participation = new CopyOnWriteArrayList<>();
+    private static Map<Integer, Status> statusesById(List<Status> statuses) {
+        Map<Integer, Status> statusesMap = new HashMap<>();
+        statuses.forEach(status -> statusesMap.put(status.getId(), status));
+        return statusesMap;
+    }
+
+    private ParticipationStore loadParticipation(Map<Integer, Status> statusesMap) throws IOException {
+        ParticipationStore.Builder builder = ParticipationStore.builder();
 
-        try (Reader reader = new InputStreamReader(new ClassPathResource(PARTICIPATION_CSV).getInputStream(), StandardCharsets.UTF_8);
-             CSVParser csvParser = createCSVParser(reader)) {
+        long start = System.nanoTime();
+        Resource resource = resourceLoader.getResource(dataProperties.resolve(PARTICIPATION_CSV));
+        if (dataProperties.isParallelLoad() && resource.isFile()) {
+            loadParticipationInParallel(resource.getFile().toPath(), statusesMap, builder);
+        } else {
+            loadParticipationSequentially(statusesMap, builder);
+        }
+        ParticipationStore participationStore = builder.build();
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        log.info("Loaded {} participations in {} ms ({} rows/sec)",
+                 participationStore.size(), elapsedNanos / 1_000_000, participationStore.size() * 1_000_000_000L / elapsedNanos);
+        return participationStore;
+    }
 
-            for (CSVRecord record : csvParser) {
-                Participation participation = participationMapper.toParticipation(record, statusesMap);
-                this.participation.add(participation);
+    private void loadParticipationSequentially(Map<Integer, Status> statusesMap, ParticipationStore.Builder builder) throws IOException {
+        try (CsvRowReader reader = openCsv(PARTICIPATION_CSV)) {
+            Consumer<CsvRowReader> rowConsumer = participationMapper.toParticipationRowConsumer(reader, statusesMap, builder);
+            while (reader.next()) {
+                rowConsumer.accept(reader);
             }
         }
     }
 
+    private void loadParticipationInParallel(Path file, Map<Integer, Status> statusesMap, ParticipationStore.Builder builder) throws IOException {
+        int threads = Math.max(1, dataProperties.getLoadThreads());
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, dataThreadFactory)) {
+            new ParallelParticipationLoader(executor, threads).load(file, statusesMap::containsKey, builder);
+        }
+    }
+
+    private CsvRowReader openCsv(String fileName) throws IOException {
+        Resource resource = resourceLoader.getResource(dataProperties.resolve(fileName));
+        return new CsvRowReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Dataset getDataset() {
+        return dataset;
+    }
+
+    @Override
+    public DatasetInfo getDatasetInfo() {
+        return DatasetInfo.of(dataset);
+    }
+
     @Override
     public List<Member> getAllMembers() {
-        return members;
+        return dataset.getMembers();
     }
 
     @Override
     public List<Survey> getAllSurveys() {
-        return surveys;
+        return dataset.getSurveys();
     }
 
     @Override
     public List<Status> getAllStatuses() {
-        return statuses;
+        return dataset.getStatuses();
     }
 
     @Override
     public List<Participation> getAllParticipations() {
-        return participation;
+        Dataset current = dataset;
+        ParticipationStore participationStore = current.getParticipationStore();
+        ParticipationView view = participationView;
+        if (view == null || view.store() != participationStore || view.participations().size() != participationStore.size()) {
+            view = new ParticipationView(participationStore, materializeParticipations(current, participationStore::forEach));
+            participationView = view;
+        }
+        return view.participations();
+    }
+
+    @Override
+    public ParticipationStore getParticipationStore() {
+        return dataset.getParticipationStore();
+    }
+
+    @Override
+    public SurveyStatisticsEngine getSurveyStatisticsEngine() {
+        return dataset.getSurveyStatisticsEngine();
+    }
+
+    @Override
+    public MemberBitmapIndex getMemberBitmapIndex() {
+        return dataset.getMemberBitmapIndex();
+    }
+
+    private static List<Participation> materializeParticipations(Dataset dataset, Consumer<ParticipationVisitor> rows) {
+        Map<Integer, Status> statusesMap = dataset.getStatusesMap();
+        List<Participation> result = new ArrayList<>();
+        rows.accept((memberId, surveyId, statusId, length) -> result.add(Participation.builder()
+                                                                                      .memberId(memberId)
+                                                                                      .surveyId(surveyId)
+                                                                                      .status(statusesMap.get(statusId))
+                                                                                      .length(length)
+                                                                                      .build()));
+        return Collections.unmodifiableList(result);
     }
 
     @Override
     public Member getMemberById(int id) {
-        return membersMap.get(id);
+        return dataset.getMemberStore().get(id);
     }
 
     @Override
     public Survey getSurveyById(int id) {
-        return surveysMap.get(id);
+        return dataset.getSurveysMap().get(id);
     }
 
     @Override
     public Status getStatusById(int id) {
-        return statusesMap.get(id);
+        return dataset.getStatusesMap().get(id);
     }
 
     @Override
-    public Map<Integer, Member> getMembersMap() {
-        return membersMap;
+    public MemberStore getMemberStore() {
+        return dataset.getMemberStore();
     }
 
     @Override
     public Map<Integer, Survey> getSurveysMap() {
-        return surveysMap;
+        return dataset.getSurveysMap();
     }
 
     @Override
     public Map<Integer, Status> getStatusesMap() {
-        return statusesMap;
+        return dataset.getStatusesMap();
+    }
+
+    /**
+     * A phase of loading the data.
+     */
+    @FunctionalInterface
+    private interface LoadPhase<T> {
+
+        T load() throws IOException;
+    }
+
+    /**
+     * Participations of a store materialized as objects, cached until the store changes.
+     */
+    private record ParticipationView(ParticipationStore store, List<Participation> participations) {
     }
 }
@@ -0,0 +1,98 @@
+package com.dynata.test.service.impl;
+
+import static com.dynata.test.mapper.CsvColumnConstants.STATUS_NOT_FOUND;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dynata.test.exception.ApiException;
+import com.dynata.test.model.Participation;
+import com.dynata.test.model.Status;
+import com.dynata.test.service.DataService;
+import com.dynata.test.service.DataService.DatasetInfo;
+import com.dynata.test.service.IngestService;
+import com.dynata.test.store.Dataset;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the IngestService interface.
+ * Events are validated against the current dataset and appended to it through the data service, which holds off
+ * reloads in between and updates the participation store, the survey statistics and the member bitmaps in place.
+ */
+@Service
+@Timed("dynata.service")
+@RequiredArgsConstructor
+public class IngestServiceImpl implements IngestService {
+
+    static final int MAX_BATCH_SIZE = 10_000;
+    static final String NO_EVENTS = "No participation events to ingest";
+    static final String TOO_MANY_EVENTS = "Batch cannot contain more than %d participation events";
+    static final String NULL_EVENT = "Participation events cannot be null";
+    static final String MEMBER_NOT_FOUND = "Member with id %d not found";
+    static final String SURVEY_NOT_FOUND = "Survey with id %d not found";
+    static final String LENGTH_NEGATIVE = "Length cannot be negative";
+
+    private final DataService dataService;
+
+    @Override
+    public IngestResult ingest(ParticipationEvent event) {
+        if (event == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, NULL_EVENT);
+        }
+        return ingestAll(List.of(event));
+    }
+
+    @Override
+    public IngestResult ingestAll(List<ParticipationEvent> events) {
+        if (events == null || events.isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, NO_EVENTS);
+        }
+        if (events.size() > MAX_BATCH_SIZE) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, TOO_MANY_EVENTS.formatted(MAX_BATCH_SIZE));
+        }
+        for (ParticipationEvent event : events) {
+            if (event == null) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, NULL_EVENT);
+            }
+        }
+        DatasetInfo info = dataService.appendParticipations(dataset -> toParticipations(dataset, events));
+        return IngestResult.builder()
+                           .accepted(events.size())
+                           .datasetVersion(info.getVersion())
+                           .participations(info.getParticipations())
+                           .build();
+    }
+
+    private static List<Participation> toParticipations(Dataset dataset, List<ParticipationEvent> events) {
+        List<Participation> participations = new ArrayList<>(events.size());
+        for (ParticipationEvent event : events) {
+            participations.add(toParticipation(dataset, event));
+        }
+        return participations;
+    }
+
+    private static Participation toParticipation(Dataset dataset, ParticipationEvent event) {
+        if (!dataset.getMemberStore().contains(event.getMemberId())) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, MEMBER_NOT_FOUND.formatted(event.getMemberId()));
+        }
+        if (!dataset.getSurveysMap().containsKey(event.getSurveyId())) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, SURVEY_NOT_FOUND.formatted(event.getSurveyId()));
+        }
+        Status status = dataset.getStatusesMap().get(event.getStatusId());
+        if (status == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, STATUS_NOT_FOUND.formatted(event.getStatusId()));
+        }
+        if (event.getLength() < 0) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, LENGTH_NEGATIVE);
+        }
+        return Participation.builder()
+                            .memberId(event.getMemberId())
+                            .surveyId(event.getSurveyId())
+                            .status(status)
+                            .length(event.getLength())
+                            .build();
+    }
+}
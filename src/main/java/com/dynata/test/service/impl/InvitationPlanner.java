@@ -0,0 +1,169 @@
+package com.dynata.test.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.dynata.test.exception.ApiException;
+import com.dynata.test.model.Survey;
+import com.dynata.test.service.SurveyService.InvitationPlan;
+import com.dynata.test.service.SurveyService.PlannedInvite;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.MemberResponseRates;
+import com.dynata.test.store.MemberStore;
+import com.dynata.test.store.SurveyCounters;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Plans the invitations of a survey towards its expected completes.
+ * <p>
+ * The completion probability of a member for the survey is the member's smoothed completion rate, scaled by how
+ * the survey's completion rate compares to the overall one. Since the scaling does not change the order of the
+ * members, the most likely members are selected from the precomputed {@link MemberResponseRates} with a bounded
+ * min-heap while the invitable members are visited, without sorting all of them. The invites are the smallest
+ * prefix of that ranking whose expected completes cover the remaining completes.
+ */
+final class InvitationPlanner {
+
+    static final int MAX_PLAN_SIZE = 10_000;
+    static final String INVALID_PLAN_SIZE = "Plan size must be between 1 and %d";
+
+    private InvitationPlanner() {
+    }
+
+    static InvitationPlan plan(Dataset dataset, Survey survey, int limit) {
+        if (limit < 1 || limit > MAX_PLAN_SIZE) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_PLAN_SIZE.formatted(MAX_PLAN_SIZE));
+        }
+        int surveyId = survey.getId();
+        SurveyCounters counters = dataset.getSurveyStatisticsEngine().getCounters(surveyId);
+        int participations = dataset.getParticipationStore().countBySurvey(surveyId);
+        int remaining = Math.max(0, survey.getExpectedCompletes() - counters.getCompletes());
+
+        MemberResponseRates rates = dataset.getMemberResponseRates();
+        double overallRate = rates.getOverallCompletionRate();
+        double surveyRate = rates.smoothedRate(counters.getCompletes(), participations);
+        double scale = overallRate == 0 ? 0 : surveyRate / overallRate;
+
+        MemberStore members = dataset.getMemberStore();
+        TopMembers top = new TopMembers(limit);
+        int[] invitable = {0};
+        dataset.getMemberBitmapIndex().forEachInvitableMember(surveyId, 0, memberId -> {
+            int slot = members.slotOf(memberId);
+            if (slot >= 0) {
+                invitable[0]++;
+                top.offer(memberId, rates.getCompletionRateAt(slot));
+            }
+            return true;
+        });
+
+        List<PlannedInvite> invites = new ArrayList<>();
+        double expectedCompletes = 0;
+        for (long key : top.sortedDescending()) {
+            if (expectedCompletes >= remaining) {
+                break;
+            }
+            double probability = Math.min(1, TopMembers.rateOf(key) * scale);
+            expectedCompletes += probability;
+            invites.add(PlannedInvite.builder()
+                                     .rank(invites.size() + 1)
+                                     .completionProbability(probability)
+                                     .member(members.get(TopMembers.memberIdOf(key)))
+                                     .build());
+        }
+
+        return InvitationPlan.builder()
+                             .surveyId(surveyId)
+                             .expectedCompletes(survey.getExpectedCompletes())
+                             .completes(counters.getCompletes())
+                             .remainingCompletes(remaining)
+                             .completionRate(ratio(counters.getCompletes(), participations))
+                             .filterRate(ratio(counters.getFiltered(), participations))
+                             .rejectionRate(ratio(counters.getRejected(), participations))
+                             .overallCompletionRate(overallRate)
+                             .estimatedInvites(surveyRate == 0 ? null : (int) Math.min(Integer.MAX_VALUE, Math.ceil(remaining / surveyRate)))
+                             .invitableMembers(invitable[0])
+                             .expectedCompletesOfInvites(expectedCompletes)
+                             .invites(invites)
+                             .build();
+    }
+
+    private static double ratio(int count, int total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+
+    /**
+     * Keeps the members with the highest rates, ties by lowest member id, in a min-heap of fixed capacity.
+     * Rate and member id are packed into one {@code long} key ordered like that: the bits of a non-negative
+     * float keep its order, the member id is inverted.
+     */
+    private static final class TopMembers {
+
+        private final long[] heap;
+        private int size;
+
+        TopMembers(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(int memberId, float rate) {
+            long key = (long) Float.floatToIntBits(Math.max(0, rate)) << 32 | (Integer.MAX_VALUE - memberId);
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        long[] sortedDescending() {
+            long[] keys = Arrays.copyOf(heap, size);
+            Arrays.sort(keys);
+            for (int i = 0, j = keys.length - 1; i < j; i++, j--) {
+                long key = keys[i];
+                keys[i] = keys[j];
+                keys[j] = key;
+            }
+            return keys;
+        }
+
+        static float rateOf(long key) {
+            return Float.intBitsToFloat((int) (key >>> 32));
+        }
+
+        static int memberIdOf(long key) {
+            return Integer.MAX_VALUE - (int) key;
+        }
+
+        private void siftUp(int index) {
+            long key = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= key) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = key;
+        }
+
+        private void siftDown(int index) {
+            long key = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (key <= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = key;
+        }
+    }
+}
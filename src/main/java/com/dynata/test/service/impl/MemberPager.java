@@ -0,0 +1,91 @@
+package com.dynata.test.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+
+import com.dynata.test.exception.ApiException;
+import com.dynata.test.model.Member;
+import com.dynata.test.service.MemberPage;
+import com.dynata.test.store.MemberStore;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Pages and streams members in member id order from one of the bitmaps of the {@link com.dynata.test.store.MemberBitmapIndex}.
+ * <p>
+ * The cursor of a page is an opaque token holding the id of its last member, the next page starts after it.
+ * Members are looked up one at a time while the bitmap is visited, so neither paging nor streaming
+ * materializes the full result.
+ */
+final class MemberPager {
+
+    static final int MAX_PAGE_SIZE = 10_000;
+    static final String INVALID_PAGE_SIZE = "Page size must be between 1 and %d";
+    static final String INVALID_CURSOR = "Invalid cursor %s";
+
+    private MemberPager() {
+    }
+
+    /**
+     * Member ids of a bitmap, visited in ascending order starting at a given id.
+     */
+    @FunctionalInterface
+    interface MemberIds {
+        void forEach(int fromId, IntPredicate visitor);
+    }
+
+    static MemberPage page(MemberIds ids, MemberStore members, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_PAGE_SIZE.formatted(MAX_PAGE_SIZE));
+        }
+        List<Member> page = new ArrayList<>(limit);
+        int[] lastId = {-1};
+        boolean[] hasMore = {false};
+        ids.forEach(cursor == null ? 0 : decodeCursor(cursor) + 1, id -> {
+            Member member = members.get(id);
+            if (member == null) {
+                return true;
+            }
+            if (page.size() == limit) {
+                hasMore[0] = true;
+                return false;
+            }
+            page.add(member);
+            lastId[0] = id;
+            return true;
+        });
+        return MemberPage.builder()
+                         .members(page)
+                         .nextCursor(hasMore[0] ? encodeCursor(lastId[0]) : null)
+                         .build();
+    }
+
+    static void forEach(MemberIds ids, MemberStore members, Consumer<Member> action) {
+        ids.forEach(0, id -> {
+            Member member = members.get(id);
+            if (member != null) {
+                action.accept(member);
+            }
+            return true;
+        });
+    }
+
+    static String encodeCursor(int lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Integer.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static int decodeCursor(String cursor) {
+        try {
+            int lastId = Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+            if (lastId < 0 || lastId == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException();
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_CURSOR.formatted(cursor));
+        }
+    }
+}
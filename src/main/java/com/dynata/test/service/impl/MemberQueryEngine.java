@@ -0,0 +1,299 @@
+package com.dynata.test.service.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.dynata.test.exception.ApiException;
+import com.dynata.test.model.Member;
+import com.dynata.test.service.MemberService.MemberFilter;
+import com.dynata.test.service.MemberService.MemberQueryResult;
+import com.dynata.test.service.MemberService.ParticipationFilter;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.MemberBitmapIndex;
+import com.dynata.test.store.MemberStore;
+import com.dynata.test.store.ParticipationStore;
+import com.dynata.test.store.ParticipationVisitor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Compiles member filters to operations on the bitmaps of the {@link MemberBitmapIndex} and executes them.
+ * <p>
+ * A filter on the active flag, or on a survey, a status or both, reads a bitmap of the index, participation filters on
+ * lengths scan the participations of their survey, or all participations when no survey is given, into a bitmap.
+ * {@code and} intersects the bitmaps of its filters, cheapest first, stopping once the intersection is empty, and
+ * subtracts the bitmaps of its {@code not} filters instead of complementing them. {@code or} unites the bitmaps of its
+ * filters and any other {@code not} is the complement within all members. The whole filter is validated before
+ * anything is evaluated, filters nested deeper than {@link #MAX_FILTER_DEPTH} are rejected.
+ */
+final class MemberQueryEngine {
+
+    static final int MAX_QUERY_SIZE = 10_000;
+    static final int MAX_FILTER_DEPTH = 32;
+    static final String INVALID_QUERY_SIZE = "Query size must be between 1 and %d";
+    static final String INVALID_QUERY_SELECT = "Select must be one of %s";
+    static final String INVALID_FILTER = "A filter must have exactly one of and, or, not, active or participated";
+    static final String EMPTY_FILTER_LIST = "The filters of and and or cannot be empty";
+    static final String FILTER_TOO_DEEP = "Filters cannot be nested more than %d levels deep";
+
+    static final String SELECT_COUNT = "count";
+    static final String SELECT_IDS = "ids";
+    static final String SELECT_MEMBERS = "members";
+    private static final List<String> SELECTS = List.of(SELECT_COUNT, SELECT_IDS, SELECT_MEMBERS);
+
+    private MemberQueryEngine() {
+    }
+
+    static MemberQueryResult execute(Dataset dataset, MemberFilter filter, String select, int limit) {
+        if (!SELECTS.contains(select)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_QUERY_SELECT.formatted(SELECTS));
+        }
+        if (!SELECT_COUNT.equals(select) && (limit < 1 || limit > MAX_QUERY_SIZE)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_QUERY_SIZE.formatted(MAX_QUERY_SIZE));
+        }
+        Node query = compile(filter);
+
+        MemberBitmapIndex index = dataset.getMemberBitmapIndex();
+        // participations may refer to ids that are not members, only members are matched
+        BitSet matches = query.evaluate(dataset);
+        matches.and(index.getMembers());
+
+        MemberQueryResult.MemberQueryResultBuilder result = MemberQueryResult.builder().count(matches.cardinality());
+        if (SELECT_COUNT.equals(select)) {
+            return result.build();
+        }
+        List<Integer> memberIds = matches.stream().limit(limit).boxed().toList();
+        if (SELECT_IDS.equals(select)) {
+            return result.memberIds(memberIds).build();
+        }
+        MemberStore members = dataset.getMemberStore();
+        List<Member> matchingMembers = memberIds.stream().map(members::get).toList();
+        return result.members(matchingMembers).build();
+    }
+
+    static Node compile(MemberFilter filter) {
+        return compile(filter, 1);
+    }
+
+    private static Node compile(MemberFilter filter, int depth) {
+        if (depth > MAX_FILTER_DEPTH) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, FILTER_TOO_DEEP.formatted(MAX_FILTER_DEPTH));
+        }
+        if (filter == null || Stream.of(filter.getAnd(), filter.getOr(), filter.getNot(), filter.getActive(), filter.getParticipated())
+                                    .filter(Objects::nonNull)
+                                    .count() != 1) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_FILTER);
+        }
+        if (filter.getAnd() != null) {
+            List<Node> included = new ArrayList<>();
+            List<Node> excluded = new ArrayList<>();
+            for (MemberFilter operand : operands(filter.getAnd())) {
+                Node node = compile(operand, depth + 1);
+                if (node instanceof Not not) {
+                    excluded.add(not.operand());
+                } else {
+                    included.add(node);
+                }
+            }
+            included.sort(Comparator.comparingInt(Node::cost));
+            excluded.sort(Comparator.comparingInt(Node::cost));
+            return new And(included, excluded);
+        }
+        if (filter.getOr() != null) {
+            return new Or(operands(filter.getOr()).stream().map(operand -> compile(operand, depth + 1)).toList());
+        }
+        if (filter.getNot() != null) {
+            return new Not(compile(filter.getNot(), depth + 1));
+        }
+        if (filter.getActive() != null) {
+            return filter.getActive() ? new Active() : new Not(new Active());
+        }
+        return compile(filter.getParticipated());
+    }
+
+    private static Node compile(ParticipationFilter filter) {
+        boolean lengthFiltered = filter.getMinLength() != null || filter.getMaxLength() != null;
+        if (!lengthFiltered && filter.getSurveyId() != null && filter.getStatusId() != null) {
+            return new SurveyStatusParticipants(filter.getSurveyId(), filter.getStatusId());
+        }
+        if (!lengthFiltered && filter.getSurveyId() != null) {
+            return new SurveyParticipants(filter.getSurveyId());
+        }
+        if (!lengthFiltered && filter.getSurveyId() == null && filter.getStatusId() != null) {
+            return new StatusParticipants(filter.getStatusId());
+        }
+        if (!lengthFiltered && filter.getSurveyId() == null) {
+            return new AllParticipants();
+        }
+        return new ScannedParticipants(filter.getSurveyId(),
+                                       filter.getStatusId(),
+                                       filter.getMinLength() == null ? Integer.MIN_VALUE : filter.getMinLength(),
+                                       filter.getMaxLength() == null ? Integer.MAX_VALUE : filter.getMaxLength());
+    }
+
+    private static List<MemberFilter> operands(List<MemberFilter> filters) {
+        if (filters.isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, EMPTY_FILTER_LIST);
+        }
+        return filters;
+    }
+
+    /**
+     * A compiled filter, evaluated to a new bitmap of the matching member ids that the caller may modify.
+     */
+    sealed interface Node {
+
+        BitSet evaluate(Dataset dataset);
+
+        /**
+         * Gets the relative cost of evaluating the node: 0 to copy bitmaps, 1 to scan the participations
+         * of a survey and 2 to scan all participations.
+         */
+        int cost();
+    }
+
+    record Active() implements Node {
+
+        @Override
+        public BitSet evaluate(Dataset dataset) {
+            return dataset.getMemberBitmapIndex().getActiveMembers();
+        }
+
+        @Override
+        public int cost() {
+            return 0;
+        }
+    }
+
+    record SurveyParticipants(int surveyId) implements Node {
+
+        @Override
+        public BitSet evaluate(Dataset dataset) {
+            return dataset.getMemberBitmapIndex().getParticipants(surveyId);
+        }
+
+        @Override
+        public int cost() {
+            return 0;
+        }
+    }
+
+    record StatusParticipants(int statusId) implements Node {
+
+        @Override
+        public BitSet evaluate(Dataset dataset) {
+            return dataset.getMemberBitmapIndex().getParticipantsWithStatus(statusId);
+        }
+
+        @Override
+        public int cost() {
+            return 0;
+        }
+    }
+
+    record SurveyStatusParticipants(int surveyId, int statusId) implements Node {
+
+        @Override
+        public BitSet evaluate(Dataset dataset) {
+            return dataset.getMemberBitmapIndex().getParticipantsWithStatus(surveyId, statusId);
+        }
+
+        @Override
+        public int cost() {
+            return 0;
+        }
+    }
+
+    record AllParticipants() implements Node {
+
+        @Override
+        public BitSet evaluate(Dataset dataset) {
+            return dataset.getMemberBitmapIndex().getAllParticipants();
+        }
+
+        @Override
+        public int cost() {
+            return 0;
+        }
+    }
+
+    record ScannedParticipants(Integer surveyId, Integer statusId, int minLength, int maxLength) implements Node {
+
+        @Override
+        public BitSet evaluate(Dataset dataset) {
+            BitSet participants = new BitSet();
+            ParticipationVisitor visitor = (memberId, participationSurveyId, participationStatusId, length) -> {
+                if ((statusId == null || statusId == participationStatusId) && length >= minLength && length <= maxLength) {
+                    participants.set(memberId);
+                }
+            };
+            ParticipationStore store = dataset.getParticipationStore();
+            if (surveyId != null) {
+                store.forEachOfSurvey(surveyId, visitor);
+            } else {
+                store.forEach(visitor);
+            }
+            return participants;
+        }
+
+        @Override
+        public int cost() {
+            return surveyId != null ? 1 : 2;
+        }
+    }
+
+    record And(List<Node> included, List<Node> excluded) implements Node {
+
+        @Override
+        public BitSet evaluate(Dataset dataset) {
+            BitSet matches = included.isEmpty() ? dataset.getMemberBitmapIndex().getMembers() : included.getFirst().evaluate(dataset);
+            for (int i = 1; i < included.size() && !matches.isEmpty(); i++) {
+                matches.and(included.get(i).evaluate(dataset));
+            }
+            for (int i = 0; i < excluded.size() && !matches.isEmpty(); i++) {
+                matches.andNot(excluded.get(i).evaluate(dataset));
+            }
+            return matches;
+        }
+
+        @Override
+        public int cost() {
+            return Stream.concat(included.stream(), excluded.stream()).mapToInt(Node::cost).max().orElse(0);
+        }
+    }
+
+    record Or(List<Node> operands) implements Node {
+
+        @Override
+        public BitSet evaluate(Dataset dataset) {
+            BitSet matches = operands.getFirst().evaluate(dataset);
+            for (int i = 1; i < operands.size(); i++) {
+                matches.or(operands.get(i).evaluate(dataset));
+            }
+            return matches;
+        }
+
+        @Override
+        public int cost() {
+            return operands.stream().mapToInt(Node::cost).max().orElse(0);
+        }
+    }
+
+    record Not(Node operand) implements Node {
+
+        @Override
+        public BitSet evaluate(Dataset dataset) {
+            BitSet matches = dataset.getMemberBitmapIndex().getMembers();
+            matches.andNot(operand.evaluate(dataset));
+            return matches;
+        }
+
+        @Override
+        public int cost() {
+            return operand.cost();
+        }
+    }
+}
@@ -1,24 +1,43 @@
 package com.dynata.test.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import com.dynata.test.exception.ApiException;
 import com.dynata.test.model.Member;
 import com.dynata.test.model.Survey;
 import com.dynata.test.service.DataService;
+import com.dynata.test.service.MemberPage;
 import com.dynata.test.service.MemberService;
 import com.dynata.test.service.SurveyService;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.MemberStore;
+import com.dynata.test.store.PointsLeaderboard;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 /**
  * Implementation of the MemberService interface.
+ * Pages and streams of members are produced in member id order from the member bitmaps by the {@link MemberPager},
+ * the leaderboard is read from the points leaderboard of the dataset, searches from its member search index and
+ * member queries are executed on the member bitmaps by the {@link MemberQueryEngine}.
  */
 @Service
+@Timed("dynata.service")
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
 
+    static final int MAX_LEADERBOARD_SIZE = 10_000;
+    static final String INVALID_LEADERBOARD_SIZE = "Leaderboard size must be between 1 and %d";
+    static final int MAX_SEARCH_SIZE = 1_000;
+    static final String INVALID_SEARCH_SIZE = "Search size must be between 1 and %d";
+    static final String EMPTY_SEARCH_QUERY = "Search query cannot be empty";
+
     private final DataService dataService;
     private final SurveyService surveyService;
 
@@ -27,11 +46,41 @@ public class MemberServiceImpl implements MemberService {
         return dataService.getAllMembers();
     }
 
+    @Override
+    public MemberPage getMembers(String cursor, int limit) {
+        Dataset dataset = dataService.getDataset();
+        return MemberPager.page(dataset.getMemberBitmapIndex()::forEachMember, dataset.getMemberStore(), cursor, limit);
+    }
+
+    @Override
+    public void forEachMember(Consumer<Member> action) {
+        Dataset dataset = dataService.getDataset();
+        MemberPager.forEach(dataset.getMemberBitmapIndex()::forEachMember, dataset.getMemberStore(), action);
+    }
+
     @Override
     public Member getMemberById(int id) {
         return dataService.getMemberById(id);
     }
 
+    @Override
+    public List<Member> searchMembers(String query, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_SIZE) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_SEARCH_SIZE.formatted(MAX_SEARCH_SIZE));
+        }
+        if (query == null || query.isBlank()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, EMPTY_SEARCH_QUERY);
+        }
+        Dataset dataset = dataService.getDataset();
+        return toMembers(dataset.getMemberSearchIndex().search(query, limit), dataset.getMemberStore());
+    }
+
+    @Override
+    public List<Member> getMembersByEmail(String email) {
+        Dataset dataset = dataService.getDataset();
+        return toMembers(dataset.getMemberSearchIndex().findByEmail(email), dataset.getMemberStore());
+    }
+
     @Override
     public List<Member> getActiveMembers() {
         return dataService.getAllMembers().stream()
@@ -39,6 +88,18 @@ public class MemberServiceImpl implements MemberService {
                           .collect(Collectors.toList());
     }
 
+    @Override
+    public MemberPage getActiveMembers(String cursor, int limit) {
+        Dataset dataset = dataService.getDataset();
+        return MemberPager.page(dataset.getMemberBitmapIndex()::forEachActiveMember, dataset.getMemberStore(), cursor, limit);
+    }
+
+    @Override
+    public void forEachActiveMember(Consumer<Member> action) {
+        Dataset dataset = dataService.getDataset();
+        MemberPager.forEach(dataset.getMemberBitmapIndex()::forEachActiveMember, dataset.getMemberStore(), action);
+    }
+
     @Override
     public List<Survey> getSurveysCompletedByMember(int memberId) {
         return surveyService.getSurveysCompletedByMember(memberId);
@@ -48,4 +109,51 @@ public class MemberServiceImpl implements MemberService {
     public Map<Integer, Integer> getPointsCollectedByMember(int memberId) {
         return surveyService.getPointsCollectedByMember(memberId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<Integer, List<Survey>> getSurveysCompletedByMembers(Collection<Integer> memberIds) {
+        return surveyService.getSurveysCompletedByMembers(memberIds);
+    }
+
+    @Override
+    public Map<Integer, Map<Integer, Integer>> getPointsCollectedByMembers(Collection<Integer> memberIds) {
+        return surveyService.getPointsCollectedByMembers(memberIds);
+    }
+
+    @Override
+    public List<LeaderboardEntry> getLeaderboard(int limit) {
+        if (limit < 1 || limit > MAX_LEADERBOARD_SIZE) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_LEADERBOARD_SIZE.formatted(MAX_LEADERBOARD_SIZE));
+        }
+        Dataset dataset = dataService.getDataset();
+        MemberStore members = dataset.getMemberStore();
+        return dataset.getPointsLeaderboard().getTop(limit).stream()
+                      .map(entry -> toLeaderboardEntry(entry, members))
+                      .collect(Collectors.toList());
+    }
+
+    @Override
+    public LeaderboardEntry getLeaderboardEntry(int memberId) {
+        Dataset dataset = dataService.getDataset();
+        PointsLeaderboard.Entry entry = dataset.getPointsLeaderboard().getEntry(memberId);
+        return entry == null ? null : toLeaderboardEntry(entry, dataset.getMemberStore());
+    }
+
+    @Override
+    public MemberQueryResult queryMembers(MemberFilter filter, String select, int limit) {
+        return MemberQueryEngine.execute(dataService.getDataset(), filter, select, limit);
+    }
+
+    private static List<Member> toMembers(List<Integer> slots, MemberStore members) {
+        List<Member> memberList = members.asList();
+        return slots.stream().map(memberList::get).collect(Collectors.toList());
+    }
+
+    private static LeaderboardEntry toLeaderboardEntry(PointsLeaderboard.Entry entry, MemberStore members) {
+        return LeaderboardEntry.builder()
+                               .rank(entry.rank())
+                               .points(entry.points())
+                               .member(members.get(entry.memberId()))
+                               .build();
+    }
+}
@@ -1,118 +1,251 @@
 package com.dynata.test.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import com.dynata.test.exception.ApiException;
 import com.dynata.test.model.Member;
-import com.dynata.test.model.Participation;
-import com.dynata.test.model.Status;
+import com.dynata.test.model.StatusCode;
 import com.dynata.test.model.Survey;
 import com.dynata.test.service.DataService;
+import com.dynata.test.service.MemberPage;
 import com.dynata.test.service.SurveyService;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.LengthHistogram;
+import com.dynata.test.store.MemberBitmapIndex;
+import com.dynata.test.store.MemberStore;
+import com.dynata.test.store.SurveyCounters;
+import com.dynata.test.store.SurveyStatisticsEngine;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 /**
  * Implementation of the SurveyService interface.
+ * Queries iterate the columnar participation store and compare statuses by id,
+ * survey statistics are read from the counters maintained by the data service.
+ * Every query reads a single {@link Dataset}, so its result is consistent even if the data is reloaded meanwhile.
+ * Batch queries answer all ids from the same dataset.
  */
 @Service
+@Timed("dynata.service")
 @RequiredArgsConstructor
 public class SurveyServiceImpl implements SurveyService {
 
+    private static final int COMPLETED = StatusCode.COMPLETED.getId();
+
+    static final int MAX_BATCH_SIZE = 10_000;
+    static final String INVALID_BATCH_SIZE = "Batch must contain between 1 and %d ids";
+    static final String NULL_BATCH_ID = "Batch ids cannot be null";
+    static final String INVALID_FULFILMENT_SORT = "Sort must be one of %s";
+
+    private static final Map<String, Comparator<SurveyFulfilment>> FULFILMENT_SORTS =
+            Map.of("id", Comparator.comparingInt(SurveyFulfilment::getSurveyId),
+                   "remaining", Comparator.comparingInt(SurveyFulfilment::getRemainingCompletes).reversed()
+                                          .thenComparingInt(SurveyFulfilment::getSurveyId),
+                   "fulfilled", Comparator.comparingDouble(SurveyFulfilment::getPercentFulfilled)
+                                          .thenComparingInt(SurveyFulfilment::getSurveyId));
+
     private final DataService dataService;
 
     @Override
     public List<Member> getRespondentsWhoCompletedSurvey(int surveyId) {
-        return dataService.getAllParticipations()
-                          .stream()
-                          .filter(p -> p.getSurveyId() == surveyId)
-                          .filter(p -> p.getStatus().equals(Status.COMPLETED))
-                          .map(p -> dataService.getMemberById(p.getMemberId()))
-                          .toList();
+        return respondentsWhoCompletedSurvey(dataService.getDataset(), surveyId);
     }
 
     @Override
     public List<Survey> getSurveysCompletedByMember(int memberId) {
-        return dataService.getAllParticipations()
-                          .stream()
-                          .filter(p -> p.getMemberId() == memberId)
-                          .filter(p -> p.getStatus().equals(Status.COMPLETED))
-                          .map(p -> dataService.getSurveyById(p.getSurveyId()))
-                          .collect(Collectors.toList());
+        return surveysCompletedByMember(dataService.getDataset(), memberId);
     }
 
     @Override
     public Map<Integer, Integer> getPointsCollectedByMember(int memberId) {
+        return pointsCollectedByMember(dataService.getDataset(), memberId);
+    }
+
+    @Override
+    public Map<Integer, List<Member>> getRespondentsWhoCompletedSurveys(Collection<Integer> surveyIds) {
+        return batch(surveyIds, SurveyServiceImpl::respondentsWhoCompletedSurvey);
+    }
+
+    @Override
+    public Map<Integer, List<Survey>> getSurveysCompletedByMembers(Collection<Integer> memberIds) {
+        return batch(memberIds, SurveyServiceImpl::surveysCompletedByMember);
+    }
+
+    @Override
+    public Map<Integer, Map<Integer, Integer>> getPointsCollectedByMembers(Collection<Integer> memberIds) {
+        return batch(memberIds, SurveyServiceImpl::pointsCollectedByMember);
+    }
+
+    /**
+     * Runs a lookup for every distinct id against the same dataset, keeping the order of the ids.
+     */
+    private <T> Map<Integer, T> batch(Collection<Integer> ids, BatchLookup<T> lookup) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_BATCH_SIZE.formatted(MAX_BATCH_SIZE));
+        }
+        Dataset dataset = dataService.getDataset();
+        Map<Integer, T> results = LinkedHashMap.newLinkedHashMap(ids.size());
+        for (Integer id : ids) {
+            if (id == null) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, NULL_BATCH_ID);
+            }
+            results.computeIfAbsent(id, key -> lookup.apply(dataset, key));
+        }
+        return results;
+    }
+
+    private static List<Member> respondentsWhoCompletedSurvey(Dataset dataset, int surveyId) {
+        MemberStore members = dataset.getMemberStore();
+        List<Member> respondents = new ArrayList<>();
+        dataset.getParticipationStore().forEachOfSurvey(surveyId, (memberId, id, statusId, length) -> {
+            if (statusId == COMPLETED) {
+                respondents.add(members.get(memberId));
+            }
+        });
+        return respondents;
+    }
+
+    private static List<Survey> surveysCompletedByMember(Dataset dataset, int memberId) {
+        Map<Integer, Survey> surveysById = dataset.getSurveysMap();
+        List<Survey> surveys = new ArrayList<>();
+        dataset.getParticipationStore().forEachOfMember(memberId, (id, surveyId, statusId, length) -> {
+            if (statusId == COMPLETED) {
+                surveys.add(surveysById.get(surveyId));
+            }
+        });
+        return surveys;
+    }
+
+    private static Map<Integer, Integer> pointsCollectedByMember(Dataset dataset, int memberId) {
+        Map<Integer, Survey> surveysById = dataset.getSurveysMap();
         Map<Integer, Integer> pointsMap = new HashMap<>();
 
-        dataService.getAllParticipations()
-                   .stream()
-                   .filter(p -> p.getMemberId() == memberId)
-                   .filter(Participation::isEligibleForPoints)
-                   .forEach(p -> {
-                       Survey survey = dataService.getSurveyById(p.getSurveyId());
-                       int points = p.getStatus().equals(Status.COMPLETED)
-                               ? survey.getCompletionPoints()
-                               : survey.getFilteredPoints();
-                       pointsMap.put(survey.getId(), points);
-                   });
+        dataset.getParticipationStore().forEachOfMember(memberId, (id, surveyId, statusId, length) -> {
+            if (StatusCode.isEligibleForPoints(statusId)) {
+                Survey survey = surveysById.get(surveyId);
+                int points = statusId == COMPLETED
+                        ? survey.getCompletionPoints()
+                        : survey.getFilteredPoints();
+                pointsMap.put(survey.getId(), points);
+            }
+        });
 
         return pointsMap;
     }
 
     @Override
     public List<Member> getMembersWhoCanBeInvitedForSurvey(int surveyId) {
-        List<Integer> participatedMemberIds = dataService.getAllParticipations().stream()
-                                                         .filter(p -> p.getSurveyId() == surveyId)
-                                                         .map(Participation::getMemberId)
-                                                         .toList();
+        Dataset dataset = dataService.getDataset();
+        MemberStore members = dataset.getMemberStore();
+        return dataset.getMemberBitmapIndex()
+                      .getInvitableMembers(surveyId)
+                      .stream()
+                      .mapToObj(members::get)
+                      .collect(Collectors.toList());
+    }
 
-        return dataService.getAllMembers()
-                          .stream()
-                          .filter(Member::isActive)
-                          .filter(m -> !participatedMemberIds.contains(m.getId()))
-                          .collect(Collectors.toList());
+    @Override
+    public MemberPage getMembersWhoCanBeInvitedForSurvey(int surveyId, String cursor, int limit) {
+        Dataset dataset = dataService.getDataset();
+        MemberBitmapIndex index = dataset.getMemberBitmapIndex();
+        return MemberPager.page((fromId, visitor) -> index.forEachInvitableMember(surveyId, fromId, visitor), dataset.getMemberStore(), cursor, limit);
     }
 
     @Override
-    public List<SurveyStatistics> getSurveyStatistics() {
-        return dataService.getAllSurveys().stream()
-                          .map(this::createSurveyStatistics)
-                          .collect(Collectors.toList());
+    public void forEachMemberWhoCanBeInvitedForSurvey(int surveyId, Consumer<Member> action) {
+        Dataset dataset = dataService.getDataset();
+        MemberBitmapIndex index = dataset.getMemberBitmapIndex();
+        MemberPager.forEach((fromId, visitor) -> index.forEachInvitableMember(surveyId, fromId, visitor), dataset.getMemberStore(), action);
     }
 
-    private SurveyStatistics createSurveyStatistics(Survey survey) {
-        List<Participation> surveyParticipation = dataService.getAllParticipations().stream()
-                                                             .filter(p -> p.getSurveyId() == survey.getId())
-                                                             .toList();
+    @Override
+    public int[] getIdsOfMembersWhoCanBeInvitedForSurvey(int surveyId) {
+        return dataService.getMemberBitmapIndex().getInvitableMembers(surveyId).stream().toArray();
+    }
 
-        int numberOfCompletes = (int) surveyParticipation.stream()
-                                                         .filter(p -> p.getStatus().equals(Status.COMPLETED))
-                                                         .count();
+    @Override
+    public int countMembersWhoCanBeInvitedForSurvey(int surveyId) {
+        return dataService.getMemberBitmapIndex().getInvitableMembers(surveyId).cardinality();
+    }
 
-        int numberOfFilteredParticipants = (int) surveyParticipation.stream()
-                                                                    .filter(p -> p.getStatus().equals(Status.FILTERED))
-                                                                    .count();
+    @Override
+    public List<SurveyFulfilment> getSurveyFulfilment(boolean underFulfilledOnly, String sort) {
+        Comparator<SurveyFulfilment> order = FULFILMENT_SORTS.get(sort);
+        if (order == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, INVALID_FULFILMENT_SORT.formatted(new TreeSet<>(FULFILMENT_SORTS.keySet())));
+        }
+        Dataset dataset = dataService.getDataset();
+        SurveyStatisticsEngine engine = dataset.getSurveyStatisticsEngine();
+        return dataset.getSurveys().stream()
+                      .map(survey -> createSurveyFulfilment(survey, engine.getCounters(survey.getId())))
+                      .filter(fulfilment -> !underFulfilledOnly || fulfilment.getRemainingCompletes() > 0)
+                      .sorted(order)
+                      .collect(Collectors.toList());
+    }
 
-        int numberOfRejectedParticipants = (int) surveyParticipation.stream()
-                                                                    .filter(p -> p.getStatus().equals(Status.REJECTED))
-                                                                    .count();
+    private static SurveyFulfilment createSurveyFulfilment(Survey survey, SurveyCounters counters) {
+        int expected = survey.getExpectedCompletes();
+        int completes = counters.getCompletes();
+        return SurveyFulfilment.builder()
+                               .surveyId(survey.getId())
+                               .surveyName(survey.getName())
+                               .expectedCompletes(expected)
+                               .completes(completes)
+                               .remainingCompletes(Math.max(0, expected - completes))
+                               .percentFulfilled(expected <= 0 ? 100 : 100.0 * completes / expected)
+                               .build();
+    }
 
-        double averageLengthOfTime = surveyParticipation.stream()
-                                                        .filter(p -> p.getStatus().equals(Status.COMPLETED))
-                                                        .mapToInt(Participation::getLength)
-                                                        .average()
-                                                        .orElse(0);
+    @Override
+    public InvitationPlan planInvitations(int surveyId, int limit) {
+        Dataset dataset = dataService.getDataset();
+        Survey survey = dataset.getSurveysMap().get(surveyId);
+        return survey == null ? null : InvitationPlanner.plan(dataset, survey, limit);
+    }
+
+    @Override
+    public List<SurveyStatistics> getSurveyStatistics() {
+        Dataset dataset = dataService.getDataset();
+        SurveyStatisticsEngine engine = dataset.getSurveyStatisticsEngine();
+        return dataset.getSurveys().stream()
+                      .map(survey -> createSurveyStatistics(survey, engine.getCounters(survey.getId())))
+                      .collect(Collectors.toList());
+    }
 
+    private SurveyStatistics createSurveyStatistics(Survey survey, SurveyCounters counters) {
+        LengthHistogram lengths = counters.getCompletedLengths();
         return SurveyStatistics.builder()
                                .surveyId(survey.getId())
                                .surveyName(survey.getName())
-                               .numberOfCompletes(numberOfCompletes)
-                               .numberOfFilteredParticipants(numberOfFilteredParticipants)
-                               .numberOfRejectedParticipants(numberOfRejectedParticipants)
-                               .averageLengthOfTime(averageLengthOfTime)
+                               .numberOfCompletes(counters.getCompletes())
+                               .numberOfFilteredParticipants(counters.getFiltered())
+                               .numberOfRejectedParticipants(counters.getRejected())
+                               .averageLengthOfTime(counters.getAverageCompletedLength())
+                               .minLengthOfTime(lengths.getMin())
+                               .medianLengthOfTime(lengths.getPercentile(50))
+                               .p90LengthOfTime(lengths.getPercentile(90))
+                               .p99LengthOfTime(lengths.getPercentile(99))
+                               .maxLengthOfTime(lengths.getMax())
                                .build();
     }
+
+    /**
+     * A lookup of one id in a dataset.
+     */
+    @FunctionalInterface
+    private interface BatchLookup<T> {
+
+        T apply(Dataset dataset, int id);
+    }
 }
@@ -0,0 +1,45 @@
+package com.dynata.test.snapshot;
+
+import java.util.List;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Status;
+import com.dynata.test.model.Survey;
+import com.dynata.test.store.ParticipationVisitor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Data read from a binary snapshot by the {@link SnapshotReader}: the members, surveys and statuses,
+ * and the participations as columns.
+ */
+@Getter
+@Builder
+public class DataSnapshot {
+
+    /**
+     * Fingerprint of the source files the snapshot was written from.
+     */
+    private final long fingerprint;
+
+    private final List<Member> members;
+    private final List<Survey> surveys;
+    private final List<Status> statuses;
+
+    private final int participationCount;
+    private final int[] memberIds;
+    private final int[] surveyIds;
+    private final byte[] statusIds;
+    private final int[] lengths;
+
+    /**
+     * Visits every participation of the snapshot in the order they were written.
+     *
+     * @param visitor the visitor
+     */
+    public void forEachParticipation(ParticipationVisitor visitor) {
+        for (int row = 0; row < participationCount; row++) {
+            visitor.visit(memberIds[row], surveyIds[row], statusIds[row], lengths[row]);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.dynata.test.snapshot;
+
+/**
+ * Layout of the binary snapshot file, all values are big-endian.
+ * <pre>
+ * header         int magic, int version, long fingerprint
+ * strings        int count, long byte length, int[count] end offsets, byte[byte length] UTF-8 data
+ * statuses       int count, int[] ids, int[] name refs
+ * surveys        int count, int[] ids, int[] name refs, int[] expected completes, int[] completion points, int[] filtered points
+ * members        int count, int[] ids, int[] full name refs, int[] email refs, byte[] active flags
+ * participations int count, int[] member ids, int[] survey ids, byte[] status ids, int[] lengths
+ * trailer        int magic
+ * </pre>
+ * Every section is columnar, so each column can be read with a single bulk copy from the mapped file.
+ * Names and emails are stored once in the string table and referenced by index.
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x44594E53;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+
+    private SnapshotFormat() {
+    }
+}
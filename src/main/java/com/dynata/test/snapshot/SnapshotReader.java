@@ -0,0 +1,230 @@
+package com.dynata.test.snapshot;
+
+import static com.dynata.test.snapshot.SnapshotFormat.HEADER_SIZE;
+import static com.dynata.test.snapshot.SnapshotFormat.MAGIC;
+import static com.dynata.test.snapshot.SnapshotFormat.VERSION;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Status;
+import com.dynata.test.model.Survey;
+
+/**
+ * Reads a binary snapshot file written by the {@link SnapshotWriter}.
+ * <p>
+ * Every column is memory-mapped and copied into a primitive array with a single bulk read,
+ * so reading a snapshot costs little more than copying its bytes.
+ */
+public class SnapshotReader {
+
+    private static final int MAX_MAPPED_BYTES = 1 << 30;
+
+    /**
+     * Reads the snapshot if it exists and was written from source files with the given fingerprint
+     * by the current snapshot version.
+     *
+     * @param file        the snapshot file
+     * @param fingerprint the fingerprint of the current source files
+     * @return the snapshot, or empty if it is missing or stale
+     * @throws IOException if the snapshot cannot be read or is corrupt
+     */
+    public Optional<DataSnapshot> read(Path file, long fingerprint) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Input in = new Input(file, channel);
+            if (channel.size() < HEADER_SIZE || in.readInt() != MAGIC) {
+                throw new IOException("%s is not a data snapshot".formatted(file));
+            }
+            if (in.readInt() != VERSION || in.readLong() != fingerprint) {
+                return Optional.empty();
+            }
+            String[] strings = readStrings(in);
+            List<Status> statuses = readStatuses(in, strings);
+            List<Survey> surveys = readSurveys(in, strings);
+            List<Member> members = readMembers(in, strings);
+
+            int participationCount = in.readCount();
+            DataSnapshot snapshot = DataSnapshot.builder()
+                                                .fingerprint(fingerprint)
+                                                .statuses(statuses)
+                                                .surveys(surveys)
+                                                .members(members)
+                                                .participationCount(participationCount)
+                                                .memberIds(in.readInts(participationCount))
+                                                .surveyIds(in.readInts(participationCount))
+                                                .statusIds(in.readBytes(participationCount))
+                                                .lengths(in.readInts(participationCount))
+                                                .build();
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Snapshot %s is corrupt".formatted(file));
+            }
+            return Optional.of(snapshot);
+        }
+    }
+
+    private static String[] readStrings(Input in) throws IOException {
+        int count = in.readCount();
+        long byteLength = in.readLong();
+        if (byteLength < 0 || byteLength > Integer.MAX_VALUE) {
+            throw in.corrupt();
+        }
+        int[] endOffsets = in.readInts(count);
+        byte[] data = in.readBytes((int) byteLength);
+        String[] strings = new String[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = endOffsets[i];
+            if (end < start || end > data.length) {
+                throw in.corrupt();
+            }
+            strings[i] = new String(data, start, end - start, StandardCharsets.UTF_8);
+            start = end;
+        }
+        return strings;
+    }
+
+    private static List<Status> readStatuses(Input in, String[] strings) throws IOException {
+        int count = in.readCount();
+        int[] ids = in.readInts(count);
+        int[] names = in.readInts(count);
+        List<Status> statuses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            statuses.add(Status.builder()
+                               .id(ids[i])
+                               .name(in.string(strings, names[i]))
+                               .build());
+        }
+        return statuses;
+    }
+
+    private static List<Survey> readSurveys(Input in, String[] strings) throws IOException {
+        int count = in.readCount();
+        int[] ids = in.readInts(count);
+        int[] names = in.readInts(count);
+        int[] expectedCompletes = in.readInts(count);
+        int[] completionPoints = in.readInts(count);
+        int[] filteredPoints = in.readInts(count);
+        List<Survey> surveys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            surveys.add(Survey.builder()
+                              .id(ids[i])
+                              .name(in.string(strings, names[i]))
+                              .expectedCompletes(expectedCompletes[i])
+                              .completionPoints(completionPoints[i])
+                              .filteredPoints(filteredPoints[i])
+                              .build());
+        }
+        return surveys;
+    }
+
+    private static List<Member> readMembers(Input in, String[] strings) throws IOException {
+        int count = in.readCount();
+        int[] ids = in.readInts(count);
+        int[] fullNames = in.readInts(count);
+        int[] emails = in.readInts(count);
+        byte[] active = in.readBytes(count);
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            members.add(Member.builder()
+                              .id(ids[i])
+                              .fullname(in.string(strings, fullNames[i]))
+                              .email(in.string(strings, emails[i]))
+                              .active(active[i] != 0)
+                              .build());
+        }
+        return members;
+    }
+
+    /**
+     * Sequential reader over the snapshot file, mapping every column separately.
+     */
+    private static final class Input {
+        private final Path file;
+        private final FileChannel channel;
+        private long position;
+
+        private Input(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+
+        private int readInt() throws IOException {
+            return map(Integer.BYTES).getInt();
+        }
+
+        private long readLong() throws IOException {
+            return map(Long.BYTES).getLong();
+        }
+
+        private int readCount() throws IOException {
+            int count = readInt();
+            if (count < 0) {
+                throw corrupt();
+            }
+            return count;
+        }
+
+        private int[] readInts(int count) throws IOException {
+            int[] values = new int[count];
+            int perMapping = MAX_MAPPED_BYTES / Integer.BYTES;
+            for (int offset = 0; offset < count; offset += perMapping) {
+                int length = Math.min(perMapping, count - offset);
+                map((long) length * Integer.BYTES).asIntBuffer().get(values, offset, length);
+            }
+            return values;
+        }
+
+        private byte[] readBytes(int count) throws IOException {
+            byte[] values = new byte[count];
+            for (int offset = 0; offset < count; offset += MAX_MAPPED_BYTES) {
+                int length = Math.min(MAX_MAPPED_BYTES, count - offset);
+                map(length).get(values, offset, length);
+            }
+            return values;
+        }
+
+        private String string(String[] strings, int ref) throws IOException {
+            if (ref < 0 || ref >= strings.length) {
+                throw corrupt();
+            }
+            return strings[ref];
+        }
+
+        private ByteBuffer map(long size) throws IOException {
+            if (position + size > channel.size()) {
+                throw corrupt();
+            }
+            ByteBuffer buffer = size <= Long.BYTES
+                                ? readSmall((int) size)
+                                : channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            position += size;
+            return buffer;
+        }
+
+        private ByteBuffer readSmall(int size) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw corrupt();
+                }
+            }
+            return buffer.flip();
+        }
+
+        private IOException corrupt() {
+            return new IOException("Snapshot %s is corrupt".formatted(file));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.dynata.test.snapshot;
+
+import static com.dynata.test.snapshot.SnapshotFormat.MAGIC;
+import static com.dynata.test.snapshot.SnapshotFormat.VERSION;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Status;
+import com.dynata.test.model.Survey;
+import com.dynata.test.store.ParticipationStore;
+
+/**
+ * Writes the loaded data into a binary snapshot file in the {@link SnapshotFormat}.
+ * <p>
+ * The snapshot is written into a temporary file next to the target and then moved over it,
+ * so a reader never sees a partially written snapshot.
+ */
+public class SnapshotWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes a snapshot of the given data.
+     *
+     * @param file           the snapshot file
+     * @param fingerprint    the fingerprint of the source files of the data
+     * @param members        the members
+     * @param surveys        the surveys
+     * @param statuses       the statuses
+     * @param participations the participations
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void write(Path file,
+                      long fingerprint,
+                      List<Member> members,
+                      List<Survey> surveys,
+                      List<Status> statuses,
+                      ParticipationStore participations) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint);
+                StringTable strings = new StringTable(members, surveys, statuses);
+                strings.write(out);
+                writeStatuses(out, statuses, strings);
+                writeSurveys(out, surveys, strings);
+                writeMembers(out, members, strings);
+                writeParticipations(out, participations);
+                out.writeInt(MAGIC);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static void writeStatuses(DataOutputStream out, List<Status> statuses, StringTable strings) throws IOException {
+        out.writeInt(statuses.size());
+        for (Status status : statuses) {
+            out.writeInt(status.getId());
+        }
+        for (Status status : statuses) {
+            out.writeInt(strings.ref(status.getName()));
+        }
+    }
+
+    private static void writeSurveys(DataOutputStream out, List<Survey> surveys, StringTable strings) throws IOException {
+        out.writeInt(surveys.size());
+        for (Survey survey : surveys) {
+            out.writeInt(survey.getId());
+        }
+        for (Survey survey : surveys) {
+            out.writeInt(strings.ref(survey.getName()));
+        }
+        for (Survey survey : surveys) {
+            out.writeInt(survey.getExpectedCompletes());
+        }
+        for (Survey survey : surveys) {
+            out.writeInt(survey.getCompletionPoints());
+        }
+        for (Survey survey : surveys) {
+            out.writeInt(survey.getFilteredPoints());
+        }
+    }
+
+    private static void writeMembers(DataOutputStream out, List<Member> members, StringTable strings) throws IOException {
+        out.writeInt(members.size());
+        for (Member member : members) {
+            out.writeInt(member.getId());
+        }
+        for (Member member : members) {
+            out.writeInt(strings.ref(member.getFullname()));
+        }
+        for (Member member : members) {
+            out.writeInt(strings.ref(member.getEmail()));
+        }
+        for (Member member : members) {
+            out.writeByte(member.isActive() ? 1 : 0);
+        }
+    }
+
+    private static void writeParticipations(DataOutputStream out, ParticipationStore participations) throws IOException {
+        int size = participations.size();
+        out.writeInt(size);
+        for (int row = 0; row < size; row++) {
+            out.writeInt(participations.getMemberId(row));
+        }
+        for (int row = 0; row < size; row++) {
+            out.writeInt(participations.getSurveyId(row));
+        }
+        for (int row = 0; row < size; row++) {
+            out.writeByte(participations.getStatusId(row));
+        }
+        for (int row = 0; row < size; row++) {
+            out.writeInt(participations.getLength(row));
+        }
+    }
+
+    /**
+     * Distinct strings of the snapshot, every string is stored once and referenced by its index.
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> refs = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private long byteLength;
+
+        private StringTable(List<Member> members, List<Survey> surveys, List<Status> statuses) {
+            statuses.forEach(status -> add(status.getName()));
+            surveys.forEach(survey -> add(survey.getName()));
+            members.forEach(member -> {
+                add(member.getFullname());
+                add(member.getEmail());
+            });
+        }
+
+        private void add(String value) {
+            refs.computeIfAbsent(value, key -> {
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                values.add(bytes);
+                byteLength += bytes.length;
+                return values.size() - 1;
+            });
+        }
+
+        private int ref(String value) {
+            return refs.get(value);
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            if (byteLength > Integer.MAX_VALUE) {
+                throw new IOException("String table of %d bytes is too large for a snapshot".formatted(byteLength));
+            }
+            out.writeInt(values.size());
+            out.writeLong(byteLength);
+            int offset = 0;
+            for (byte[] value : values) {
+                offset += value.length;
+                out.writeInt(offset);
+            }
+            for (byte[] value : values) {
+                out.write(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.dynata.test.store;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Participation;
+import com.dynata.test.model.Status;
+import com.dynata.test.model.Survey;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * One complete, consistent version of the loaded data: the member store and search index, the surveys and statuses with their
+ * lookup maps, the participation store and every index derived from it.
+ * <p>
+ * A dataset is fully built before it is published and is never replaced piece by piece, a reload builds
+ * a new dataset and swaps the reference to it. Lists and maps are unmodifiable, only participations can
+ * still be appended, which updates the store and every index in place and increments the revision of the dataset.
+ */
+@Getter
+public class Dataset {
+
+    private final long version;
+    private final Instant loadedAt;
+    private final Duration loadDuration;
+    private final int loadedParticipations;
+
+    private final MemberStore memberStore;
+    private final MemberSearchIndex memberSearchIndex;
+    private final List<Survey> surveys;
+    private final List<Status> statuses;
+    private final Map<Integer, Survey> surveysMap;
+    private final Map<Integer, Status> statusesMap;
+
+    private final ParticipationStore participationStore;
+    private final SurveyStatisticsEngine surveyStatisticsEngine;
+    private final MemberBitmapIndex memberBitmapIndex;
+    private final PointsLeaderboard pointsLeaderboard;
+    private final MemberResponseRates memberResponseRates;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong revision = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final NavigableMap<Integer, Instant> appendedAt = new ConcurrentSkipListMap<>();
+
+    private Dataset(long version,
+                    List<Member> members,
+                    List<Survey> surveys,
+                    List<Status> statuses,
+                    ParticipationStore participationStore,
+                    int statisticsParallelism,
+                    long loadStartNanos) {
+        this.version = version;
+        this.memberStore = MemberStore.of(members);
+        this.memberSearchIndex = MemberSearchIndex.build(members);
+        this.surveys = List.copyOf(surveys);
+        this.statuses = List.copyOf(statuses);
+        this.surveysMap = toMap(this.surveys, Survey::getId);
+        this.statusesMap = toMap(this.statuses, Status::getId);
+        this.participationStore = participationStore;
+        this.loadedParticipations = participationStore.size();
+        this.surveyStatisticsEngine = SurveyStatisticsEngine.build(participationStore, statisticsParallelism);
+        this.memberBitmapIndex = MemberBitmapIndex.build(memberStore.asList(), participationStore);
+        this.pointsLeaderboard = PointsLeaderboard.build(memberStore.asList(), this.surveysMap, participationStore);
+        this.memberResponseRates = MemberResponseRates.build(memberStore, participationStore);
+        this.loadedAt = Instant.now();
+        this.loadDuration = Duration.ofNanos(System.nanoTime() - loadStartNanos);
+    }
+
+    /**
+     * Builds a dataset of the given data, storing the members in a {@link MemberStore}, indexing them for search and
+     * deriving the lookup maps, the survey statistics, the member bitmaps, the points leaderboard and the member
+     * response rates.
+     * The participation store is adopted, not copied.
+     *
+     * @param version            the version of the dataset
+     * @param members            the members
+     * @param surveys            the surveys
+     * @param statuses           the statuses
+     * @param participationStore the participations
+     * @param loadStartNanos     the {@link System#nanoTime()} at which loading of the dataset started
+     * @return a new dataset
+     */
+    public static Dataset build(long version,
+                                List<Member> members,
+                                List<Survey> surveys,
+                                List<Status> statuses,
+                                ParticipationStore participationStore,
+                                long loadStartNanos) {
+        return build(version, members, surveys, statuses, participationStore, 1, loadStartNanos);
+    }
+
+    /**
+     * Builds a dataset of the given data like {@link #build(long, List, List, List, ParticipationStore, long)},
+     * aggregating the survey statistics in parallel.
+     *
+     * @param version               the version of the dataset
+     * @param members               the members
+     * @param surveys               the surveys
+     * @param statuses              the statuses
+     * @param participationStore    the participations
+     * @param statisticsParallelism the number of partitions the survey statistics are aggregated in, 1 to aggregate sequentially
+     * @param loadStartNanos        the {@link System#nanoTime()} at which loading of the dataset started
+     * @return a new dataset
+     */
+    public static Dataset build(long version,
+                                List<Member> members,
+                                List<Survey> surveys,
+                                List<Status> statuses,
+                                ParticipationStore participationStore,
+                                int statisticsParallelism,
+                                long loadStartNanos) {
+        return new Dataset(version, members, surveys, statuses, participationStore, statisticsParallelism, loadStartNanos);
+    }
+
+    /**
+     * Creates an empty dataset of version 0, which is served until the first dataset is loaded.
+     *
+     * @return a new empty dataset
+     */
+    public static Dataset empty() {
+        return build(0, List.of(), List.of(), List.of(), new ParticipationStore(), System.nanoTime());
+    }
+
+    /**
+     * Appends a participation and records it in the survey statistics, the member bitmaps, the points leaderboard
+     * and the member response rates.
+     *
+     * @param memberId the member ID
+     * @param surveyId the survey ID
+     * @param statusId the status ID
+     * @param length   the length of time spent on the survey
+     */
+    public void appendParticipation(int memberId, int surveyId, int statusId, int length) {
+        appendParticipation(memberId, surveyId, statusId, length, Instant.now());
+    }
+
+    private void appendParticipation(int memberId, int surveyId, int statusId, int length, Instant time) {
+        appendedAt.put(participationStore.append(memberId, surveyId, statusId, length), time);
+        recordParticipation(memberId, surveyId, statusId, length);
+        revision.incrementAndGet();
+    }
+
+    /**
+     * Appends participations with a single store append and records them in every index.
+     *
+     * @param participations the participations
+     */
+    public void appendParticipations(Collection<Participation> participations) {
+        Instant time = Instant.now();
+        appendedAt.put(participationStore.appendAll(participations), time);
+        participations.forEach(participation -> recordParticipation(participation.getMemberId(),
+                                                                    participation.getSurveyId(),
+                                                                    participation.getStatus().getId(),
+                                                                    participation.getLength()));
+        revision.incrementAndGet();
+    }
+
+    /**
+     * Appends all participations that were appended to the given dataset after it was loaded,
+     * so that they survive the replacement of that dataset by this one.
+     *
+     * @param previous the dataset replaced by this one
+     * @return the number of carried over participations
+     */
+    public int carryOverAppendedParticipations(Dataset previous) {
+        return carryOverAppendedParticipations(previous, null);
+    }
+
+    /**
+     * Appends the participations that were appended to the given dataset after it was loaded and that are not
+     * contained in the participation file this dataset was loaded from, keeping the time they were appended at.
+     * <p>
+     * Every participation appended at or after the given modification time of the file is carried over, it cannot
+     * be in the file. A participation appended before may have been written to the file, e.g. by an export of the
+     * running service, so it is only carried over if the loaded participations do not already contain an equal
+     * participation that no other carried over participation was matched with.
+     *
+     * @param previous           the dataset replaced by this one
+     * @param sourceModifiedAt   the modification time of the participation file, or null to carry over every participation
+     * @return the number of carried over participations
+     */
+    public int carryOverAppendedParticipations(Dataset previous, Instant sourceModifiedAt) {
+        ParticipationStore previousStore = previous.getParticipationStore();
+        int end = previousStore.size();
+        Map<Row, Integer> unmatchedLoaded = new HashMap<>();
+        List<Row> carriedOver = new ArrayList<>();
+        List<Instant> carriedOverAt = new ArrayList<>();
+        for (int row = previous.getLoadedParticipations(); row < end; row++) {
+            Map.Entry<Integer, Instant> append = previous.appendedAt.floorEntry(row);
+            Instant time = append == null ? Instant.now() : append.getValue();
+            Row appended = new Row(previousStore.getMemberId(row), previousStore.getSurveyId(row), previousStore.getStatusId(row),
+                                   previousStore.getLength(row));
+            if (sourceModifiedAt != null && time.isBefore(sourceModifiedAt)) {
+                int unmatched = unmatchedLoaded.computeIfAbsent(appended, this::countLoaded);
+                if (unmatched > 0) {
+                    unmatchedLoaded.put(appended, unmatched - 1);
+                    continue;
+                }
+            }
+            carriedOver.add(appended);
+            carriedOverAt.add(time);
+        }
+        for (int i = 0; i < carriedOver.size(); i++) {
+            Row row = carriedOver.get(i);
+            appendParticipation(row.memberId(), row.surveyId(), row.statusId(), row.length(), carriedOverAt.get(i));
+        }
+        return carriedOver.size();
+    }
+
+    private int countLoaded(Row row) {
+        int[] count = new int[1];
+        participationStore.forEachOfMember(row.memberId(), (memberId, surveyId, statusId, length) -> {
+            if (row.equals(new Row(memberId, surveyId, statusId, length))) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Gets all members in the order they were loaded.
+     *
+     * @return an unmodifiable list view of the member store
+     */
+    public List<Member> getMembers() {
+        return memberStore.asList();
+    }
+
+    /**
+     * Gets the revision of the dataset, which is incremented after every append once the appended participations
+     * are recorded in every index. Together with the version it identifies the state of the data served.
+     *
+     * @return the number of appends to the dataset
+     */
+    public long getRevision() {
+        return revision.get();
+    }
+
+    private void recordParticipation(int memberId, int surveyId, int statusId, int length) {
+        memberBitmapIndex.recordParticipation(memberId, surveyId, statusId);
+        pointsLeaderboard.recordParticipation(memberId);
+        memberResponseRates.recordParticipation(memberId, statusId);
+        surveyStatisticsEngine.record(surveyId, statusId, length);
+    }
+
+    private record Row(int memberId, int surveyId, int statusId, int length) {
+    }
+
+    private static <T> Map<Integer, T> toMap(List<T> values, ToIntFunction<T> id) {
+        Map<Integer, T> map = HashMap.newHashMap(values.size());
+        values.forEach(value -> map.put(id.applyAsInt(value), value));
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -0,0 +1,124 @@
+package com.dynata.test.store;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable histogram of participation lengths, from which length percentiles are estimated in one pass over
+ * its buckets instead of sorting the lengths.
+ * <p>
+ * Lengths below {@value #SUB_BUCKETS} have a bucket of their own and are exact. Larger lengths share buckets of
+ * {@value #HALF_SUB_BUCKETS} per power of two, HDR histogram style, so that an estimate is within about 3% of the
+ * actual length. The buckets grow up to the largest recorded length, at most about 900 of them, whatever
+ * the number of recorded lengths. Negative lengths are counted as 0, the minimum and maximum are kept exactly.
+ * <p>
+ * Writers must be serialized, readers never block and see the buckets as of the latest completed write.
+ */
+public class LengthHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+
+    private static final int[] NO_COUNTS = new int[0];
+
+    private volatile int[] counts = NO_COUNTS;
+    private volatile int min = Integer.MAX_VALUE;
+    private volatile int max = Integer.MIN_VALUE;
+
+    void record(int length) {
+        int index = indexOf(Math.max(0, length));
+        int[] current = counts;
+        if (index >= current.length) {
+            current = Arrays.copyOf(current, Math.max(index + 1, Math.min(current.length * 2, bucketCount())));
+        }
+        current[index]++;
+        counts = current;
+        min = Math.min(min, length);
+        max = Math.max(max, length);
+    }
+
+    /**
+     * Adds the lengths recorded in the other histogram to this one.
+     *
+     * @param other the other histogram
+     */
+    void merge(LengthHistogram other) {
+        int[] otherCounts = other.counts;
+        int[] current = counts.length >= otherCounts.length ? counts : Arrays.copyOf(counts, otherCounts.length);
+        for (int i = 0; i < otherCounts.length; i++) {
+            current[i] += otherCounts[i];
+        }
+        counts = current;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets the smallest recorded length.
+     *
+     * @return the smallest length, or 0 if no length was recorded
+     */
+    public int getMin() {
+        int value = min;
+        return value == Integer.MAX_VALUE ? 0 : value;
+    }
+
+    /**
+     * Gets the largest recorded length.
+     *
+     * @return the largest length, or 0 if no length was recorded
+     */
+    public int getMax() {
+        int value = max;
+        return value == Integer.MIN_VALUE ? 0 : value;
+    }
+
+    /**
+     * Estimates the length at the given percentile, i.e. the smallest length that at least that percentage of
+     * the recorded lengths do not exceed. The estimate is the largest length of its bucket, bounded by the
+     * recorded minimum and maximum.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the estimated length, or 0 if no length was recorded
+     */
+    public int getPercentile(double percentile) {
+        int[] current = counts;
+        long total = 0;
+        for (int count : current) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.clamp(percentile, 0, 100) / 100 * total));
+        long seen = 0;
+        int index = 0;
+        while (index < current.length - 1 && (seen += current[index]) < rank) {
+            index++;
+        }
+        return Math.clamp(highestValueOf(index), getMin(), getMax());
+    }
+
+    static int indexOf(int value) {
+        if (value < SUB_BUCKETS) {
+            return value;
+        }
+        int exponent = 31 - Integer.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS + (value >>> shift) - HALF_SUB_BUCKETS;
+    }
+
+    static int highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + SUB_BUCKET_BITS;
+        int subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        return (int) Math.min(Integer.MAX_VALUE, ((long) (subBucket + 1) << shift) - 1);
+    }
+
+    private static int bucketCount() {
+        return indexOf(Integer.MAX_VALUE) + 1;
+    }
+}
@@ -0,0 +1,289 @@
+package com.dynata.test.store;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+import com.dynata.test.model.Member;
+
+/**
+ * Bitmaps of member ids, one bit per member: all members, the active members and, for every survey, every status
+ * and every status within a survey, the members who participated in it or with it. The members of a status within a
+ * survey are few enough to be kept as a {@link MemberIdSet}, which only turns into a bitmap once it is dense.
+ * <p>
+ * Set operations over members are done with word-level bitmap operations instead of
+ * looking up member ids one by one, e.g. the members who can be invited for a survey
+ * are {@code active AND NOT participated}. Member ids must not be negative.
+ * <p>
+ * Published bitmaps are never modified: writers are serialized, copy the bitmaps they change and publish the copies
+ * through volatile fields and concurrent maps, and a change that sets no new bit copies nothing. Readers never block
+ * and see every bitmap as of the latest completed write. Bulk writes copy every changed bitmap once.
+ */
+public class MemberBitmapIndex {
+
+    private volatile BitSet members = new BitSet();
+    private volatile BitSet activeMembers = new BitSet();
+    private final Map<Integer, BitSet> participantsBySurvey = new ConcurrentHashMap<>();
+    private final Map<Integer, BitSet> participantsByStatus = new ConcurrentHashMap<>();
+    private final Map<Long, MemberIdSet> participantsBySurveyStatus = new ConcurrentHashMap<>();
+
+    /**
+     * Builds an index of the given members and of the participants of every survey in the given store.
+     *
+     * @param members the members
+     * @param store   the participation store
+     * @return a new index
+     */
+    public static MemberBitmapIndex build(Collection<Member> members, ParticipationStore store) {
+        MemberBitmapIndex index = new MemberBitmapIndex();
+        BitSet memberIds = new BitSet();
+        BitSet activeMemberIds = new BitSet();
+        members.forEach(member -> {
+            checkMemberId(member.getId());
+            memberIds.set(member.getId());
+            activeMemberIds.set(member.getId(), member.isActive());
+        });
+        index.members = memberIds;
+        index.activeMembers = activeMemberIds;
+        index.recordParticipations(store);
+        return index;
+    }
+
+    /**
+     * Sets the active flag of a member and records that the member exists.
+     *
+     * @param memberId the member ID
+     * @param active   whether the member is active
+     */
+    public synchronized void setActive(int memberId, boolean active) {
+        checkMemberId(memberId);
+        if (!members.get(memberId)) {
+            members = withBit(members, memberId, true);
+        }
+        if (activeMembers.get(memberId) != active) {
+            activeMembers = withBit(activeMembers, memberId, active);
+        }
+    }
+
+    /**
+     * Records that a member participated in a survey with a status.
+     *
+     * @param memberId the member ID
+     * @param surveyId the survey ID
+     * @param statusId the status ID
+     */
+    public synchronized void recordParticipation(int memberId, int surveyId, int statusId) {
+        checkMemberId(memberId);
+        setBit(participantsBySurvey, surveyId, memberId);
+        setBit(participantsByStatus, statusId, memberId);
+        long key = surveyStatusKey(surveyId, statusId);
+        MemberIdSet surveyStatusParticipants = participantsBySurveyStatus.get(key);
+        if (surveyStatusParticipants == null || !surveyStatusParticipants.contains(memberId)) {
+            MemberIdSet copy = surveyStatusParticipants == null ? new MemberIdSet() : new MemberIdSet(surveyStatusParticipants);
+            copy.add(memberId);
+            participantsBySurveyStatus.put(key, copy);
+        }
+    }
+
+    /**
+     * Records every participation of the given store, survey by survey. The bitmaps of a survey and of the
+     * statuses within it are collected unpublished and merged with the published ones once the survey is recorded,
+     * those of the statuses once all surveys are recorded, so that every bitmap is copied once.
+     *
+     * @param store the participation store
+     */
+    public synchronized void recordParticipations(ParticipationStore store) {
+        Map<Integer, BitSet> statusParticipants = new HashMap<>();
+        for (int surveyId : store.distinctSurveyIds()) {
+            BitSet participants = new BitSet();
+            Map<Integer, MemberIdSet> membersByStatus = new HashMap<>();
+            store.forEachOfSurvey(surveyId, (memberId, participationSurveyId, statusId, length) -> {
+                checkMemberId(memberId);
+                participants.set(memberId);
+                statusParticipants.computeIfAbsent(statusId, id -> new BitSet()).set(memberId);
+                membersByStatus.computeIfAbsent(statusId, id -> new MemberIdSet()).add(memberId);
+            });
+            merge(participantsBySurvey, surveyId, participants);
+            membersByStatus.forEach((statusId, members) -> {
+                MemberIdSet published = participantsBySurveyStatus.get(surveyStatusKey(surveyId, statusId));
+                if (published != null) {
+                    members.addAll(published.toBitSet());
+                }
+                participantsBySurveyStatus.put(surveyStatusKey(surveyId, statusId), members);
+            });
+        }
+        statusParticipants.forEach((statusId, members) -> merge(participantsByStatus, statusId, members));
+    }
+
+    /**
+     * Gets a copy of the bitmap of all members.
+     *
+     * @return the member ids
+     */
+    public BitSet getMembers() {
+        return (BitSet) members.clone();
+    }
+
+    /**
+     * Gets a copy of the bitmap of active members.
+     *
+     * @return the active member ids
+     */
+    public BitSet getActiveMembers() {
+        return (BitSet) activeMembers.clone();
+    }
+
+    /**
+     * Gets the number of active members.
+     *
+     * @return the number of active members
+     */
+    public int countActiveMembers() {
+        return activeMembers.cardinality();
+    }
+
+    /**
+     * Gets a copy of the bitmap of members who participated in the given survey.
+     *
+     * @param surveyId the survey ID
+     * @return the participating member ids
+     */
+    public BitSet getParticipants(int surveyId) {
+        return copyOf(participantsBySurvey.get(surveyId));
+    }
+
+    /**
+     * Gets a copy of the bitmap of members who participated in any survey with the given status.
+     *
+     * @param statusId the status ID
+     * @return the participating member ids
+     */
+    public BitSet getParticipantsWithStatus(int statusId) {
+        return copyOf(participantsByStatus.get(statusId));
+    }
+
+    /**
+     * Gets a copy of the bitmap of members who participated in the given survey with the given status.
+     *
+     * @param surveyId the survey ID
+     * @param statusId the status ID
+     * @return the participating member ids
+     */
+    public BitSet getParticipantsWithStatus(int surveyId, int statusId) {
+        MemberIdSet participants = participantsBySurveyStatus.get(surveyStatusKey(surveyId, statusId));
+        return participants == null ? new BitSet() : participants.toBitSet();
+    }
+
+    /**
+     * Gets the bitmap of members who participated in any survey.
+     *
+     * @return the participating member ids
+     */
+    public BitSet getAllParticipants() {
+        BitSet participants = new BitSet();
+        for (BitSet statusParticipants : participantsByStatus.values()) {
+            participants.or(statusParticipants);
+        }
+        return participants;
+    }
+
+    /**
+     * Computes the bitmap of active members who have not participated in the given survey yet.
+     *
+     * @param surveyId the survey ID
+     * @return the ids of the members who can be invited
+     */
+    public BitSet getInvitableMembers(int surveyId) {
+        BitSet invitable = getActiveMembers();
+        BitSet participants = participantsBySurvey.get(surveyId);
+        if (participants != null) {
+            invitable.andNot(participants);
+        }
+        return invitable;
+    }
+
+    /**
+     * Visits the ids of all members in ascending order, starting at the given id, until the visitor returns false.
+     *
+     * @param fromId  the first member id to visit, inclusive
+     * @param visitor the visitor, returning whether to continue
+     */
+    public void forEachMember(int fromId, IntPredicate visitor) {
+        forEachMember(members, null, fromId, visitor);
+    }
+
+    /**
+     * Visits the ids of the active members in ascending order, starting at the given id, until the visitor returns false.
+     *
+     * @param fromId  the first member id to visit, inclusive
+     * @param visitor the visitor, returning whether to continue
+     */
+    public void forEachActiveMember(int fromId, IntPredicate visitor) {
+        forEachMember(activeMembers, null, fromId, visitor);
+    }
+
+    /**
+     * Visits the ids of the active members who have not participated in the given survey in ascending order,
+     * starting at the given id, until the visitor returns false.
+     *
+     * @param surveyId the survey ID
+     * @param fromId   the first member id to visit, inclusive
+     * @param visitor  the visitor, returning whether to continue
+     */
+    public void forEachInvitableMember(int surveyId, int fromId, IntPredicate visitor) {
+        forEachMember(activeMembers, participantsBySurvey.get(surveyId), fromId, visitor);
+    }
+
+    /**
+     * Visits the set bits of {@code included AND NOT excluded} of the given published bitmaps, which do not change
+     * while they are visited, without copying them.
+     */
+    private static void forEachMember(BitSet included, BitSet excluded, int fromId, IntPredicate visitor) {
+        for (int bit = included.nextSetBit(Math.max(0, fromId)); bit >= 0; bit = included.nextSetBit(bit + 1)) {
+            if ((excluded == null || !excluded.get(bit)) && !visitor.test(bit)) {
+                return;
+            }
+            if (bit == Integer.MAX_VALUE) {
+                return;
+            }
+        }
+    }
+
+    private static void setBit(Map<Integer, BitSet> bitmaps, int key, int memberId) {
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap == null || !bitmap.get(memberId)) {
+            bitmaps.put(key, withBit(bitmap == null ? new BitSet() : bitmap, memberId, true));
+        }
+    }
+
+    private static void merge(Map<Integer, BitSet> bitmaps, int key, BitSet added) {
+        BitSet published = bitmaps.get(key);
+        if (published != null) {
+            added.or(published);
+        }
+        bitmaps.put(key, added);
+    }
+
+    private static BitSet withBit(BitSet bitmap, int memberId, boolean value) {
+        BitSet copy = (BitSet) bitmap.clone();
+        copy.set(memberId, value);
+        return copy;
+    }
+
+    private static long surveyStatusKey(int surveyId, int statusId) {
+        return (long) surveyId << 32 | statusId & 0xFFFFFFFFL;
+    }
+
+    private static BitSet copyOf(BitSet bitmap) {
+        return bitmap == null ? new BitSet() : (BitSet) bitmap.clone();
+    }
+
+    private static void checkMemberId(int memberId) {
+        if (memberId < 0) {
+            throw new IllegalArgumentException("Member id %d cannot be negative".formatted(memberId));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.dynata.test.store;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Set of member ids kept as a sorted array while that is smaller than a bitmap of the same ids, and as a bitmap once
+ * it is not, like the array and bitmap containers of Roaring bitmaps. A bitmap takes one bit per id up to the
+ * largest one, so the few participants of a survey with a status take a few bytes each instead of a bit per member.
+ * Not thread-safe.
+ */
+final class MemberIdSet {
+
+    private int[] ids = new int[4];
+    private int size;
+    private BitSet bitmap;
+
+    /**
+     * Creates an empty set.
+     */
+    MemberIdSet() {
+    }
+
+    /**
+     * Creates a copy of the given set.
+     *
+     * @param other the set to copy
+     */
+    MemberIdSet(MemberIdSet other) {
+        if (other.bitmap != null) {
+            bitmap = (BitSet) other.bitmap.clone();
+        } else {
+            ids = Arrays.copyOf(other.ids, Math.max(4, other.size));
+            size = other.size;
+        }
+    }
+
+    /**
+     * Determines if the set contains a member id.
+     *
+     * @param memberId the member ID
+     * @return true if the member id was added
+     */
+    boolean contains(int memberId) {
+        if (bitmap != null) {
+            return memberId >= 0 && bitmap.get(memberId);
+        }
+        return Arrays.binarySearch(ids, 0, size, memberId) >= 0;
+    }
+
+    /**
+     * Adds a member id.
+     *
+     * @param memberId the member ID, not negative
+     */
+    void add(int memberId) {
+        if (bitmap != null) {
+            bitmap.set(memberId);
+            return;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, memberId);
+        if (index >= 0) {
+            return;
+        }
+        index = -index - 1;
+        if (size == ids.length) {
+            if (isDense(size + 1, Math.max(memberId, ids[size - 1]))) {
+                toBitmap();
+                bitmap.set(memberId);
+                return;
+            }
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = memberId;
+        size++;
+    }
+
+    /**
+     * Adds all member ids of a bitmap, merging them in one pass.
+     *
+     * @param memberIds the member ids
+     */
+    void addAll(BitSet memberIds) {
+        if (bitmap == null) {
+            int count = memberIds.cardinality();
+            int largest = Math.max(memberIds.length() - 1, size > 0 ? ids[size - 1] : 0);
+            if (!isDense(size + count, largest)) {
+                merge(memberIds.stream().toArray());
+                return;
+            }
+            toBitmap();
+        }
+        bitmap.or(memberIds);
+    }
+
+    /**
+     * Gets the member ids as a new bitmap.
+     *
+     * @return the member ids
+     */
+    BitSet toBitSet() {
+        if (bitmap != null) {
+            return (BitSet) bitmap.clone();
+        }
+        BitSet memberIds = new BitSet(size > 0 ? ids[size - 1] + 1 : 0);
+        for (int i = 0; i < size; i++) {
+            memberIds.set(ids[i]);
+        }
+        return memberIds;
+    }
+
+    /**
+     * Determines if a bitmap of the given number of ids is not larger than their array: 32 bits per id against one
+     * bit per id up to the largest one.
+     */
+    private static boolean isDense(int count, int largest) {
+        return (long) count * Integer.SIZE >= largest;
+    }
+
+    private void merge(int[] added) {
+        int[] merged = new int[Math.max(4, size + added.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size || j < added.length) {
+            int next;
+            if (j == added.length || i < size && ids[i] < added[j]) {
+                next = ids[i++];
+            } else if (i == size || added[j] < ids[i]) {
+                next = added[j++];
+            } else {
+                next = ids[i++];
+                j++;
+            }
+            merged[k++] = next;
+        }
+        ids = merged;
+        size = k;
+    }
+
+    private void toBitmap() {
+        bitmap = toBitSet();
+        ids = null;
+        size = 0;
+    }
+}
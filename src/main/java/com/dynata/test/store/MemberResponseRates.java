@@ -0,0 +1,136 @@
+package com.dynata.test.store;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.dynata.test.model.StatusCode;
+
+/**
+ * Historical completion rate of every member, kept per slot of the {@link MemberStore} so that members can be
+ * ranked by how likely they are to complete a survey without iterating their participations.
+ * <p>
+ * Every participation counts as an invitation. The rate of a member is smoothed towards the overall completion
+ * rate at the time the rates were built, weighted as {@value #PRIOR_WEIGHT} invitations, so that members with few
+ * invitations are neither ranked first nor last by chance. Rates are updated in place for every recorded
+ * participation. Writers lock the stripe of the member's slot, so writers of different members rarely contend, and
+ * add to the overall counts without locking; readers never block.
+ */
+public class MemberResponseRates {
+
+    static final int PRIOR_WEIGHT = 5;
+
+    private static final int STRIPES = 64;
+
+    private static final int COMPLETED = StatusCode.COMPLETED.getId();
+
+    private final MemberStore memberStore;
+    private final int[] invitations;
+    private final int[] completes;
+    private final float[] completionRates;
+    private final double priorCompletionRate;
+    private final LongAdder totalInvitations = new LongAdder();
+    private final LongAdder totalCompletes = new LongAdder();
+    private final Object[] stripes = new Object[STRIPES];
+
+    private MemberResponseRates(MemberStore memberStore, ParticipationStore store) {
+        this.memberStore = memberStore;
+        this.invitations = new int[memberStore.size()];
+        this.completes = new int[memberStore.size()];
+        this.completionRates = new float[memberStore.size()];
+        long[] totals = new long[2];
+        store.forEach((memberId, surveyId, statusId, length) -> {
+            totals[0]++;
+            int slot = memberStore.slotOf(memberId);
+            if (slot >= 0) {
+                invitations[slot]++;
+            }
+            if (statusId == COMPLETED) {
+                totals[1]++;
+                if (slot >= 0) {
+                    completes[slot]++;
+                }
+            }
+        });
+        this.totalInvitations.add(totals[0]);
+        this.totalCompletes.add(totals[1]);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+        this.priorCompletionRate = rate(totals[1], totals[0], 0, 0);
+        for (int slot = 0; slot < completionRates.length; slot++) {
+            completionRates[slot] = (float) smoothedRate(completes[slot], invitations[slot]);
+        }
+    }
+
+    /**
+     * Builds the rates of the given members from the participations in the given store.
+     *
+     * @param memberStore the members
+     * @param store       the participation store
+     * @return the new rates
+     */
+    public static MemberResponseRates build(MemberStore memberStore, ParticipationStore store) {
+        return new MemberResponseRates(memberStore, store);
+    }
+
+    /**
+     * Records a participation in the rate of its member and in the overall rate.
+     *
+     * @param memberId the member ID
+     * @param statusId the status ID
+     */
+    public void recordParticipation(int memberId, int statusId) {
+        boolean completed = statusId == COMPLETED;
+        totalInvitations.increment();
+        if (completed) {
+            totalCompletes.increment();
+        }
+        int slot = memberStore.slotOf(memberId);
+        if (slot >= 0) {
+            synchronized (stripes[slot % STRIPES]) {
+                invitations[slot]++;
+                if (completed) {
+                    completes[slot]++;
+                }
+                completionRates[slot] = (float) smoothedRate(completes[slot], invitations[slot]);
+            }
+        }
+    }
+
+    /**
+     * Gets the share of all invitations that were completed.
+     *
+     * @return the overall completion rate, or 0 if there are no invitations
+     */
+    public double getOverallCompletionRate() {
+        // completes are read first, so that they never exceed the invitations they were counted with
+        long completed = totalCompletes.sum();
+        long invited = totalInvitations.sum();
+        return rate(Math.min(completed, invited), invited, 0, 0);
+    }
+
+    /**
+     * Gets the smoothed completion rate of the member in the given slot of the member store.
+     *
+     * @param slot the slot of the member
+     * @return the completion rate of the member
+     */
+    public float getCompletionRateAt(int slot) {
+        return completionRates[slot];
+    }
+
+    /**
+     * Smooths the completion rate of the given counts towards the overall completion rate the rates were built with.
+     *
+     * @param completed the number of completes
+     * @param invited   the number of invitations
+     * @return the smoothed completion rate
+     */
+    public double smoothedRate(long completed, long invited) {
+        return rate(completed, invited, PRIOR_WEIGHT, priorCompletionRate);
+    }
+
+    private static double rate(long completed, long invited, int priorWeight, double prior) {
+        long weight = invited + priorWeight;
+        return weight == 0 ? 0 : (completed + priorWeight * prior) / weight;
+    }
+}
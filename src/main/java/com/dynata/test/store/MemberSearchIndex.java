@@ -0,0 +1,211 @@
+package com.dynata.test.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+import com.dynata.test.model.Member;
+
+/**
+ * Search index of the members of a dataset by email and by the words of their full name.
+ * <p>
+ * The lowercase emails and the lowercase words of the full names are kept as two sorted lists of UTF-8 terms in
+ * one shared byte array each, addressed by offsets, with the slot of the member of every term. The terms starting
+ * with a prefix are a contiguous range of a list, found by binary search, so a search reads only the matching terms
+ * and never visits the member list. The slots are those of the {@link MemberStore} built of the same members.
+ */
+public class MemberSearchIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final SortedTerms emails;
+    private final SortedTerms nameWords;
+
+    private MemberSearchIndex(SortedTerms emails, SortedTerms nameWords) {
+        this.emails = emails;
+        this.nameWords = nameWords;
+    }
+
+    /**
+     * Builds a search index of the given members.
+     *
+     * @param members the members, in the order of the slots of their member store
+     * @return a new index
+     */
+    public static MemberSearchIndex build(List<Member> members) {
+        List<Term> emails = new ArrayList<>(members.size());
+        List<Term> nameWords = new ArrayList<>(members.size() * 2);
+        int slot = 0;
+        for (Member member : members) {
+            if (member.getEmail() != null) {
+                emails.add(new Term(normalize(member.getEmail()).getBytes(StandardCharsets.UTF_8), slot));
+            }
+            for (String word : words(member.getFullname())) {
+                nameWords.add(new Term(word.getBytes(StandardCharsets.UTF_8), slot));
+            }
+            slot++;
+        }
+        return new MemberSearchIndex(SortedTerms.of(emails), SortedTerms.of(nameWords));
+    }
+
+    /**
+     * Finds the members whose email starts with the given text, ignoring case, or whose full name has a word
+     * starting with every word of the text. Members matching by email come first, then the members matching by
+     * name: ordered by their matching word for a single word, by slot for several words.
+     *
+     * @param text  the text
+     * @param limit the maximum number of members
+     * @return the slots of the matching members
+     */
+    public List<Integer> search(String text, int limit) {
+        Set<Integer> slots = new LinkedHashSet<>();
+        String prefix = normalize(text);
+        if (!prefix.isEmpty()) {
+            emails.addSlots(emails.prefixRange(prefix.getBytes(StandardCharsets.UTF_8)), slots, limit);
+        }
+        List<String> words = words(prefix);
+        if (words.size() == 1) {
+            nameWords.addSlots(nameWords.prefixRange(words.getFirst().getBytes(StandardCharsets.UTF_8)), slots, limit);
+        } else if (words.size() > 1) {
+            BitSet matches = null;
+            for (String word : words) {
+                BitSet wordMatches = nameWords.slotsOf(nameWords.prefixRange(word.getBytes(StandardCharsets.UTF_8)));
+                if (matches == null) {
+                    matches = wordMatches;
+                } else {
+                    matches.and(wordMatches);
+                }
+            }
+            for (int slot = matches.nextSetBit(0); slot >= 0 && slots.size() < limit; slot = matches.nextSetBit(slot + 1)) {
+                slots.add(slot);
+            }
+        }
+        return List.copyOf(slots);
+    }
+
+    /**
+     * Finds the members with the given email, ignoring case.
+     *
+     * @param email the email
+     * @return the slots of the matching members
+     */
+    public List<Integer> findByEmail(String email) {
+        Set<Integer> slots = new LinkedHashSet<>();
+        emails.addSlots(emails.exactRange(normalize(email).getBytes(StandardCharsets.UTF_8)), slots, Integer.MAX_VALUE);
+        return List.copyOf(slots);
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                     .filter(word -> !word.isEmpty())
+                     .toList();
+    }
+
+    private record Term(byte[] bytes, int slot) {
+    }
+
+    /**
+     * Terms sorted by their unsigned UTF-8 bytes, which is the order of their code points, then by slot.
+     */
+    private static final class SortedTerms {
+
+        private final byte[] text;
+        private final int[] offsets;
+        private final int[] slots;
+
+        private SortedTerms(byte[] text, int[] offsets, int[] slots) {
+            this.text = text;
+            this.offsets = offsets;
+            this.slots = slots;
+        }
+
+        static SortedTerms of(List<Term> terms) {
+            terms.sort(Comparator.comparing(Term::bytes, Arrays::compareUnsigned).thenComparingInt(Term::slot));
+            int[] offsets = new int[terms.size() + 1];
+            int[] slots = new int[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                offsets[i + 1] = offsets[i] + terms.get(i).bytes().length;
+                slots[i] = terms.get(i).slot();
+            }
+            byte[] text = new byte[offsets[terms.size()]];
+            for (int i = 0; i < terms.size(); i++) {
+                System.arraycopy(terms.get(i).bytes(), 0, text, offsets[i], terms.get(i).bytes().length);
+            }
+            return new SortedTerms(text, offsets, slots);
+        }
+
+        /**
+         * Gets the range of the terms starting with the prefix as {@code [from, to)} packed in a long.
+         */
+        long prefixRange(byte[] prefix) {
+            int from = firstIndex(index -> compare(index, prefix) >= 0);
+            int to = firstIndex(index -> compare(index, prefix) > 0 && !startsWith(index, prefix));
+            return (long) from << 32 | to;
+        }
+
+        /**
+         * Gets the range of the terms equal to the key as {@code [from, to)} packed in a long.
+         */
+        long exactRange(byte[] key) {
+            int from = firstIndex(index -> compare(index, key) >= 0);
+            int to = firstIndex(index -> compare(index, key) > 0);
+            return (long) from << 32 | to;
+        }
+
+        void addSlots(long range, Set<Integer> matches, int limit) {
+            for (int index = (int) (range >> 32); index < (int) range && matches.size() < limit; index++) {
+                matches.add(slots[index]);
+            }
+        }
+
+        BitSet slotsOf(long range) {
+            BitSet matches = new BitSet();
+            for (int index = (int) (range >> 32); index < (int) range; index++) {
+                matches.set(slots[index]);
+            }
+            return matches;
+        }
+
+        /**
+         * Binary search of the first index for which the predicate holds, which must hold for every later index.
+         */
+        private int firstIndex(IntPredicate predicate) {
+            int low = 0;
+            int high = slots.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (predicate.test(middle)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+
+        private int compare(int index, byte[] key) {
+            return Arrays.compareUnsigned(text, offsets[index], offsets[index + 1], key, 0, key.length);
+        }
+
+        private boolean startsWith(int index, byte[] prefix) {
+            int from = offsets[index];
+            return offsets[index + 1] - from >= prefix.length
+                   && Arrays.equals(text, from, from + prefix.length, prefix, 0, prefix.length);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.dynata.test.store;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+
+import com.dynata.test.model.Member;
+
+/**
+ * Compact, immutable storage of the members of a dataset.
+ * <p>
+ * Members are kept in slots in the order they were loaded: the id of every slot in an {@code int} array, the
+ * active flags in a bitset and the full names and emails as UTF-8 bytes in one shared byte array, addressed
+ * by offsets. Member ids are mapped to slots by an {@code int} array indexed by id, or by binary search when
+ * the ids are too sparse for it, so lookups neither box ids nor hash. No {@link Member} is kept: the members
+ * returned are views of their slot whose full name and email are only decoded when read, e.g. when the member
+ * is serialized.
+ */
+public class MemberStore {
+
+    private final int size;
+    private final int[] ids;
+    private final int[] slotsById;
+    private final int[] sortedIds;
+    private final int[] sortedSlots;
+    private final BitSet active;
+    private final BitSet nullText;
+    private final byte[] text;
+    private final int[] textOffsets;
+
+    private MemberStore(Collection<Member> members) {
+        this.size = members.size();
+        this.ids = new int[size];
+        this.active = new BitSet(size);
+        this.nullText = new BitSet();
+        this.textOffsets = new int[2 * size + 1];
+        ByteArrayOutputStream textBytes = new ByteArrayOutputStream(size * 32);
+        int slot = 0;
+        for (Member member : members) {
+            ids[slot] = member.getId();
+            active.set(slot, member.isActive());
+            appendText(textBytes, 2 * slot, member.getFullname());
+            appendText(textBytes, 2 * slot + 1, member.getEmail());
+            slot++;
+        }
+        this.text = textBytes.toByteArray();
+
+        int maxId = Arrays.stream(ids).max().orElse(-1);
+        int minId = Arrays.stream(ids).min().orElse(0);
+        if (minId >= 0 && maxId < size * 4L + 16) {
+            this.slotsById = new int[maxId + 1];
+            for (slot = 0; slot < size; slot++) {
+                slotsById[ids[slot]] = slot + 1;
+            }
+            this.sortedIds = null;
+            this.sortedSlots = null;
+        } else {
+            this.slotsById = null;
+            long[] idsAndSlots = sortByIdKeepingLastSlot(ids);
+            this.sortedIds = new int[idsAndSlots.length];
+            this.sortedSlots = new int[idsAndSlots.length];
+            for (int i = 0; i < idsAndSlots.length; i++) {
+                sortedIds[i] = (int) (idsAndSlots[i] >> 32);
+                sortedSlots[i] = (int) idsAndSlots[i];
+            }
+        }
+    }
+
+    /**
+     * Builds a store of the given members. When several members share an id, the last one is found by id.
+     *
+     * @param members the members, in the order they are listed by {@link #asList()}
+     * @return a new store
+     */
+    public static MemberStore of(Collection<Member> members) {
+        return new MemberStore(members);
+    }
+
+    /**
+     * Gets the number of members.
+     *
+     * @return the number of members
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if a member with the given id exists.
+     *
+     * @param memberId the member ID
+     * @return true if the member exists
+     */
+    public boolean contains(int memberId) {
+        return slotOf(memberId) >= 0;
+    }
+
+    /**
+     * Determines if the member with the given id exists and is active.
+     *
+     * @param memberId the member ID
+     * @return true if the member exists and is active
+     */
+    public boolean isActive(int memberId) {
+        int slot = slotOf(memberId);
+        return slot >= 0 && active.get(slot);
+    }
+
+    /**
+     * Gets the member with the given id.
+     *
+     * @param memberId the member ID
+     * @return a view of the member, or null if not found
+     */
+    public Member get(int memberId) {
+        int slot = slotOf(memberId);
+        return slot < 0 ? null : new StoredMember(this, slot);
+    }
+
+    /**
+     * Visits the ids of all members in the order they were loaded.
+     *
+     * @param action the action receiving every member id
+     */
+    public void forEachId(IntConsumer action) {
+        for (int slot = 0; slot < size; slot++) {
+            action.accept(ids[slot]);
+        }
+    }
+
+    /**
+     * Gets an unmodifiable list of all members in the order they were loaded.
+     *
+     * @return a list view of the members
+     */
+    public List<Member> asList() {
+        return new MemberList();
+    }
+
+    /**
+     * Gets the slot of the member with the given id, i.e. its position in {@link #asList()}, to index arrays
+     * holding a value per member.
+     *
+     * @param memberId the member ID
+     * @return the slot, or -1 if not found
+     */
+    public int slotOf(int memberId) {
+        if (slotsById != null) {
+            return memberId >= 0 && memberId < slotsById.length ? slotsById[memberId] - 1 : -1;
+        }
+        int index = Arrays.binarySearch(sortedIds, memberId);
+        return index < 0 ? -1 : sortedSlots[index];
+    }
+
+    private String decodeText(int field) {
+        if (nullText.get(field)) {
+            return null;
+        }
+        int from = textOffsets[field];
+        return new String(text, from, textOffsets[field + 1] - from, StandardCharsets.UTF_8);
+    }
+
+    private void appendText(ByteArrayOutputStream textBytes, int field, String value) {
+        if (value == null) {
+            nullText.set(field);
+        } else {
+            textBytes.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+        textOffsets[field + 1] = textBytes.size();
+    }
+
+    private static long[] sortByIdKeepingLastSlot(int[] ids) {
+        long[] idsAndSlots = new long[ids.length];
+        for (int slot = 0; slot < ids.length; slot++) {
+            idsAndSlots[slot] = (long) ids[slot] << 32 | slot;
+        }
+        Arrays.sort(idsAndSlots);
+        int count = 0;
+        for (long idAndSlot : idsAndSlots) {
+            if (count > 0 && idsAndSlots[count - 1] >> 32 == idAndSlot >> 32) {
+                count--;
+            }
+            idsAndSlots[count++] = idAndSlot;
+        }
+        return Arrays.copyOf(idsAndSlots, count);
+    }
+
+    /**
+     * A member read from its slot of the store, its full name and email are decoded on every read.
+     */
+    private static final class StoredMember extends Member {
+
+        private final MemberStore store;
+        private final int slot;
+
+        StoredMember(MemberStore store, int slot) {
+            super(store.ids[slot], null, null, store.active.get(slot));
+            this.store = store;
+            this.slot = slot;
+        }
+
+        @Override
+        public String getFullname() {
+            return store.decodeText(2 * slot);
+        }
+
+        @Override
+        public String getEmail() {
+            return store.decodeText(2 * slot + 1);
+        }
+    }
+
+    private final class MemberList extends AbstractList<Member> implements RandomAccess {
+
+        @Override
+        public Member get(int index) {
+            return new StoredMember(MemberStore.this, Objects.checkIndex(index, size));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
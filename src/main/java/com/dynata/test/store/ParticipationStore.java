@@ -0,0 +1,430 @@
+package com.dynata.test.store;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.dynata.test.model.Participation;
+
+/**
+ * Columnar, append-only store of participation rows.
+ * <p>
+ * Instead of keeping one {@link Participation} object per row, every field is kept in its own
+ * primitive array (member id, survey id and length as {@code int}, status id as {@code byte}),
+ * and rows are read back through a {@link ParticipationVisitor} without allocating per row.
+ * Participations are additionally indexed by survey id and member id so that lookups by
+ * either are proportional to the result size.
+ * <p>
+ * Writers do not serialize on a store-wide monitor while writing their rows. A writer reserves its rows with a
+ * compare-and-set on the reserved row count, once the columns are large enough to hold them, and writes its columns
+ * concurrently with other writers, only growing the columns takes the exclusive side of a lock whose shared side
+ * guards the writes. Rows are then published in row order under a short lock: a writer waits on a condition, without
+ * spinning, until all rows before its own are published, adds its rows to the survey and member indexes and advances
+ * the size, which are a few array writes per row. Everything that can fail, such as growing the columns, happens
+ * before rows are reserved, and the size is advanced even if indexing fails, so a failed writer never leaves later
+ * writers waiting. Readers never block: a reader always sees a consistent prefix of the rows that were published
+ * before it started.
+ */
+public class ParticipationStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private volatile Columns columns;
+    private volatile int size;
+    private final AtomicInteger reserved;
+    private final ReadWriteLock columnsLock = new ReentrantReadWriteLock();
+    private final Lock publishLock = new ReentrantLock();
+    private final Condition published = publishLock.newCondition();
+
+    private final RowIndex surveyIndex;
+    private final RowIndex memberIndex;
+
+    public ParticipationStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ParticipationStore(int initialCapacity) {
+        columns = new Columns(Math.max(1, initialCapacity));
+        surveyIndex = new RowIndex();
+        memberIndex = new RowIndex();
+        reserved = new AtomicInteger();
+    }
+
+    private ParticipationStore(int[] memberIds, int[] surveyIds, byte[] statusIds, int[] lengths, int size) {
+        this.columns = new Columns(memberIds, surveyIds, statusIds, lengths);
+        this.surveyIndex = RowIndex.of(surveyIds, size);
+        this.memberIndex = RowIndex.of(memberIds, size);
+        this.reserved = new AtomicInteger(size);
+        this.size = size;
+    }
+
+    /**
+     * Creates a store holding the given columns, building the survey and member indexes in bulk.
+     * The arrays are owned by the store afterwards and must not be modified by the caller.
+     *
+     * @param memberIds the member ID of every row
+     * @param surveyIds the survey ID of every row
+     * @param statusIds the status ID of every row
+     * @param lengths   the length of every row
+     * @param size      the number of rows, not larger than any of the arrays
+     * @return a new store
+     * @throws IllegalArgumentException if an array is shorter than the size
+     */
+    public static ParticipationStore of(int[] memberIds, int[] surveyIds, byte[] statusIds, int[] lengths, int size) {
+        if (size < 0 || memberIds.length < size || surveyIds.length < size || statusIds.length < size || lengths.length < size) {
+            throw new IllegalArgumentException("Columns are shorter than size %d".formatted(size));
+        }
+        if (size == 0) {
+            return new ParticipationStore();
+        }
+        return new ParticipationStore(memberIds, surveyIds, statusIds, lengths, size);
+    }
+
+    /**
+     * Creates a store holding the given participations, in iteration order.
+     *
+     * @param participations the participations to store
+     * @return a new store
+     */
+    public static ParticipationStore of(Collection<Participation> participations) {
+        Builder builder = new Builder(participations.size());
+        participations.forEach(participation -> builder.visit(participation.getMemberId(), participation.getSurveyId(),
+                                                              participation.getStatus().getId(), participation.getLength()));
+        return builder.build();
+    }
+
+    /**
+     * Creates a builder collecting rows into growable columns, from which a store is created in bulk like
+     * {@link #of(int[], int[], byte[], int[], int)} instead of appending and indexing row by row.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Appends a participation to the store.
+     *
+     * @param participation the participation
+     * @return the row number of the appended participation
+     */
+    public int append(Participation participation) {
+        return append(participation.getMemberId(),
+                      participation.getSurveyId(),
+                      participation.getStatus().getId(),
+                      participation.getLength());
+    }
+
+    /**
+     * Appends a participation row to the store.
+     *
+     * @param memberId the member ID
+     * @param surveyId the survey ID
+     * @param statusId the status ID, must fit into a byte
+     * @param length   the length of time spent on the survey
+     * @return the row number of the appended participation
+     * @throws IllegalArgumentException if the status ID is out of range
+     */
+    public int append(int memberId, int surveyId, int statusId, int length) {
+        checkStatusId(statusId);
+        int row = reserve(1);
+        Lock lock = columnsLock.readLock();
+        lock.lock();
+        try {
+            columns.write(row, memberId, surveyId, statusId, length);
+        } finally {
+            lock.unlock();
+        }
+        publish(row, 1);
+        return row;
+    }
+
+    /**
+     * Appends participations to the store in iteration order as consecutive rows, reserving and publishing
+     * them at once.
+     *
+     * @param participations the participations
+     * @return the row number of the first appended participation
+     * @throws IllegalArgumentException if a status ID is out of range, in which case nothing is appended
+     */
+    public int appendAll(Collection<Participation> participations) {
+        Participation[] rows = participations.toArray(Participation[]::new);
+        for (Participation participation : rows) {
+            checkStatusId(participation.getStatus().getId());
+        }
+        int firstRow = reserve(rows.length);
+        Lock lock = columnsLock.readLock();
+        lock.lock();
+        try {
+            Columns current = columns;
+            for (int i = 0; i < rows.length; i++) {
+                current.write(firstRow + i, rows[i].getMemberId(), rows[i].getSurveyId(), rows[i].getStatus().getId(), rows[i].getLength());
+            }
+        } finally {
+            lock.unlock();
+        }
+        publish(firstRow, rows.length);
+        return firstRow;
+    }
+
+    private static void checkStatusId(int statusId) {
+        if (statusId < 0 || statusId > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Status id %d is out of range".formatted(statusId));
+        }
+    }
+
+    /**
+     * Reserves the given number of rows, growing the columns to hold them first, so that rows are only reserved
+     * once nothing can fail before they are written.
+     *
+     * @return the first reserved row
+     */
+    private int reserve(int rows) {
+        while (true) {
+            int firstRow = reserved.get();
+            if (firstRow + rows <= columns.capacity()) {
+                if (reserved.compareAndSet(firstRow, firstRow + rows)) {
+                    return firstRow;
+                }
+                continue;
+            }
+            Lock lock = columnsLock.writeLock();
+            lock.lock();
+            try {
+                while (reserved.get() + rows > columns.capacity()) {
+                    columns = columns.grow();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Waits until the rows before the given rows are published, then indexes and publishes the given rows, so that
+     * rows are published in row order. The rows are published even if indexing them fails, the error is rethrown.
+     */
+    private void publish(int firstRow, int rows) {
+        publishLock.lock();
+        try {
+            while (size != firstRow) {
+                published.awaitUninterruptibly();
+            }
+            try {
+                Columns current = columns;
+                for (int row = firstRow; row < firstRow + rows; row++) {
+                    surveyIndex.add(current.surveyIds[row], row);
+                    memberIndex.add(current.memberIds[row], row);
+                }
+            } finally {
+                size = firstRow + rows;
+                published.signalAll();
+            }
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of rows in the store.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of participations of the given survey.
+     *
+     * @param surveyId the survey ID
+     * @return the number of participations
+     */
+    public int countBySurvey(int surveyId) {
+        return surveyIndex.count(surveyId);
+    }
+
+    /**
+     * Gets the number of participations of the given member.
+     *
+     * @param memberId the member ID
+     * @return the number of participations
+     */
+    public int countByMember(int memberId) {
+        return memberIndex.count(memberId);
+    }
+
+    /**
+     * Gets the distinct IDs of the surveys having participations, in no particular order.
+     *
+     * @return the survey IDs
+     */
+    public int[] distinctSurveyIds() {
+        return surveyIndex.keys();
+    }
+
+    public int getMemberId(int row) {
+        int checked = checkRow(row);
+        return columns.memberIds[checked];
+    }
+
+    public int getSurveyId(int row) {
+        int checked = checkRow(row);
+        return columns.surveyIds[checked];
+    }
+
+    public int getStatusId(int row) {
+        int checked = checkRow(row);
+        return columns.statusIds[checked];
+    }
+
+    public int getLength(int row) {
+        int checked = checkRow(row);
+        return columns.lengths[checked];
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row %d is out of bounds for size %d".formatted(row, size));
+        }
+        return row;
+    }
+
+    /**
+     * Visits every row of the store in insertion order.
+     *
+     * @param visitor the visitor
+     */
+    public void forEach(ParticipationVisitor visitor) {
+        forEach(0, size, visitor);
+    }
+
+    /**
+     * Visits the rows in the given range in insertion order.
+     *
+     * @param fromRow the first row, inclusive
+     * @param toRow   the last row, exclusive
+     * @param visitor the visitor
+     */
+    public void forEach(int fromRow, int toRow, ParticipationVisitor visitor) {
+        // size is read before the columns so that they are at least as large as size
+        int end = Math.min(toRow, size);
+        Columns current = columns;
+        for (int row = Math.max(0, fromRow); row < end; row++) {
+            visitor.visit(current.memberIds[row], current.surveyIds[row], current.statusIds[row], current.lengths[row]);
+        }
+    }
+
+    /**
+     * Visits every participation of the given survey in insertion order.
+     *
+     * @param surveyId the survey ID
+     * @param visitor  the visitor
+     */
+    public void forEachOfSurvey(int surveyId, ParticipationVisitor visitor) {
+        surveyIndex.forEach(surveyId, row -> visitRow(row, visitor));
+    }
+
+    /**
+     * Visits every participation of the given member in insertion order.
+     *
+     * @param memberId the member ID
+     * @param visitor  the visitor
+     */
+    public void forEachOfMember(int memberId, ParticipationVisitor visitor) {
+        memberIndex.forEach(memberId, row -> visitRow(row, visitor));
+    }
+
+    private void visitRow(int row, ParticipationVisitor visitor) {
+        // rows handed out by the indexes are always below size, reading it publishes the rows
+        if (row >= size) {
+            return;
+        }
+        Columns current = columns;
+        visitor.visit(current.memberIds[row], current.surveyIds[row], current.statusIds[row], current.lengths[row]);
+    }
+
+    /**
+     * The column arrays, replaced as a whole when they grow so that readers always see the copied rows.
+     */
+    /**
+     * Collector of participation rows for a store created in bulk. Rows are visited into the columns in visiting
+     * order, the columns are handed over to the store when it is built. Not thread-safe.
+     */
+    public static final class Builder implements ParticipationVisitor {
+
+        private Columns columns;
+        private int size;
+
+        private Builder(int initialCapacity) {
+            columns = new Columns(Math.max(1, initialCapacity));
+        }
+
+        /**
+         * Adds a participation row.
+         *
+         * @throws IllegalArgumentException if the status id does not fit into the store
+         */
+        @Override
+        public void visit(int memberId, int surveyId, int statusId, int length) {
+            checkStatusId(statusId);
+            if (size == columns.capacity()) {
+                columns = columns.grow();
+            }
+            columns.write(size++, memberId, surveyId, statusId, length);
+        }
+
+        /**
+         * Creates a store holding the added rows. The builder must not be used afterwards.
+         *
+         * @return a new store
+         */
+        public ParticipationStore build() {
+            return of(columns.memberIds, columns.surveyIds, columns.statusIds, columns.lengths, size);
+        }
+    }
+
+    private static final class Columns {
+
+        private final int[] memberIds;
+        private final int[] surveyIds;
+        private final byte[] statusIds;
+        private final int[] lengths;
+
+        private Columns(int capacity) {
+            this(new int[capacity], new int[capacity], new byte[capacity], new int[capacity]);
+        }
+
+        private Columns(int[] memberIds, int[] surveyIds, byte[] statusIds, int[] lengths) {
+            this.memberIds = memberIds;
+            this.surveyIds = surveyIds;
+            this.statusIds = statusIds;
+            this.lengths = lengths;
+        }
+
+        private int capacity() {
+            return Math.min(Math.min(memberIds.length, surveyIds.length), Math.min(statusIds.length, lengths.length));
+        }
+
+        private void write(int row, int memberId, int surveyId, int statusId, int length) {
+            memberIds[row] = memberId;
+            surveyIds[row] = surveyId;
+            statusIds[row] = (byte) statusId;
+            lengths[row] = length;
+        }
+
+        private Columns grow() {
+            int capacity = capacity() * 2;
+            return new Columns(Arrays.copyOf(memberIds, capacity),
+                               Arrays.copyOf(surveyIds, capacity),
+                               Arrays.copyOf(statusIds, capacity),
+                               Arrays.copyOf(lengths, capacity));
+        }
+    }
+}
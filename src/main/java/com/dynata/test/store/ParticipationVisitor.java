@@ -0,0 +1,19 @@
+package com.dynata.test.store;
+
+/**
+ * Callback used to iterate over the rows of a {@link ParticipationStore} without materializing
+ * {@link com.dynata.test.model.Participation} objects.
+ */
+@FunctionalInterface
+public interface ParticipationVisitor {
+
+    /**
+     * Visits a single participation row.
+     *
+     * @param memberId the member ID
+     * @param surveyId the survey ID
+     * @param statusId the status ID
+     * @param length   the length of time spent on the survey
+     */
+    void visit(int memberId, int surveyId, int statusId, int length);
+}
@@ -0,0 +1,348 @@
+package com.dynata.test.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.StatusCode;
+import com.dynata.test.model.Survey;
+
+/**
+ * Keeps the total points of every member ordered, so that the top members and the rank of a member
+ * are found without iterating participations.
+ * <p>
+ * The total of a member is the sum of the points of the surveys the member completed or was filtered out of,
+ * counting the last such participation per survey, the same as the points collected by the member. Totals are
+ * compressed to the coordinates of the distinct totals, kept in a sorted array: members are bucketed per distinct
+ * total, each bucket holding sorted member ids, and counted per distinct total in a Fenwick tree. The top K members
+ * are read from the buckets in O(K + D) and the rank of a member is counted in O(log D), where D is the number of
+ * distinct totals, however high the totals are. A total not seen before inserts its coordinate in O(D).
+ * Members with the same total share their rank.
+ * <p>
+ * The total of a member is recomputed from the rows of the member whenever a participation of the member is recorded.
+ * The recomputation, which reads all rows of the member, holds only the lock of the member's stripe, so that members
+ * of different stripes are recomputed concurrently; moving the member to the bucket of its new total and reading the
+ * leaderboard lock the whole leaderboard for a few array operations.
+ */
+public class PointsLeaderboard {
+
+    private static final int COMPLETED = StatusCode.COMPLETED.getId();
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int STRIPES = 64;
+
+    private final ParticipationStore store;
+    private final Map<Integer, Survey> surveysMap;
+    private final Survey[] surveysById;
+    private final Map<Integer, Integer> pointsByMember;
+    private final Object[] stripes = new Object[STRIPES];
+
+    private int[] distinctPoints = new int[INITIAL_CAPACITY];
+    private int distinctCount;
+    private int[][] buckets = new int[INITIAL_CAPACITY][];
+    private int[] bucketSizes = new int[INITIAL_CAPACITY];
+    private int[] fenwickTree = new int[INITIAL_CAPACITY + 1];
+
+    private PointsLeaderboard(ParticipationStore store, Map<Integer, Survey> surveysMap, int members) {
+        this.store = store;
+        this.surveysMap = surveysMap;
+        this.surveysById = toDenseArray(surveysMap);
+        this.pointsByMember = HashMap.newHashMap(members);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * Builds a leaderboard of the given members from the participations in the given store.
+     *
+     * @param members    the members
+     * @param surveysMap the surveys by id, giving the points of every participation
+     * @param store      the participation store
+     * @return a new leaderboard
+     */
+    public static PointsLeaderboard build(Collection<Member> members, Map<Integer, Survey> surveysMap, ParticipationStore store) {
+        PointsLeaderboard leaderboard = new PointsLeaderboard(store, surveysMap, members.size());
+        int[] memberIds = new int[members.size()];
+        int[] totals = new int[members.size()];
+        SurveyPoints surveyPoints = new SurveyPoints();
+        int i = 0;
+        for (Member member : members) {
+            memberIds[i] = member.getId();
+            totals[i] = leaderboard.computePoints(member.getId(), surveyPoints);
+            i++;
+        }
+        leaderboard.fill(memberIds, totals);
+        return leaderboard;
+    }
+
+    /**
+     * Updates the total of the given member after a participation of the member was appended to the store.
+     * Participations of members that are not on the leaderboard are ignored.
+     *
+     * @param memberId the member ID
+     */
+    public void recordParticipation(int memberId) {
+        // the members are fixed once built, so membership is checked without locking
+        if (!pointsByMember.containsKey(memberId)) {
+            return;
+        }
+        synchronized (stripes[Math.floorMod(memberId, STRIPES)]) {
+            int points = computePoints(memberId, new SurveyPoints());
+            updatePoints(memberId, points);
+        }
+    }
+
+    private synchronized void updatePoints(int memberId, int points) {
+        int previous = pointsByMember.get(memberId);
+        if (points != previous) {
+            removeFromBucket(memberId, previous);
+            addToBucket(memberId, points);
+            pointsByMember.put(memberId, points);
+        }
+    }
+
+    /**
+     * Gets the members with the most points, highest first, members with equal points by member id.
+     *
+     * @param limit the maximum number of entries
+     * @return the top entries
+     */
+    public synchronized List<Entry> getTop(int limit) {
+        List<Entry> top = new ArrayList<>(Math.min(limit, pointsByMember.size()));
+        for (int coordinate = distinctCount - 1; coordinate >= 0 && top.size() < limit; coordinate--) {
+            int size = bucketSizes[coordinate];
+            int rank = top.size() + 1;
+            for (int i = 0; i < size && top.size() < limit; i++) {
+                top.add(new Entry(rank, buckets[coordinate][i], distinctPoints[coordinate]));
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Gets the entry of the given member.
+     *
+     * @param memberId the member ID
+     * @return the rank and points of the member, or null if the member is not on the leaderboard
+     */
+    public synchronized Entry getEntry(int memberId) {
+        Integer points = pointsByMember.get(memberId);
+        if (points == null) {
+            return null;
+        }
+        return new Entry(1 + pointsByMember.size() - countUpTo(coordinateOf(points)), memberId, points);
+    }
+
+    /**
+     * Gets the number of members on the leaderboard.
+     *
+     * @return the number of members
+     */
+    public synchronized int size() {
+        return pointsByMember.size();
+    }
+
+    /**
+     * Sums the points of the last eligible participation per survey of the member.
+     */
+    private int computePoints(int memberId, SurveyPoints surveyPoints) {
+        surveyPoints.clear();
+        store.forEachOfMember(memberId, (id, surveyId, statusId, length) -> {
+            if (StatusCode.isEligibleForPoints(statusId)) {
+                Survey survey = surveyId >= 0 && surveyId < surveysById.length ? surveysById[surveyId] : surveysMap.get(surveyId);
+                if (survey != null) {
+                    surveyPoints.put(surveyId, statusId == COMPLETED ? survey.getCompletionPoints() : survey.getFilteredPoints());
+                }
+            }
+        });
+        return Math.clamp(surveyPoints.total(), 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Compresses the totals to the sorted distinct totals, fills the buckets and builds the Fenwick tree of the bucket sizes.
+     */
+    private void fill(int[] memberIds, int[] totals) {
+        int[] sorted = totals.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int total : sorted) {
+            if (count == 0 || sorted[count - 1] != total) {
+                sorted[count++] = total;
+            }
+        }
+        int capacity = Math.max(INITIAL_CAPACITY, count);
+        distinctPoints = Arrays.copyOf(sorted, capacity);
+        distinctCount = count;
+        buckets = new int[capacity][];
+        bucketSizes = new int[capacity];
+        int[] coordinates = new int[totals.length];
+        for (int i = 0; i < totals.length; i++) {
+            coordinates[i] = coordinateOf(totals[i]);
+            bucketSizes[coordinates[i]]++;
+        }
+        for (int coordinate = 0; coordinate < distinctCount; coordinate++) {
+            buckets[coordinate] = new int[bucketSizes[coordinate]];
+            bucketSizes[coordinate] = 0;
+        }
+        for (int i = 0; i < memberIds.length; i++) {
+            pointsByMember.put(memberIds[i], totals[i]);
+            buckets[coordinates[i]][bucketSizes[coordinates[i]]++] = memberIds[i];
+        }
+        for (int coordinate = 0; coordinate < distinctCount; coordinate++) {
+            if (bucketSizes[coordinate] > 1) {
+                Arrays.sort(buckets[coordinate], 0, bucketSizes[coordinate]);
+            }
+        }
+        rebuildFenwickTree();
+    }
+
+    private void addToBucket(int memberId, int points) {
+        int coordinate = coordinateOf(points);
+        if (coordinate < 0) {
+            coordinate = insertCoordinate(-coordinate - 1, points);
+        }
+        int size = bucketSizes[coordinate];
+        int[] bucket = buckets[coordinate];
+        if (bucket == null || size == bucket.length) {
+            bucket = bucket == null || bucket.length == 0 ? new int[4] : Arrays.copyOf(bucket, size * 2);
+            buckets[coordinate] = bucket;
+        }
+        int index = -Arrays.binarySearch(bucket, 0, size, memberId) - 1;
+        System.arraycopy(bucket, index, bucket, index + 1, size - index);
+        bucket[index] = memberId;
+        bucketSizes[coordinate] = size + 1;
+        updateCount(coordinate, 1);
+    }
+
+    private void removeFromBucket(int memberId, int points) {
+        int coordinate = coordinateOf(points);
+        int size = bucketSizes[coordinate];
+        int[] bucket = buckets[coordinate];
+        int index = Arrays.binarySearch(bucket, 0, size, memberId);
+        System.arraycopy(bucket, index + 1, bucket, index, size - index - 1);
+        bucketSizes[coordinate] = size - 1;
+        updateCount(coordinate, -1);
+    }
+
+    /**
+     * Gets the coordinate of the given total.
+     *
+     * @return the coordinate, or {@code -(insertion point) - 1} if no member has had the total yet
+     */
+    private int coordinateOf(int points) {
+        return Arrays.binarySearch(distinctPoints, 0, distinctCount, points);
+    }
+
+    /**
+     * Inserts a new distinct total at the given coordinate, shifting the higher totals and their buckets up by one.
+     */
+    private int insertCoordinate(int coordinate, int points) {
+        if (distinctCount == distinctPoints.length) {
+            int capacity = distinctCount * 2;
+            distinctPoints = Arrays.copyOf(distinctPoints, capacity);
+            buckets = Arrays.copyOf(buckets, capacity);
+            bucketSizes = Arrays.copyOf(bucketSizes, capacity);
+        }
+        int moved = distinctCount - coordinate;
+        System.arraycopy(distinctPoints, coordinate, distinctPoints, coordinate + 1, moved);
+        System.arraycopy(buckets, coordinate, buckets, coordinate + 1, moved);
+        System.arraycopy(bucketSizes, coordinate, bucketSizes, coordinate + 1, moved);
+        distinctPoints[coordinate] = points;
+        buckets[coordinate] = null;
+        bucketSizes[coordinate] = 0;
+        distinctCount++;
+        rebuildFenwickTree();
+        return coordinate;
+    }
+
+    private void rebuildFenwickTree() {
+        fenwickTree = new int[bucketSizes.length + 1];
+        for (int i = 1; i < fenwickTree.length; i++) {
+            fenwickTree[i] += bucketSizes[i - 1];
+            int parent = i + (i & -i);
+            if (parent < fenwickTree.length) {
+                fenwickTree[parent] += fenwickTree[i];
+            }
+        }
+    }
+
+    private void updateCount(int coordinate, int delta) {
+        for (int i = coordinate + 1; i < fenwickTree.length; i += i & -i) {
+            fenwickTree[i] += delta;
+        }
+    }
+
+    /**
+     * Counts the members with at most the total of the given coordinate.
+     */
+    private int countUpTo(int coordinate) {
+        int count = 0;
+        for (int i = coordinate + 1; i > 0; i -= i & -i) {
+            count += fenwickTree[i];
+        }
+        return count;
+    }
+
+    private static Survey[] toDenseArray(Map<Integer, Survey> surveysMap) {
+        int maxId = surveysMap.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+        Survey[] surveys = new Survey[Math.max(0, Math.min(maxId + 1, surveysMap.size() * 4 + 16))];
+        surveysMap.forEach((id, survey) -> {
+            if (id >= 0 && id < surveys.length) {
+                surveys[id] = survey;
+            }
+        });
+        return surveys;
+    }
+
+    /**
+     * The points of a member per survey while its total is computed. The surveys of a member are few,
+     * so they are kept in small arrays searched linearly instead of a map.
+     */
+    private static final class SurveyPoints {
+
+        private int[] surveyIds = new int[16];
+        private int[] points = new int[16];
+        private int size;
+
+        void clear() {
+            size = 0;
+        }
+
+        void put(int surveyId, int surveyPoints) {
+            for (int i = 0; i < size; i++) {
+                if (surveyIds[i] == surveyId) {
+                    points[i] = surveyPoints;
+                    return;
+                }
+            }
+            if (size == surveyIds.length) {
+                surveyIds = Arrays.copyOf(surveyIds, size * 2);
+                points = Arrays.copyOf(points, size * 2);
+            }
+            surveyIds[size] = surveyId;
+            points[size++] = surveyPoints;
+        }
+
+        long total() {
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                total += points[i];
+            }
+            return total;
+        }
+    }
+
+    /**
+     * A member's place on the leaderboard.
+     *
+     * @param rank     the rank, 1 for the members with the most points
+     * @param memberId the member ID
+     * @param points   the total points of the member
+     */
+    public record Entry(int rank, int memberId, int points) {
+    }
+}
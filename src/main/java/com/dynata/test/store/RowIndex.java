@@ -0,0 +1,142 @@
+package com.dynata.test.store;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary index of a {@link ParticipationStore} that maps a key (survey or member id)
+ * to the row numbers holding that key, in insertion order.
+ * <p>
+ * Rows are appended by the store in row order, one writer at a time while it publishes its rows; readers never
+ * block and always see a consistent prefix of each row list.
+ */
+class RowIndex {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int MAX_DENSE_KEYS_PER_ROW = 4;
+
+    private final Map<Integer, Rows> rowsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Builds an index of the first {@code size} rows, where the key of a row is {@code keys[row]}.
+     * <p>
+     * When the keys are dense non-negative ids, the rows are counted per key first, so that every
+     * row list is allocated with its exact size and filled without any map lookup per row.
+     *
+     * @param keys the key of every row
+     * @param size the number of rows
+     * @return a new index
+     */
+    static RowIndex of(int[] keys, int size) {
+        RowIndex index = new RowIndex();
+        int minKey = 0;
+        int maxKey = -1;
+        for (int row = 0; row < size; row++) {
+            minKey = Math.min(minKey, keys[row]);
+            maxKey = Math.max(maxKey, keys[row]);
+        }
+        if (minKey < 0 || maxKey >= (long) size * MAX_DENSE_KEYS_PER_ROW + INITIAL_CAPACITY) {
+            for (int row = 0; row < size; row++) {
+                index.add(keys[row], row);
+            }
+            return index;
+        }
+
+        int[] counts = new int[maxKey + 1];
+        for (int row = 0; row < size; row++) {
+            counts[keys[row]]++;
+        }
+        Rows[] rowsByDenseKey = new Rows[maxKey + 1];
+        for (int key = 0; key <= maxKey; key++) {
+            if (counts[key] > 0) {
+                rowsByDenseKey[key] = new Rows(counts[key]);
+                counts[key] = 0;
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            int key = keys[row];
+            rowsByDenseKey[key].rows[counts[key]++] = row;
+        }
+        for (int key = 0; key <= maxKey; key++) {
+            Rows rows = rowsByDenseKey[key];
+            if (rows != null) {
+                rows.size = counts[key];
+                index.rowsByKey.put(key, rows);
+            }
+        }
+        return index;
+    }
+
+    void add(int key, int row) {
+        rowsByKey.computeIfAbsent(key, k -> new Rows()).add(row);
+    }
+
+    int count(int key) {
+        Rows rows = rowsByKey.get(key);
+        return rows == null ? 0 : rows.size;
+    }
+
+    int keyCount() {
+        return rowsByKey.size();
+    }
+
+    int[] keys() {
+        return rowsByKey.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Gets a snapshot of the row numbers stored for the given key.
+     *
+     * @param key the key
+     * @return the row numbers, or an empty array if the key is unknown
+     */
+    int[] rows(int key) {
+        Rows rows = rowsByKey.get(key);
+        if (rows == null) {
+            return new int[0];
+        }
+        int size = rows.size;
+        return Arrays.copyOf(rows.rows, size);
+    }
+
+    void forEach(int key, RowConsumer consumer) {
+        Rows rows = rowsByKey.get(key);
+        if (rows == null) {
+            return;
+        }
+        // size is read before the array so that the array is at least as large as size
+        int size = rows.size;
+        int[] snapshot = rows.rows;
+        for (int i = 0; i < size; i++) {
+            consumer.accept(snapshot[i]);
+        }
+    }
+
+    @FunctionalInterface
+    interface RowConsumer {
+        void accept(int row);
+    }
+
+    private static final class Rows {
+        private int[] rows;
+        private volatile int size;
+
+        private Rows() {
+            this(INITIAL_CAPACITY);
+        }
+
+        private Rows(int capacity) {
+            rows = new int[capacity];
+        }
+
+        private void add(int row) {
+            int current = size;
+            if (current == rows.length) {
+                rows = Arrays.copyOf(rows, Math.max(INITIAL_CAPACITY, current * 2));
+            }
+            rows[current] = row;
+            size = current + 1;
+        }
+    }
+}
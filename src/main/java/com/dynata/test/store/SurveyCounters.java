@@ -0,0 +1,83 @@
+package com.dynata.test.store;
+
+import com.dynata.test.model.StatusCode;
+
+/**
+ * Running participation counters of a single survey.
+ * <p>
+ * Counters start from the totals aggregated at load and are updated in place by
+ * {@link SurveyStatisticsEngine#record(int, int, int)}; writers of the same survey are serialized, readers never block.
+ */
+public class SurveyCounters {
+
+    private volatile int completes;
+    private volatile int filtered;
+    private volatile int rejected;
+    private volatile long completedLength;
+    private final LengthHistogram completedLengths;
+
+    SurveyCounters() {
+        this.completedLengths = new LengthHistogram();
+    }
+
+    SurveyCounters(int completes, int filtered, int rejected, long completedLength, LengthHistogram completedLengths) {
+        this.completes = completes;
+        this.filtered = filtered;
+        this.rejected = rejected;
+        this.completedLength = completedLength;
+        this.completedLengths = completedLengths;
+    }
+
+    synchronized void record(int statusId, int length) {
+        StatusCode code = StatusCode.of(statusId);
+        if (code == null) {
+            return;
+        }
+        switch (code) {
+            case COMPLETED -> {
+                completedLength += length;
+                completedLengths.record(length);
+                completes++;
+            }
+            case FILTERED -> filtered++;
+            case REJECTED -> rejected++;
+            case NOT_ASKED -> {
+            }
+        }
+    }
+
+    public int getCompletes() {
+        return completes;
+    }
+
+    public int getFiltered() {
+        return filtered;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public long getCompletedLength() {
+        return completedLength;
+    }
+
+    /**
+     * Gets the distribution of the lengths of time of the completed participations.
+     *
+     * @return the histogram of the completed lengths
+     */
+    public LengthHistogram getCompletedLengths() {
+        return completedLengths;
+    }
+
+    /**
+     * Gets the average length of time of the completed participations.
+     *
+     * @return the average length, or 0 if there are no completes
+     */
+    public double getAverageCompletedLength() {
+        int count = completes;
+        return count == 0 ? 0 : (double) completedLength / count;
+    }
+}
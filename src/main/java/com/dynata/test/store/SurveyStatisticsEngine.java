@@ -0,0 +1,227 @@
+package com.dynata.test.store;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.dynata.test.model.StatusCode;
+
+/**
+ * Keeps per-survey participation counters so that survey statistics can be served
+ * without iterating participations.
+ * <p>
+ * The counters are aggregated while participations are loaded, either in a single sequential pass or in
+ * parallel on a {@link ForkJoinPool}: the rows are split into partitions that are aggregated into per-partition
+ * counters of every survey, which are then merged. Since the counters are sums and the length histograms
+ * bucket counts, both yield the same counters.
+ * They are then updated in place for every newly recorded participation.
+ */
+public class SurveyStatisticsEngine {
+
+    private static final SurveyCounters EMPTY = new SurveyCounters();
+
+    private static final int MIN_PARTITION_ROWS = 1 << 16;
+
+    private final Map<Integer, SurveyCounters> countersBySurvey = new ConcurrentHashMap<>();
+
+    /**
+     * Builds an engine holding the counters of every participation in the given store, aggregated sequentially.
+     *
+     * @param store the participation store
+     * @return a new engine
+     */
+    public static SurveyStatisticsEngine build(ParticipationStore store) {
+        SurveyStatisticsEngine engine = new SurveyStatisticsEngine();
+        store.forEach((memberId, surveyId, statusId, length) -> engine.record(surveyId, statusId, length));
+        return engine;
+    }
+
+    /**
+     * Builds an engine holding the counters of every participation in the given store, aggregated in parallel
+     * on a pool of the given parallelism. A parallelism of 1, or a store too small to be split, is aggregated
+     * sequentially.
+     *
+     * @param store       the participation store
+     * @param parallelism the number of partitions aggregated in parallel
+     * @return a new engine
+     */
+    public static SurveyStatisticsEngine build(ParticipationStore store, int parallelism) {
+        int size = store.size();
+        if (parallelism <= 1 || size < 2 * MIN_PARTITION_ROWS) {
+            return build(store);
+        }
+        SurveySlots slots = SurveySlots.of(store.distinctSurveyIds());
+        int partitionRows = Math.max(MIN_PARTITION_ROWS, (size + parallelism - 1) / parallelism);
+        PartitionCounters totals;
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            totals = pool.invoke(new AggregateTask(store, slots, 0, size, partitionRows));
+        }
+        SurveyStatisticsEngine engine = new SurveyStatisticsEngine();
+        for (int slot = 0; slot < slots.ids.length; slot++) {
+            engine.countersBySurvey.put(slots.ids[slot], new SurveyCounters(totals.count(StatusCode.COMPLETED, slot),
+                                                                            totals.count(StatusCode.FILTERED, slot),
+                                                                            totals.count(StatusCode.REJECTED, slot),
+                                                                            totals.completedLength[slot],
+                                                                            totals.completedLengths(slot)));
+        }
+        return engine;
+    }
+
+    /**
+     * Records a participation in the counters of its survey.
+     *
+     * @param surveyId the survey ID
+     * @param statusId the status ID
+     * @param length   the length of time spent on the survey
+     */
+    public void record(int surveyId, int statusId, int length) {
+        countersBySurvey.computeIfAbsent(surveyId, id -> new SurveyCounters()).record(statusId, length);
+    }
+
+    /**
+     * Gets the counters of the given survey.
+     *
+     * @param surveyId the survey ID
+     * @return the counters of the survey, or empty counters if it has no participations
+     */
+    public SurveyCounters getCounters(int surveyId) {
+        return countersBySurvey.getOrDefault(surveyId, EMPTY);
+    }
+
+    /**
+     * Maps the survey IDs of a store to consecutive slots of the partition counters, directly by ID when the IDs
+     * are small enough, by binary search otherwise.
+     */
+    private static final class SurveySlots {
+
+        private final int[] ids;
+        private final int[] slotsById;
+
+        private SurveySlots(int[] ids, int[] slotsById) {
+            this.ids = ids;
+            this.slotsById = slotsById;
+        }
+
+        static SurveySlots of(int[] surveyIds) {
+            int[] ids = surveyIds.clone();
+            Arrays.sort(ids);
+            if (ids.length == 0 || ids[0] < 0 || ids[ids.length - 1] >= ids.length * 4 + 16) {
+                return new SurveySlots(ids, null);
+            }
+            int[] slotsById = new int[ids[ids.length - 1] + 1];
+            for (int slot = 0; slot < ids.length; slot++) {
+                slotsById[ids[slot]] = slot;
+            }
+            return new SurveySlots(ids, slotsById);
+        }
+
+        int slotOf(int surveyId) {
+            return slotsById != null ? slotsById[surveyId] : Arrays.binarySearch(ids, surveyId);
+        }
+    }
+
+    /**
+     * Counters of every survey aggregated from one partition of the rows. Rows are counted per status by
+     * indexing the counts with the status id, the counts of statuses without statistics are discarded.
+     */
+    private static final class PartitionCounters {
+
+        private static final int COMPLETED = StatusCode.COMPLETED.getId();
+        private static final StatusCode[] COUNTED = {StatusCode.COMPLETED, StatusCode.FILTERED, StatusCode.REJECTED};
+
+        private final SurveySlots slots;
+        private final int[][] countsByStatus = new int[StatusCode.MAX_ID + 1][];
+        private final long[] completedLength;
+        private final LengthHistogram[] completedLengths;
+
+        PartitionCounters(SurveySlots slots) {
+            this.slots = slots;
+            int surveys = slots.ids.length;
+            Arrays.fill(countsByStatus, new int[surveys]);
+            for (StatusCode code : COUNTED) {
+                countsByStatus[code.getId()] = new int[surveys];
+            }
+            this.completedLength = new long[surveys];
+            this.completedLengths = new LengthHistogram[surveys];
+        }
+
+        void record(int surveyId, int statusId, int length) {
+            int slot = slots.slotOf(surveyId);
+            countsByStatus[statusId][slot]++;
+            if (statusId == COMPLETED) {
+                completedLength[slot] += length;
+                completedLengths(slot).record(length);
+            }
+        }
+
+        PartitionCounters merge(PartitionCounters other) {
+            for (StatusCode code : COUNTED) {
+                int[] counts = countsByStatus[code.getId()];
+                int[] otherCounts = other.countsByStatus[code.getId()];
+                for (int slot = 0; slot < counts.length; slot++) {
+                    counts[slot] += otherCounts[slot];
+                }
+            }
+            for (int slot = 0; slot < completedLength.length; slot++) {
+                completedLength[slot] += other.completedLength[slot];
+                if (other.completedLengths[slot] != null) {
+                    completedLengths(slot).merge(other.completedLengths[slot]);
+                }
+            }
+            return this;
+        }
+
+        int count(StatusCode code, int slot) {
+            return countsByStatus[code.getId()][slot];
+        }
+
+        LengthHistogram completedLengths(int slot) {
+            LengthHistogram histogram = completedLengths[slot];
+            if (histogram == null) {
+                histogram = new LengthHistogram();
+                completedLengths[slot] = histogram;
+            }
+            return histogram;
+        }
+    }
+
+    /**
+     * Splits a range of rows in halves until it fits in a partition and merges the counters of both halves.
+     */
+    private static final class AggregateTask extends RecursiveTask<PartitionCounters> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient ParticipationStore store;
+        private final transient SurveySlots slots;
+        private final int fromRow;
+        private final int toRow;
+        private final int partitionRows;
+
+        AggregateTask(ParticipationStore store, SurveySlots slots, int fromRow, int toRow, int partitionRows) {
+            this.store = store;
+            this.slots = slots;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.partitionRows = partitionRows;
+        }
+
+        @Override
+        protected PartitionCounters compute() {
+            if (toRow - fromRow <= partitionRows) {
+                PartitionCounters counters = new PartitionCounters(slots);
+                store.forEach(fromRow, toRow, (memberId, surveyId, statusId, length) -> counters.record(surveyId, statusId, length));
+                return counters;
+            }
+            int middle = (fromRow + toRow) >>> 1;
+            AggregateTask upper = new AggregateTask(store, slots, middle, toRow, partitionRows);
+            upper.fork();
+            PartitionCounters lower = new AggregateTask(store, slots, fromRow, middle, partitionRows).compute();
+            return lower.merge(upper.join());
+        }
+    }
+}
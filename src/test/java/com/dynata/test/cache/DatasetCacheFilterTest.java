@@ -0,0 +1,222 @@
+package com.dynata.test.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.BDDMockito.given;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import com.dynata.test.config.HttpCacheProperties;
+import com.dynata.test.service.DataService;
+import com.dynata.test.store.Dataset;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Dataset Cache Filter Tests")
+class DatasetCacheFilterTest {
+
+    private static final String STATISTICS = "/api/surveys/statistics";
+
+    @Mock
+    private DataService dataService;
+
+    private final HttpCacheProperties httpCacheProperties = new HttpCacheProperties();
+    private final AtomicInteger invocations = new AtomicInteger();
+    private Dataset dataset;
+    private String body;
+    private int status;
+    private int streamedBeforeHandlerReturned;
+    private DatasetCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        dataset = Dataset.empty();
+        given(dataService.getDataset()).willAnswer(invocation -> dataset);
+        body = "[{\"surveyId\":1}]";
+        status = HttpServletResponse.SC_OK;
+        filter = new DatasetCacheFilter(dataService, httpCacheProperties);
+    }
+
+    @Test
+    @DisplayName("Should tag and cache the response until the dataset is appended to")
+    void shouldCacheResponseUntilDatasetChanges() throws Exception {
+        MockHttpServletResponse first = get(STATISTICS);
+        MockHttpServletResponse second = get(STATISTICS);
+
+        assertEquals(200, second.getStatus());
+        assertEquals("\"0.0\"", first.getHeader(HttpHeaders.ETAG));
+        assertEquals("\"0.0\"", second.getHeader(HttpHeaders.ETAG));
+        assertEquals("no-cache", second.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals(body, first.getContentAsString());
+        assertEquals(body, second.getContentAsString());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, second.getContentType());
+        assertEquals(1, invocations.get());
+
+        dataset.appendParticipation(1, 1, 4, 10);
+        body = "[{\"surveyId\":2}]";
+        MockHttpServletResponse third = get(STATISTICS);
+
+        assertEquals("\"0.1\"", third.getHeader(HttpHeaders.ETAG));
+        assertEquals(body, third.getContentAsString());
+        assertEquals(2, invocations.get());
+        assertEquals(1, filter.getResponseCache().size());
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 without invoking the controller")
+    void shouldReturnNotModifiedForMatchingEtag() throws Exception {
+        MockHttpServletRequest request = request(STATISTICS);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", \"0.0\"");
+
+        MockHttpServletResponse response = filter(request);
+
+        assertEquals(304, response.getStatus());
+        assertEquals("\"0.0\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(0, invocations.get());
+
+        dataset = Dataset.build(1, dataset.getMembers(), dataset.getSurveys(), dataset.getStatuses(), dataset.getParticipationStore(), System.nanoTime());
+        request = request(STATISTICS);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"0.0\"");
+
+        response = filter(request);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("\"1.0\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    @DisplayName("Should not answer a wildcard If-None-Match before the controller ran")
+    void shouldNotMatchWildcardEtag() throws Exception {
+        status = HttpServletResponse.SC_NOT_FOUND;
+        MockHttpServletRequest request = request("/api/members/99");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+
+        MockHttpServletResponse response = filter(request);
+
+        assertEquals(404, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    @DisplayName("Should serve the pre-compressed body to clients accepting gzip")
+    void shouldServeGzipBody() throws Exception {
+        body = "[" + "{\"surveyId\":1},".repeat(200) + "{\"surveyId\":1}]";
+        get(STATISTICS);
+        MockHttpServletRequest request = request(STATISTICS);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        MockHttpServletResponse response = filter(request);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"0.0-gzip\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), gzip.readAllBytes());
+        }
+        assertEquals(1, invocations.get());
+
+        request = request(STATISTICS);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"0.0-gzip\"");
+        assertEquals(304, filter(request).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should not cache error responses, streams and other paths")
+    void shouldNotCacheErrorsStreamsAndOtherPaths() throws Exception {
+        status = HttpServletResponse.SC_NOT_FOUND;
+        MockHttpServletResponse notFound = get("/api/surveys/99/respondents");
+        get("/api/surveys/99/respondents");
+
+        assertEquals(404, notFound.getStatus());
+        assertNull(notFound.getHeader(HttpHeaders.ETAG));
+        assertEquals(2, invocations.get());
+
+        status = HttpServletResponse.SC_OK;
+        MockHttpServletRequest stream = request("/api/members");
+        stream.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE);
+        assertNull(filter(stream).getHeader(HttpHeaders.ETAG));
+        assertNull(get("/api/admin/dataset").getHeader(HttpHeaders.ETAG));
+        assertEquals(0, filter.getResponseCache().size());
+        assertEquals(4, invocations.get());
+    }
+
+    @Test
+    @DisplayName("Should tag but not cache responses larger than the maximum entry size")
+    void shouldNotCacheLargeResponses() throws Exception {
+        httpCacheProperties.setMaxEntrySize(DataSize.ofBytes(4));
+
+        MockHttpServletResponse response = get(STATISTICS);
+        get(STATISTICS);
+
+        assertEquals("\"0.0\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(body, response.getContentAsString());
+        assertEquals(body.length(), streamedBeforeHandlerReturned);
+        assertEquals(0, filter.getResponseCache().size());
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    @DisplayName("Should buffer responses up to the maximum entry size only")
+    void shouldStreamResponsesOnceLargerThanMaximumEntrySize() throws Exception {
+        httpCacheProperties.setMaxEntrySize(DataSize.ofBytes(body.length()));
+
+        get(STATISTICS);
+        assertEquals(0, streamedBeforeHandlerReturned);
+        assertEquals(1, filter.getResponseCache().size());
+
+        dataset.appendParticipation(1, 1, 4, 10);
+        body = body + " ";
+        MockHttpServletResponse response = get(STATISTICS);
+
+        assertEquals(body.length(), streamedBeforeHandlerReturned);
+        assertEquals(body, response.getContentAsString());
+        assertEquals("\"0.1\"", response.getHeader(HttpHeaders.ETAG));
+        assertNull(filter.getResponseCache().get("0.1", STATISTICS));
+    }
+
+    private MockHttpServletResponse get(String path) throws ServletException, IOException {
+        return filter(request(path));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                invocations.incrementAndGet();
+                resp.setStatus(status);
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+                streamedBeforeHandlerReturned = response.getContentAsByteArray().length;
+            }
+        }));
+        return response;
+    }
+}
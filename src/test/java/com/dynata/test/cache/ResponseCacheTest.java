@@ -0,0 +1,45 @@
+package com.dynata.test.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Response Cache Tests")
+class ResponseCacheTest {
+
+    private static final CachedResponse RESPONSE = new CachedResponse("application/json", new byte[]{'[', ']'}, null);
+
+    private final ResponseCache responseCache = new ResponseCache(2);
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when full")
+    void shouldEvictLeastRecentlyUsedEntry() {
+        responseCache.put("1.0", "/a", RESPONSE);
+        responseCache.put("1.0", "/b", RESPONSE);
+        assertNotNull(responseCache.get("1.0", "/a"));
+
+        responseCache.put("1.0", "/c", RESPONSE);
+
+        assertEquals(2, responseCache.size());
+        assertNotNull(responseCache.get("1.0", "/a"));
+        assertNull(responseCache.get("1.0", "/b"));
+        assertNotNull(responseCache.get("1.0", "/c"));
+    }
+
+    @Test
+    @DisplayName("Should drop all entries when an entry of another ETag is cached")
+    void shouldDropEntriesOfOtherEtag() {
+        responseCache.put("1.0", "/a", RESPONSE);
+        responseCache.put("1.0", "/b", RESPONSE);
+
+        assertNull(responseCache.get("1.1", "/a"));
+        responseCache.put("1.1", "/a", RESPONSE);
+
+        assertEquals(1, responseCache.size());
+        assertNull(responseCache.get("1.0", "/b"));
+        assertNotNull(responseCache.get("1.1", "/a"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.dynata.test.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+@DisplayName("Execution Config Tests")
+class ExecutionConfigTest {
+
+    private final ExecutionConfig executionConfig = new ExecutionConfig();
+
+    @Test
+    @DisplayName("Should create platform threads by default")
+    void shouldCreatePlatformThreadsByDefault() {
+        ThreadFactory factory = executionConfig.dataThreadFactory(new MockEnvironment());
+
+        Thread thread = factory.newThread(() -> { });
+
+        assertFalse(thread.isVirtual());
+        assertTrue(thread.isDaemon());
+    }
+
+    @Test
+    @DisplayName("Should create virtual threads when virtual threads are enabled")
+    void shouldCreateVirtualThreadsWhenEnabled() {
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+
+        Thread thread = executionConfig.dataThreadFactory(environment).newThread(() -> { });
+
+        assertTrue(thread.isVirtual());
+    }
+}
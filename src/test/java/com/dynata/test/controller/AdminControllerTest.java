@@ -0,0 +1,61 @@
+package com.dynata.test.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+
+import java.time.Instant;
+
+import com.dynata.test.service.DataService;
+import com.dynata.test.service.DataService.DatasetInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Admin Controller Tests")
+class AdminControllerTest {
+
+    @Mock
+    private DataService dataService;
+
+    @InjectMocks
+    private AdminController adminController;
+
+    private final DatasetInfo info = DatasetInfo.builder()
+                                                .version(2)
+                                                .loadedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                                                .loadDurationMillis(120)
+                                                .members(3)
+                                                .surveys(2)
+                                                .statuses(4)
+                                                .participations(5)
+                                                .build();
+
+    @Test
+    @DisplayName("Should reload the data and return the new dataset info")
+    void reload() {
+        given(dataService.reload()).willReturn(info);
+
+        ResponseEntity<DatasetInfo> response = adminController.reload();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(info, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return the current dataset info")
+    void getDatasetInfo() {
+        given(dataService.getDatasetInfo()).willReturn(info);
+
+        ResponseEntity<DatasetInfo> response = adminController.getDatasetInfo();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(info, response.getBody());
+    }
+}
@@ -3,24 +3,38 @@ package com.dynata.test.controller;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import com.dynata.test.model.Member;
 import com.dynata.test.model.Survey;
+import com.dynata.test.service.MemberPage;
 import com.dynata.test.service.MemberService;
+import com.dynata.test.service.MemberService.LeaderboardEntry;
+import com.dynata.test.service.MemberService.MemberFilter;
+import com.dynata.test.service.MemberService.MemberQueryResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Member Controller Tests")
@@ -29,6 +43,9 @@ class MemberControllerTest {
     @Mock
     private MemberService memberService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private MemberController memberController;
 
@@ -136,4 +153,111 @@ class MemberControllerTest {
         assertEquals(10, response.getBody().get(1));
         assertEquals(5, response.getBody().get(2));
     }
+
+    @Test
+    @DisplayName("Should return a page of members")
+    void getMembersPage() {
+        MemberPage page = new MemberPage(List.of(member1, member2), "Mg");
+        given(memberService.getMembers(null, 2)).willReturn(page);
+
+        ResponseEntity<MemberPage> response = memberController.getMembers(2, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should stream active members as newline-delimited JSON")
+    void streamActiveMembers() throws IOException {
+        willAnswer(invocation -> {
+            Consumer<Member> action = invocation.getArgument(0);
+            action.accept(member1);
+            action.accept(member2);
+            return null;
+        }).given(memberService).forEachActiveMember(any());
+
+        ResponseEntity<StreamingResponseBody> response = memberController.streamActiveMembers();
+
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("""
+                     {"id":1,"fullname":"John Doe","email":"john@example.com","active":true}
+                     {"id":2,"fullname":"Jane Smith","email":"jane@example.com","active":true}
+                     """, write(response.getBody()));
+    }
+
+    private static String write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should return the leaderboard")
+    void getLeaderboard() {
+        List<LeaderboardEntry> leaderboard = List.of(new LeaderboardEntry(1, 30, member2), new LeaderboardEntry(2, 10, member1));
+        given(memberService.getLeaderboard(2)).willReturn(leaderboard);
+
+        ResponseEntity<List<LeaderboardEntry>> response = memberController.getLeaderboard(2);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(leaderboard, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return the rank of a member or 404 when not found")
+    void getLeaderboardEntry() {
+        LeaderboardEntry entry = new LeaderboardEntry(2, 10, member1);
+        given(memberService.getLeaderboardEntry(1)).willReturn(entry);
+        given(memberService.getLeaderboardEntry(4)).willReturn(null);
+
+        ResponseEntity<LeaderboardEntry> response = memberController.getLeaderboardEntry(1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(entry, response.getBody());
+        assertEquals(HttpStatus.NOT_FOUND, memberController.getLeaderboardEntry(4).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should return points and completed surveys of a batch of members")
+    void getBatches() {
+        Map<Integer, Map<Integer, Integer>> points = Map.of(1, Map.of(1, 10), 2, Map.of());
+        Map<Integer, List<Survey>> surveys = Map.of(1, List.of(survey1, survey2));
+        given(memberService.getPointsCollectedByMembers(List.of(1, 2))).willReturn(points);
+        given(memberService.getSurveysCompletedByMembers(List.of(1))).willReturn(surveys);
+
+        ResponseEntity<Map<Integer, Map<Integer, Integer>>> pointsResponse = memberController.getPointsCollectedByMembers(List.of(1, 2));
+        ResponseEntity<Map<Integer, List<Survey>>> surveysResponse = memberController.getSurveysCompletedByMembers(List.of(1));
+
+        assertEquals(HttpStatus.OK, pointsResponse.getStatusCode());
+        assertEquals(points, pointsResponse.getBody());
+        assertEquals(HttpStatus.OK, surveysResponse.getStatusCode());
+        assertEquals(surveys, surveysResponse.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return the result of a member query")
+    void queryMembers() {
+        MemberFilter filter = MemberFilter.builder().active(true).build();
+        MemberQueryResult result = new MemberQueryResult(2, List.of(1, 2), null);
+        given(memberService.queryMembers(filter, "ids", 10)).willReturn(result);
+
+        ResponseEntity<MemberQueryResult> response = memberController.queryMembers(filter, "ids", 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return the members found by search or email")
+    void searchMembers() {
+        given(memberService.searchMembers("jo", 20)).willReturn(List.of(member1));
+        given(memberService.getMembersByEmail("john@example.com")).willReturn(List.of(member1));
+
+        ResponseEntity<List<Member>> searchResponse = memberController.searchMembers("jo", 20);
+        ResponseEntity<List<Member>> emailResponse = memberController.getMembersByEmail("john@example.com");
+
+        assertEquals(HttpStatus.OK, searchResponse.getStatusCode());
+        assertEquals(List.of(member1), searchResponse.getBody());
+        assertEquals(List.of(member1), emailResponse.getBody());
+    }
 }
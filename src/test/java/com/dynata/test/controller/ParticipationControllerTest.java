@@ -0,0 +1,56 @@
+package com.dynata.test.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+
+import com.dynata.test.service.IngestService;
+import com.dynata.test.service.IngestService.IngestResult;
+import com.dynata.test.service.IngestService.ParticipationEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Participation Controller Tests")
+class ParticipationControllerTest {
+
+    @Mock
+    private IngestService ingestService;
+
+    @InjectMocks
+    private ParticipationController participationController;
+
+    private final ParticipationEvent event = new ParticipationEvent(1, 1, 4, 25);
+
+    @Test
+    @DisplayName("Should ingest a single participation event")
+    void ingest() {
+        IngestResult result = new IngestResult(1, 1, 3001);
+        given(ingestService.ingest(event)).willReturn(result);
+
+        ResponseEntity<IngestResult> response = participationController.ingest(event);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(result, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should ingest a batch of participation events")
+    void ingestAll() {
+        IngestResult result = new IngestResult(2, 1, 3002);
+        given(ingestService.ingestAll(List.of(event, event))).willReturn(result);
+
+        ResponseEntity<IngestResult> response = participationController.ingestAll(List.of(event, event));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(result, response.getBody());
+    }
+}
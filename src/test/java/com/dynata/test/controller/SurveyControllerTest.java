@@ -1,25 +1,38 @@
 package com.dynata.test.controller;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import com.dynata.test.model.Member;
 import com.dynata.test.model.Survey;
+import com.dynata.test.service.MemberPage;
 import com.dynata.test.service.SurveyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Survey Controller Tests")
@@ -28,6 +41,9 @@ class SurveyControllerTest {
     @Mock
     private SurveyService surveyService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private SurveyController surveyController;
 
@@ -47,8 +63,8 @@ class SurveyControllerTest {
         survey1 = Survey.builder().id(1).name("Survey 1").expectedCompletes(100).completionPoints(10).filteredPoints(5).build();
         survey2 = Survey.builder().id(2).name("Survey 2").expectedCompletes(200).completionPoints(20).filteredPoints(10).build();
 
-        stats1 = new SurveyService.SurveyStatistics(1, "Survey 1", 10, 5, 2, 15.0);
-        stats2 = new SurveyService.SurveyStatistics(2, "Survey 2", 20, 10, 5, 20.0);
+        stats1 = new SurveyService.SurveyStatistics(1, "Survey 1", 10, 5, 2, 15.0, 8, 14, 22, 30, 31);
+        stats2 = new SurveyService.SurveyStatistics(2, "Survey 2", 20, 10, 5, 20.0, 12, 19, 28, 35, 40);
     }
 
     @Test
@@ -80,6 +96,30 @@ class SurveyControllerTest {
         assertEquals(member2, response.getBody().getFirst());
     }
 
+    @Test
+    @DisplayName("Should return ids of members who can be invited for the survey")
+    void getIdsOfMembersWhoCanBeInvitedForSurvey() {
+        given(surveyService.getIdsOfMembersWhoCanBeInvitedForSurvey(1)).willReturn(new int[]{2});
+
+        ResponseEntity<int[]> response = surveyController.getIdsOfMembersWhoCanBeInvitedForSurvey(1);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(new int[]{2}, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return number of members who can be invited for the survey")
+    void countMembersWhoCanBeInvitedForSurvey() {
+        given(surveyService.countMembersWhoCanBeInvitedForSurvey(1)).willReturn(1);
+
+        ResponseEntity<Integer> response = surveyController.countMembersWhoCanBeInvitedForSurvey(1);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody());
+    }
+
     @Test
     @DisplayName("Should return survey statistics")
     void getSurveyStatistics() {
@@ -127,4 +167,80 @@ class SurveyControllerTest {
         assertEquals(10, response.getBody().get(1));
         assertEquals(5, response.getBody().get(2));
     }
+
+    @Test
+    @DisplayName("Should return a page of members who can be invited for the survey")
+    void getMembersWhoCanBeInvitedForSurveyPage() {
+        MemberPage page = new MemberPage(List.of(member1), null);
+        given(surveyService.getMembersWhoCanBeInvitedForSurvey(1, "Mg", 10)).willReturn(page);
+
+        ResponseEntity<MemberPage> response = surveyController.getMembersWhoCanBeInvitedForSurvey(1, 10, "Mg");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should stream members who can be invited for the survey as newline-delimited JSON")
+    void streamMembersWhoCanBeInvitedForSurvey() throws IOException {
+        willAnswer(invocation -> {
+            Consumer<Member> action = invocation.getArgument(1);
+            action.accept(member2);
+            return null;
+        }).given(surveyService).forEachMemberWhoCanBeInvitedForSurvey(eq(1), any());
+
+        ResponseEntity<StreamingResponseBody> response = surveyController.streamMembersWhoCanBeInvitedForSurvey(1);
+
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("{\"id\":2,\"fullname\":\"Jane Smith\",\"email\":\"jane@example.com\",\"active\":true}\n", write(response.getBody()));
+    }
+
+    private static String write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should return respondents of a batch of surveys")
+    void getRespondentsWhoCompletedSurveys() {
+        Map<Integer, List<Member>> respondents = Map.of(1, List.of(member1, member2), 2, List.of());
+        given(surveyService.getRespondentsWhoCompletedSurveys(List.of(1, 2))).willReturn(respondents);
+
+        ResponseEntity<Map<Integer, List<Member>>> response = surveyController.getRespondentsWhoCompletedSurveys(List.of(1, 2));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(respondents, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return the invitation plan of a survey or 404 when not found")
+    void planInvitations() {
+        SurveyService.InvitationPlan plan = SurveyService.InvitationPlan.builder()
+                                                                        .surveyId(1)
+                                                                        .expectedCompletes(100)
+                                                                        .remainingCompletes(90)
+                                                                        .invites(List.of(new SurveyService.PlannedInvite(1, 0.5, member1)))
+                                                                        .build();
+        given(surveyService.planInvitations(1, 100)).willReturn(plan);
+        given(surveyService.planInvitations(99, 100)).willReturn(null);
+
+        ResponseEntity<SurveyService.InvitationPlan> response = surveyController.planInvitations(1, 100);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(plan, response.getBody());
+        assertEquals(HttpStatus.NOT_FOUND, surveyController.planInvitations(99, 100).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should return the fulfilment of the surveys")
+    void getSurveyFulfilment() {
+        List<SurveyService.SurveyFulfilment> fulfilment = List.of(new SurveyService.SurveyFulfilment(1, "Survey 1", 100, 40, 60, 40.0));
+        given(surveyService.getSurveyFulfilment(true, "remaining")).willReturn(fulfilment);
+
+        ResponseEntity<List<SurveyService.SurveyFulfilment>> response = surveyController.getSurveyFulfilment(true, "remaining");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(fulfilment, response.getBody());
+    }
 }
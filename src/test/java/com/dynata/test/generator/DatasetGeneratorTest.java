@@ -0,0 +1,126 @@
+package com.dynata.test.generator;
+
+import static com.dynata.test.config.DataProperties.MEMBERS_CSV;
+import static com.dynata.test.config.DataProperties.PARTICIPATION_CSV;
+import static com.dynata.test.config.DataProperties.STATUSES_CSV;
+import static com.dynata.test.config.DataProperties.SURVEYS_CSV;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Participation;
+import com.dynata.test.model.Status;
+import com.dynata.test.service.impl.DataServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Dataset Generator Tests")
+class DatasetGeneratorTest {
+
+    private static final DatasetSpec SPEC = DatasetSpec.builder()
+                                                       .members(500)
+                                                       .surveys(20)
+                                                       .participations(4000)
+                                                       .surveySkew(1.2)
+                                                       .memberSkew(0.8)
+                                                       .build();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Should write the headers expected by the mappers")
+    void shouldWriteHeaders() throws IOException {
+        Path directory = SyntheticDataset.write(tempDir, SPEC);
+
+        assertEquals("Member Id,Full name,E-mail address,Is Active", firstLine(directory.resolve(MEMBERS_CSV)));
+        assertEquals("Survey Id,Name,Expected completes,Completion points,Filtered points", firstLine(directory.resolve(SURVEYS_CSV)));
+        assertEquals("Status Id,Name", firstLine(directory.resolve(STATUSES_CSV)));
+        assertEquals("Member Id,Survey Id,Status,Length", firstLine(directory.resolve(PARTICIPATION_CSV)));
+    }
+
+    @Test
+    @DisplayName("Should generate the same files for the same seed")
+    void shouldBeDeterministic() throws IOException {
+        Path first = SyntheticDataset.write(tempDir.resolve("first"), SPEC);
+        Path second = SyntheticDataset.write(tempDir.resolve("second"), SPEC);
+        Path otherSeed = SyntheticDataset.write(tempDir.resolve("other"), SPEC.toBuilder().seed(7).build());
+
+        assertEquals(Files.readString(first.resolve(PARTICIPATION_CSV)), Files.readString(second.resolve(PARTICIPATION_CSV)));
+        assertEquals(Files.readString(first.resolve(MEMBERS_CSV)), Files.readString(second.resolve(MEMBERS_CSV)));
+        assertNotEquals(Files.readString(first.resolve(PARTICIPATION_CSV)), Files.readString(otherSeed.resolve(PARTICIPATION_CSV)));
+    }
+
+    @Test
+    @DisplayName("Should generate a dataset that can be loaded")
+    void shouldGenerateLoadableDataset() throws IOException {
+        DataServiceImpl dataService = SyntheticDataset.load(SyntheticDataset.write(tempDir, SPEC));
+
+        assertEquals(500, dataService.getAllMembers().size());
+        assertEquals(20, dataService.getAllSurveys().size());
+        assertEquals(4, dataService.getAllStatuses().size());
+        assertEquals(4000, dataService.getParticipationStore().size());
+
+        long active = dataService.getAllMembers().stream().filter(Member::isActive).count();
+        assertTrue(active > 300 && active < 440, "Active members: " + active);
+    }
+
+    @Test
+    @DisplayName("Should let every member participate in a survey at most once")
+    void shouldGenerateDistinctParticipations() throws IOException {
+        DataServiceImpl dataService = SyntheticDataset.load(SyntheticDataset.write(tempDir, SPEC));
+
+        Set<String> pairs = new HashSet<>();
+        dataService.getParticipationStore().forEach((memberId, surveyId, statusId, length) -> pairs.add(memberId + ":" + surveyId));
+
+        assertEquals(4000, pairs.size());
+    }
+
+    @Test
+    @DisplayName("Should follow the status, length and skew settings")
+    void shouldFollowDistributions() throws IOException {
+        DatasetSpec spec = SPEC.toBuilder().statusWeights(new double[]{0, 0, 0, 1}).lengthMin(10).lengthMax(12).build();
+        DataServiceImpl dataService = SyntheticDataset.load(SyntheticDataset.write(tempDir, spec));
+
+        List<Participation> participations = dataService.getAllParticipations();
+        assertTrue(participations.stream().allMatch(p -> p.getStatus().getId() == Status.COMPLETED.getId()));
+        assertTrue(participations.stream().allMatch(p -> p.getLength() >= 10 && p.getLength() <= 12));
+        // with a survey skew the first survey is the hottest one
+        assertTrue(dataService.getParticipationStore().countBySurvey(1) > dataService.getParticipationStore().countBySurvey(20));
+    }
+
+    @Test
+    @DisplayName("Should cap the participations of a survey at the number of members")
+    void shouldCapParticipationsOfSurvey() throws IOException {
+        DatasetSpec spec = DatasetSpec.builder().members(10).surveys(2).participations(50).surveySkew(3).memberSkew(2).build();
+        DataServiceImpl dataService = SyntheticDataset.load(SyntheticDataset.write(tempDir, spec));
+
+        assertEquals(20, dataService.getParticipationStore().size());
+        assertEquals(10, dataService.getParticipationStore().countBySurvey(1));
+        assertEquals(10, dataService.getParticipationStore().countBySurvey(2));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid spec")
+    void shouldRejectInvalidSpec() {
+        var generator = new DatasetGenerator(SPEC.toBuilder().activeRatio(1.5).build());
+
+        assertThrows(IllegalArgumentException.class, () -> generator.writeTo(tempDir));
+    }
+
+    private static String firstLine(Path file) throws IOException {
+        try (var lines = Files.lines(file)) {
+            return lines.findFirst().orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.dynata.test.generator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.dynata.test.config.DataProperties;
+import com.dynata.test.mapper.MemberMapper;
+import com.dynata.test.mapper.ParticipationMapper;
+import com.dynata.test.mapper.StatusMapper;
+import com.dynata.test.mapper.SurveyMapper;
+import com.dynata.test.service.impl.DataServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Test utility that writes synthetic datasets and loads them through a {@link DataServiceImpl}
+ * wired without a Spring context.
+ */
+public final class SyntheticDataset {
+
+    private SyntheticDataset() {
+    }
+
+    /**
+     * Generates the CSV files of the given spec into the given directory.
+     *
+     * @param directory the target directory
+     * @param spec      the dataset spec
+     * @return the directory
+     * @throws IOException if a file cannot be written
+     */
+    public static Path write(Path directory, DatasetSpec spec) throws IOException {
+        new DatasetGenerator(spec).writeTo(directory);
+        return directory;
+    }
+
+    /**
+     * Creates a data service reading the CSV files of the given directory, without loading them yet.
+     *
+     * @param directory the directory holding the CSV files
+     * @return a new data service
+     */
+    public static DataServiceImpl createDataService(Path directory) {
+        return createDataService(directory, new DataProperties());
+    }
+
+    /**
+     * Creates a data service reading the CSV files of the given directory with the given properties,
+     * without loading them yet. The location of the properties is set to the directory.
+     *
+     * @param directory      the directory holding the CSV files
+     * @param dataProperties the data properties
+     * @return a new data service
+     */
+    public static DataServiceImpl createDataService(Path directory, DataProperties dataProperties) {
+        return createDataService(directory, dataProperties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Creates a data service reading the CSV files of the given directory with the given properties,
+     * recording its load metrics in the given registry, without loading them yet.
+     *
+     * @param directory      the directory holding the CSV files
+     * @param dataProperties the data properties
+     * @param meterRegistry  the meter registry
+     * @return a new data service
+     */
+    public static DataServiceImpl createDataService(Path directory, DataProperties dataProperties, MeterRegistry meterRegistry) {
+        dataProperties.setLocation(directory.toUri().toString());
+
+        MemberMapper memberMapper = Mappers.getMapper(MemberMapper.class);
+        SurveyMapper surveyMapper = Mappers.getMapper(SurveyMapper.class);
+        return new DataServiceImpl(memberMapper,
+                                   surveyMapper,
+                                   Mappers.getMapper(StatusMapper.class),
+                                   new ParticipationMapper(memberMapper, surveyMapper),
+                                   dataProperties,
+                                   Thread.ofPlatform().daemon().factory(),
+                                   meterRegistry);
+    }
+
+    /**
+     * Loads the CSV files of the given directory into a new data service.
+     *
+     * @param directory the directory holding the CSV files
+     * @return a loaded data service
+     */
+    public static DataServiceImpl load(Path directory) {
+        DataServiceImpl dataService = createDataService(directory);
+        dataService.loadData();
+        return dataService;
+    }
+}
@@ -0,0 +1,144 @@
+package com.dynata.test.loader;
+
+import static com.dynata.test.config.DataProperties.PARTICIPATION_CSV;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.dynata.test.config.DataProperties;
+import com.dynata.test.generator.DatasetSpec;
+import com.dynata.test.generator.SyntheticDataset;
+import com.dynata.test.service.impl.DataServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Parallel Participation Loader Tests")
+class ParallelParticipationLoaderTest {
+
+    private static final Set<Integer> STATUS_IDS = Set.of(1, 2, 3, 4);
+
+    @TempDir
+    private Path tempDir;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should load the same rows in the same order as the sequential load")
+    void shouldLoadSameRowsAsSequentialLoad() throws IOException {
+        Path directory = SyntheticDataset.write(tempDir, DatasetSpec.builder().members(400).surveys(30).participations(5000).build());
+
+        DataServiceImpl sequential = SyntheticDataset.load(directory);
+        DataProperties parallelProperties = new DataProperties();
+        parallelProperties.setParallelLoad(true);
+        parallelProperties.setLoadThreads(3);
+        DataServiceImpl parallel = SyntheticDataset.createDataService(directory, parallelProperties);
+        parallel.loadData();
+
+        assertEquals(5000, parallel.getParticipationStore().size());
+        assertEquals(rowsOf(sequential), rowsOf(parallel));
+        assertEquals(sequential.getMemberBitmapIndex().getInvitableMembers(1), parallel.getMemberBitmapIndex().getInvitableMembers(1));
+        assertEquals(sequential.getSurveyStatisticsEngine().getCounters(1).getCompletedLength(),
+                     parallel.getSurveyStatisticsEngine().getCounters(1).getCompletedLength());
+    }
+
+    @Test
+    @DisplayName("Should handle more chunks than lines, CRLF line endings, empty lines and a missing trailing newline")
+    void shouldHandleLineEdgeCases() throws IOException {
+        Path file = write("Member Id,Survey Id,Status,Length\r\n1,2,4,15\r\n\r\n3,4,2,\r\n5,6,3,7");
+
+        List<int[]> rows = load(file, 16);
+
+        assertEquals(3, rows.size());
+        assertRow(rows.get(0), 1, 2, 4, 15);
+        assertRow(rows.get(1), 3, 4, 2, 0);
+        assertRow(rows.get(2), 5, 6, 3, 7);
+    }
+
+    @Test
+    @DisplayName("Should resolve columns from the header in any order and skip other columns")
+    void shouldResolveColumnsFromHeader() throws IOException {
+        Path file = write("\"Length\",Comment,\"Status\",Survey Id,Member Id\n\"12\",some text,\"4\",7,9\n");
+
+        List<int[]> rows = load(file, 2);
+
+        assertEquals(1, rows.size());
+        assertRow(rows.get(0), 9, 7, 4, 12);
+    }
+
+    @Test
+    @DisplayName("Should report invalid rows with the mapper error messages")
+    void shouldReportInvalidRows() throws IOException {
+        assertEquals("Member Id not found in record",
+                     assertThrows(IllegalStateException.class, () -> load(write("Member Id,Survey Id,Status,Length\n,1,4,10\n"), 1)).getMessage());
+        assertEquals("Survey Id cannot be empty",
+                     assertThrows(IllegalStateException.class, () -> load(write("Member Id,Survey Id,Status,Length\n1,,4,10\n"), 1)).getMessage());
+        assertEquals("Status cannot be empty",
+                     assertThrows(IllegalStateException.class, () -> load(write("Member Id,Survey Id,Status,Length\n1,1,,10\n"), 1)).getMessage());
+        assertEquals("Status with id 9 not found",
+                     assertThrows(IllegalStateException.class, () -> load(write("Member Id,Survey Id,Status,Length\n1,1,9,10\n"), 1)).getMessage());
+        assertEquals("Column Length not found in header",
+                     assertThrows(IllegalStateException.class, () -> load(write("Member Id,Survey Id,Status\n1,1,4\n"), 1)).getMessage());
+        assertThrows(NumberFormatException.class, () -> load(write("Member Id,Survey Id,Status,Length\n1,x,4,10\n"), 1));
+    }
+
+    @Test
+    @DisplayName("Should reject values that do not fit in an int like the sequential load")
+    void shouldRejectOverflowingValuesLikeSequentialLoad() throws IOException {
+        Path directory = SyntheticDataset.write(tempDir, DatasetSpec.builder().members(10).surveys(2).participations(10).build());
+        DataProperties parallelProperties = new DataProperties();
+        parallelProperties.setParallelLoad(true);
+        parallelProperties.setLoadThreads(2);
+
+        for (String row : List.of("1,2147483648,4,10", "1,1,4,-2147483649", "1,1,4,99999999999999999999", "1,+,4,10")) {
+            Files.writeString(directory.resolve(PARTICIPATION_CSV), "Member Id,Survey Id,Status,Length\n1,1,4,10\n" + row + "\n");
+
+            Exception sequential = assertThrows(RuntimeException.class, () -> SyntheticDataset.load(directory));
+            Exception parallel = assertThrows(RuntimeException.class,
+                                              () -> SyntheticDataset.createDataService(directory, parallelProperties).loadData());
+            assertEquals(sequential.getClass(), parallel.getClass());
+            assertEquals(sequential.getMessage(), parallel.getMessage());
+        }
+        Files.writeString(directory.resolve(PARTICIPATION_CSV), "Member Id,Survey Id,Status,Length\n2147483647,1,4,-2147483648\n");
+        assertRow(load(directory.resolve(PARTICIPATION_CSV), 1).getFirst(), Integer.MAX_VALUE, 1, 4, Integer.MIN_VALUE);
+    }
+
+    private List<int[]> load(Path file, int parallelism) throws IOException {
+        List<int[]> rows = new ArrayList<>();
+        new ParallelParticipationLoader(executor, parallelism).load(file,
+                                                                    STATUS_IDS::contains,
+                                                                    (memberId, surveyId, statusId, length) -> rows.add(new int[]{memberId, surveyId, statusId, length}));
+        return rows;
+    }
+
+    private static List<List<Integer>> rowsOf(DataServiceImpl dataService) {
+        List<List<Integer>> rows = new ArrayList<>();
+        dataService.getParticipationStore().forEach((memberId, surveyId, statusId, length) -> rows.add(List.of(memberId, surveyId, statusId, length)));
+        return rows;
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(tempDir, "participation", ".csv"), content);
+    }
+
+    private static void assertRow(int[] row, int memberId, int surveyId, int statusId, int length) {
+        assertEquals(memberId, row[0]);
+        assertEquals(surveyId, row[1]);
+        assertEquals(statusId, row[2]);
+        assertEquals(length, row[3]);
+    }
+}
@@ -49,4 +49,18 @@ public abstract class BaseMapperTest {
     public CSVRecord parseFirstCsvRecord(String csvData) throws IOException {
         return parseCsvData(csvData).getFirst();
     }
+
+    /**
+     * Creates a row reader over the provided CSV data string, positioned on the first row
+     * after the header.
+     *
+     * @param csvData the CSV data as a string to be read
+     * @return a CsvRowReader positioned on the first row
+     * @throws IOException if an I/O error occurs during reading
+     */
+    public CsvRowReader createFirstCsvRow(String csvData) throws IOException {
+        CsvRowReader reader = new CsvRowReader(new StringReader(csvData));
+        reader.next();
+        return reader;
+    }
 }
@@ -0,0 +1,107 @@
+package com.dynata.test.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CSV Row Reader Tests")
+class CsvRowReaderTest {
+
+    private static final String EMPTY = "Value cannot be empty";
+
+    @Test
+    @DisplayName("Should resolve column positions from the header")
+    void shouldResolveColumnPositions() throws IOException {
+        var reader = createReader("﻿First,\"Second\",Third\n");
+
+        assertEquals(0, reader.indexOf("First"));
+        assertEquals(1, reader.indexOf("Second"));
+        assertEquals(2, reader.indexOf("Third"));
+        assertEquals("Column Fourth not found in header", assertThrows(IllegalStateException.class, () -> reader.indexOf("Fourth")).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should read rows with CRLF line endings, empty lines and no trailing newline")
+    void shouldReadRows() throws IOException {
+        var reader = createReader("A,B\r\n1,2\r\n\r\n\n3,4");
+
+        assertTrue(reader.next());
+        assertEquals(1, reader.getInt(0, EMPTY));
+        assertEquals(2, reader.getInt(1, EMPTY));
+        assertTrue(reader.next());
+        assertEquals(3, reader.getInt(0, EMPTY));
+        assertEquals(4, reader.getInt(1, EMPTY));
+        assertFalse(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should read quoted fields with separators, line breaks and escaped quotes")
+    void shouldReadQuotedFields() throws IOException {
+        var reader = createReader("A,B,C\n\"x, y\",\"say \"\"hi\"\"\",\"line\nbreak\"\n");
+
+        assertTrue(reader.next());
+        assertEquals("x, y", reader.getString(0, EMPTY));
+        assertEquals("say \"hi\"", reader.getString(1, EMPTY));
+        assertEquals("line\nbreak", reader.getString(2, EMPTY));
+        assertFalse(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should trim values and treat blank or missing fields as empty")
+    void shouldTrimValues() throws IOException {
+        var reader = createReader("A,B,C\n  7 , text ,\n");
+
+        assertTrue(reader.next());
+        assertEquals(7, reader.getInt(0, EMPTY));
+        assertEquals("text", reader.getString(1, EMPTY));
+        assertTrue(reader.matches(1, "text", EMPTY));
+        assertFalse(reader.matches(1, "tex", EMPTY));
+        assertTrue(reader.isEmpty(2));
+        assertTrue(reader.isEmpty(3));
+        assertEquals(5, reader.getInt(2, 5));
+        assertEquals(EMPTY, assertThrows(IllegalStateException.class, () -> reader.getInt(2, EMPTY)).getMessage());
+        assertEquals(EMPTY, assertThrows(IllegalStateException.class, () -> reader.getString(3, EMPTY)).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should parse integers like Integer.parseInt")
+    void shouldParseIntegers() throws IOException {
+        var reader = createReader("A,B,C,D,E\n-2147483648,+2147483647,2147483648,1x,-\n");
+
+        assertTrue(reader.next());
+        assertEquals(Integer.MIN_VALUE, reader.getInt(0, EMPTY));
+        assertEquals(Integer.MAX_VALUE, reader.getInt(1, EMPTY));
+        assertEquals("For input string: \"2147483648\"", assertThrows(NumberFormatException.class, () -> reader.getInt(2, EMPTY)).getMessage());
+        assertThrows(NumberFormatException.class, () -> reader.getInt(3, EMPTY));
+        assertThrows(NumberFormatException.class, () -> reader.getInt(4, EMPTY));
+    }
+
+    @Test
+    @DisplayName("Should read rows spanning buffer refills and longer than the buffer")
+    void shouldReadRowsAcrossBufferBoundaries() throws IOException {
+        String longValue = "v".repeat(200_000);
+        StringBuilder csv = new StringBuilder("Id,Value\n");
+        for (int i = 0; i < 20_000; i++) {
+            csv.append(i).append(',').append(i == 10_000 ? longValue : "value" + i).append("\r\n");
+        }
+        var reader = createReader(csv.toString());
+
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(reader.next());
+            assertEquals(i, reader.getInt(0, EMPTY));
+            assertEquals(i == 10_000 ? longValue : "value" + i, reader.getString(1, EMPTY));
+        }
+        assertFalse(reader.next());
+    }
+
+    private static CsvRowReader createReader(String csvData) throws IOException {
+        return new CsvRowReader(new StringReader(csvData));
+    }
+}
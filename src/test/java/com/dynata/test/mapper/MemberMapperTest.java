@@ -72,6 +72,43 @@ class MemberMapperTest extends BaseMapperTest {
         assertTrue(member.isActive());
     }
 
+    @Test
+    @DisplayName("Should map all fields by position when all fields are valid")
+    void toMemberRowMapperShouldMapAllFieldsWhenAllFieldsAreValid() throws IOException {
+        var reader = createFirstCsvRow("%s,%s,%s,%s\n%s, %s ,%s,%s".formatted(HEADER_IS_ACTIVE,
+                                                                              HEADER_EMAIL_ADDRESS,
+                                                                              HEADER_FULL_NAME,
+                                                                              HEADER_MEMBER_ID,
+                                                                              INACTIVE,
+                                                                              EMAIL,
+                                                                              FULL_NAME,
+                                                                              MEMBER_ID_AS_STRING));
+
+        var member = memberMapper.toMemberRowMapper(reader).apply(reader);
+
+        assertEquals(MEMBER_ID, member.getId());
+        assertEquals(FULL_NAME, member.getFullname());
+        assertEquals(EMAIL, member.getEmail());
+        assertFalse(member.isActive());
+    }
+
+    @Test
+    @DisplayName("Should throw exception with the same message when mapping an empty email by position")
+    void toMemberRowMapperShouldThrowExceptionWhenEmailIsEmpty() throws IOException {
+        var reader = createFirstCsvRow("%s,%s,%s,%s\n%s,%s,,%s".formatted(HEADER_MEMBER_ID,
+                                                                          HEADER_FULL_NAME,
+                                                                          HEADER_EMAIL_ADDRESS,
+                                                                          HEADER_IS_ACTIVE,
+                                                                          MEMBER_ID_AS_STRING,
+                                                                          FULL_NAME,
+                                                                          ACTIVE));
+        var rowMapper = memberMapper.toMemberRowMapper(reader);
+
+        var exception = assertThrows(IllegalStateException.class, () -> rowMapper.apply(reader));
+
+        assertEquals(EMAIL_ERROR, exception.getMessage());
+    }
+
     @Test
     @DisplayName("Should return ID when ID is valid")
     void toMemberIdShouldReturnIdWhenIdIsValid() {
@@ -4,6 +4,7 @@ import static com.dynata.test.mapper.CsvColumnConstants.HEADER_LENGTH;
 import static com.dynata.test.mapper.CsvColumnConstants.HEADER_MEMBER_ID;
 import static com.dynata.test.mapper.CsvColumnConstants.HEADER_STATUS;
 import static com.dynata.test.mapper.CsvColumnConstants.HEADER_SURVEY_ID;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -11,12 +12,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.dynata.test.model.Status;
+import com.dynata.test.model.StatusCode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -97,6 +102,25 @@ class ParticipationMapperTest extends BaseMapperTest {
         verify(surveyMapper).toSurveyId(record);
     }
 
+    @Test
+    @DisplayName("Should treat a loaded status as equal to the status constant of its id")
+    void shouldTreatLoadedStatusAsConstant() throws IOException {
+        statusMap.put(Status.FILTERED.getId(), Status.builder().id(Status.FILTERED.getId()).name("Screened out").build());
+        var record = createCsvRecord(RecordParams.builder()
+                                                 .memberId(String.valueOf(MEMBER_ID))
+                                                 .surveyId(String.valueOf(SURVEY_ID))
+                                                 .status(String.valueOf(Status.FILTERED.getId()))
+                                                 .length(String.valueOf(DEFAULT_LENGTH))
+                                                 .build());
+
+        var participation = participationMapper.toParticipation(record, statusMap);
+
+        assertEquals(Status.FILTERED, participation.getStatus());
+        assertEquals(StatusCode.FILTERED, participation.getStatus().toCode());
+        assertEquals("Screened out", participation.getStatus().getName());
+        assertTrue(participation.isEligibleForPoints());
+    }
+
     @Test
     @DisplayName("Should throw exception when status is not found")
     void shouldThrowExceptionWhenStatusNotFound() throws IOException {
@@ -151,6 +175,34 @@ class ParticipationMapperTest extends BaseMapperTest {
         verify(surveyMapper).toSurveyId(recordWithEmptyLength);
     }
 
+    @Test
+    @DisplayName("Should pass all fields parsed by position to the sink")
+    void shouldPassAllFieldsByPositionToSink() throws IOException {
+        var reader = createFirstCsvRow("%s,%s,%s,%s\n%d,%d,%d,".formatted(HEADER_MEMBER_ID, HEADER_SURVEY_ID, HEADER_STATUS, HEADER_LENGTH,
+                                                                            MEMBER_ID, SURVEY_ID, STATUS_COMPLETED_ID));
+        List<int[]> rows = new ArrayList<>();
+
+        participationMapper.toParticipationRowConsumer(reader, statusMap, (memberId, surveyId, statusId, length) -> rows.add(new int[]{memberId, surveyId, statusId, length}))
+                           .accept(reader);
+
+        assertEquals(1, rows.size());
+        assertArrayEquals(new int[]{MEMBER_ID, SURVEY_ID, STATUS_COMPLETED_ID, DEFAULT_LENGTH}, rows.getFirst());
+        verifyNoInteractions(memberMapper, surveyMapper);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when status is not found by position")
+    void shouldThrowExceptionWhenStatusNotFoundByPosition() throws IOException {
+        var reader = createFirstCsvRow("%s,%s,%s,%s\n%d,%d,%d,%d".formatted(HEADER_MEMBER_ID, HEADER_SURVEY_ID, HEADER_STATUS, HEADER_LENGTH,
+                                                                              MEMBER_ID, SURVEY_ID, INVALID_STATUS_ID, PARTICIPATION_LENGTH));
+        var rowConsumer = participationMapper.toParticipationRowConsumer(reader, statusMap, (memberId, surveyId, statusId, length) -> {
+        });
+
+        var exception = assertThrows(IllegalStateException.class, () -> rowConsumer.accept(reader));
+
+        assertEquals("Status with id %d not found".formatted(INVALID_STATUS_ID), exception.getMessage());
+    }
+
     @Builder
     @Getter
     @AllArgsConstructor
@@ -35,6 +35,28 @@ class StatusMapperTest extends BaseMapperTest {
                                                   .build());
     }
 
+    @Test
+    @DisplayName("Should map all fields by position")
+    void shouldMapAllFieldsByPosition() throws IOException {
+        var reader = createFirstCsvRow("%s,%s\n%d,%s".formatted(HEADER_STATUS_ID, HEADER_NAME, COMPLETED_ID, COMPLETED_NAME));
+
+        var status = statusMapper.toStatusRowMapper(reader).apply(reader);
+
+        assertEquals(COMPLETED_ID, status.getId());
+        assertEquals(COMPLETED_NAME, status.getName());
+    }
+
+    @Test
+    @DisplayName("Should throw exception with the same message when mapping an empty name by position")
+    void shouldThrowExceptionWhenNameIsEmptyByPosition() throws IOException {
+        var reader = createFirstCsvRow("%s,%s\n%d,  ".formatted(HEADER_STATUS_ID, HEADER_NAME, COMPLETED_ID));
+        var rowMapper = statusMapper.toStatusRowMapper(reader);
+
+        var exception = assertThrows(IllegalStateException.class, () -> rowMapper.apply(reader));
+
+        assertEquals("Status name cannot be empty", exception.getMessage());
+    }
+
     private CSVRecord createCsvRecord(RecordParams recordParams) throws IOException {
         String csvData = "%s,%s\n%s,%s".formatted(
                 HEADER_STATUS_ID,
@@ -46,6 +46,39 @@ class SurveyMapperTest extends BaseMapperTest {
                                                   .build());
     }
 
+    @Test
+    @DisplayName("Should map all fields by position")
+    void shouldMapAllFieldsByPosition() throws IOException {
+        var reader = createFirstCsvRow("%s,%s,%s,%s,%s\n%d,\"%s\",%d,%d,%d".formatted(HEADER_FILTERED_POINTS,
+                                                                                      HEADER_NAME,
+                                                                                      HEADER_SURVEY_ID,
+                                                                                      HEADER_COMPLETION_POINTS,
+                                                                                      HEADER_EXPECTED_COMPLETES,
+                                                                                      FILTERED_POINTS,
+                                                                                      SURVEY_NAME,
+                                                                                      SURVEY_ID_VALUE,
+                                                                                      COMPLETION_POINTS,
+                                                                                      EXPECTED_COMPLETES));
+
+        var survey = surveyMapper.toSurveyRowMapper(reader).apply(reader);
+
+        assertEquals(SURVEY_ID_VALUE, survey.getId());
+        assertEquals(SURVEY_NAME, survey.getName());
+        assertEquals(EXPECTED_COMPLETES, survey.getExpectedCompletes());
+        assertEquals(COMPLETION_POINTS, survey.getCompletionPoints());
+        assertEquals(FILTERED_POINTS, survey.getFilteredPoints());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when a column is missing from the header")
+    void shouldThrowExceptionWhenColumnIsMissing() throws IOException {
+        var reader = createFirstCsvRow("%s,%s\n%d,%s".formatted(HEADER_SURVEY_ID, HEADER_NAME, SURVEY_ID_VALUE, SURVEY_NAME));
+
+        var exception = assertThrows(IllegalStateException.class, () -> surveyMapper.toSurveyRowMapper(reader));
+
+        assertEquals("Column %s not found in header".formatted(HEADER_EXPECTED_COMPLETES), exception.getMessage());
+    }
+
     private CSVRecord createCsvRecord(RecordParams recordParams) throws IOException {
         String csvData = "%s,%s,%s,%s,%s\n%s,%s,%s,%s,%s".formatted(
                 HEADER_SURVEY_ID,
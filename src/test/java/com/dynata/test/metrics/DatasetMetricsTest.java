@@ -0,0 +1,76 @@
+package com.dynata.test.metrics;
+
+import static com.dynata.test.config.DataProperties.PARTICIPATION_CSV;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.dynata.test.config.DataProperties;
+import com.dynata.test.generator.DatasetSpec;
+import com.dynata.test.generator.SyntheticDataset;
+import com.dynata.test.service.impl.DataServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Dataset Metrics Tests")
+class DatasetMetricsTest {
+
+    private static final DatasetSpec SPEC = DatasetSpec.builder().members(200).surveys(10).participations(1000).build();
+
+    @TempDir
+    private Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should report the size and version of the published dataset")
+    void shouldReportDatasetGauges() throws IOException {
+        DataServiceImpl dataService = SyntheticDataset.createDataService(SyntheticDataset.write(tempDir, SPEC), new DataProperties(), meterRegistry);
+        new DatasetMetrics(dataService).bindTo(meterRegistry);
+        assertEquals(0, gauge("dynata.dataset.members"));
+
+        dataService.loadData();
+        dataService.getDataset().appendParticipation(1, 1, 4, 10);
+
+        assertEquals(200, gauge("dynata.dataset.members"));
+        assertEquals(dataService.getMemberBitmapIndex().countActiveMembers(), gauge("dynata.dataset.members.active"));
+        assertEquals(10, gauge("dynata.dataset.surveys"));
+        assertEquals(1001, gauge("dynata.dataset.participations"));
+        assertEquals(1, gauge("dynata.dataset.version"));
+    }
+
+    @Test
+    @DisplayName("Should time every load phase and count parsed and rejected rows")
+    void shouldRecordLoadPhases() throws IOException {
+        DataServiceImpl dataService = SyntheticDataset.createDataService(SyntheticDataset.write(tempDir, SPEC), new DataProperties(), meterRegistry);
+
+        dataService.loadData();
+
+        for (String phase : new String[]{"members", "surveys", "statuses", "participations", "indexes"}) {
+            assertEquals(1, meterRegistry.get("dynata.data.load.phase").tags("phase", phase, "outcome", "success").timer().count());
+        }
+        assertEquals(200, rows("members", "parsed"));
+        assertEquals(10, rows("surveys", "parsed"));
+        assertEquals(1000, rows("participations", "parsed"));
+
+        Files.writeString(tempDir.resolve(PARTICIPATION_CSV), "Member Id,Survey Id,Status,Length\n1,1,9,10\n");
+        assertThrows(RuntimeException.class, dataService::reload);
+
+        assertEquals(1, meterRegistry.get("dynata.data.load.phase").tags("phase", "participations", "outcome", "failure").timer().count());
+        assertEquals(1, rows("participations", "rejected"));
+        assertEquals(1000, rows("participations", "parsed"));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double rows(String phase, String result) {
+        return meterRegistry.get("dynata.data.load.rows").tags("phase", phase, "result", result).counter().count();
+    }
+}
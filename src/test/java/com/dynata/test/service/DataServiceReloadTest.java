@@ -0,0 +1,194 @@
+package com.dynata.test.service;
+
+import static com.dynata.test.config.DataProperties.PARTICIPATION_CSV;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.dynata.test.config.DataProperties;
+import com.dynata.test.generator.DatasetSpec;
+import com.dynata.test.generator.SyntheticDataset;
+import com.dynata.test.loader.DataDirectoryWatcher;
+import com.dynata.test.model.Participation;
+import com.dynata.test.model.Status;
+import com.dynata.test.service.DataService.DatasetInfo;
+import com.dynata.test.service.impl.DataServiceImpl;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.SurveyCounters;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Data Service Reload Tests")
+class DataServiceReloadTest {
+
+    private static final DatasetSpec SPEC = DatasetSpec.builder().members(200).surveys(10).participations(1000).build();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Should publish a new dataset version and leave the previous one unchanged")
+    void shouldPublishNewDataset() throws IOException {
+        DataServiceImpl dataService = SyntheticDataset.load(SyntheticDataset.write(tempDir, SPEC));
+        Dataset previous = dataService.getDataset();
+        assertEquals(1, dataService.getDatasetInfo().getVersion());
+
+        SyntheticDataset.write(tempDir, SPEC.toBuilder().members(300).participations(2000).build());
+        DatasetInfo info = dataService.reload();
+
+        assertEquals(2, info.getVersion());
+        assertEquals(300, info.getMembers());
+        assertEquals(2000, info.getParticipations());
+        assertTrue(info.getLoadDurationMillis() >= 0);
+        assertNotSame(previous, dataService.getDataset());
+        assertEquals(300, dataService.getAllMembers().size());
+        assertEquals(2000, dataService.getParticipationStore().size());
+        assertEquals(200, previous.getMembers().size());
+        assertEquals(1000, previous.getParticipationStore().size());
+        assertEquals(200, previous.getMemberStore().size());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous dataset when the reload fails")
+    void shouldKeepPreviousDatasetWhenReloadFails() throws IOException {
+        DataServiceImpl dataService = SyntheticDataset.load(SyntheticDataset.write(tempDir, SPEC));
+        Dataset previous = dataService.getDataset();
+
+        Files.writeString(tempDir.resolve(PARTICIPATION_CSV), "Member Id,Survey Id,Status,Length\n1,1,9,10\n");
+
+        assertThrows(RuntimeException.class, dataService::reload);
+        assertSame(previous, dataService.getDataset());
+        assertEquals(1, dataService.getDatasetInfo().getVersion());
+        assertEquals(1000, dataService.getDatasetInfo().getParticipations());
+    }
+
+    @Test
+    @DisplayName("Should carry over participations appended concurrently with a reload")
+    void shouldCarryOverParticipationsAppendedDuringReload() throws Exception {
+        DataServiceImpl dataService = SyntheticDataset.load(SyntheticDataset.write(tempDir, SPEC));
+        Participation participation = Participation.builder().memberId(1).surveyId(1).status(Status.COMPLETED).length(10).build();
+        int threads = 4;
+        int appendsPerThread = 500;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> appends = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                appends.add(executor.submit(() -> {
+                    for (int j = 0; j < appendsPerThread; j++) {
+                        dataService.appendParticipations(dataset -> List.of(participation));
+                    }
+                }));
+            }
+            dataService.reload();
+            dataService.reload();
+            for (Future<?> append : appends) {
+                append.get();
+            }
+        }
+
+        assertEquals(3, dataService.getDatasetInfo().getVersion());
+        assertEquals(1000 + threads * appendsPerThread, dataService.getParticipationStore().size());
+        assertEquals(1000, dataService.getDataset().getLoadedParticipations());
+        assertEquals(dataService.getParticipationStore().countBySurvey(1),
+                     rowsOfSurvey(dataService.getSurveyStatisticsEngine().getCounters(1)));
+    }
+
+    @Test
+    @DisplayName("Should not carry over appended participations found in a file written after them")
+    void shouldNotCarryOverParticipationsOfNewerFile() throws IOException {
+        DataServiceImpl dataService = SyntheticDataset.load(SyntheticDataset.write(tempDir, SPEC));
+        int completes = rowsOfSurvey(dataService.getSurveyStatisticsEngine().getCounters(1));
+        Participation participation = Participation.builder().memberId(1).surveyId(1).status(Status.COMPLETED).length(10).build();
+        dataService.appendParticipations(dataset -> List.of(participation));
+
+        Path participations = tempDir.resolve(PARTICIPATION_CSV);
+        Files.writeString(participations, "1,1,4,10\n", StandardOpenOption.APPEND);
+        Files.setLastModifiedTime(participations, FileTime.from(Instant.now().plusSeconds(60)));
+        DatasetInfo info = dataService.reload();
+
+        assertEquals(2, info.getVersion());
+        assertEquals(1001, info.getParticipations());
+        assertEquals(1001, dataService.getDataset().getLoadedParticipations());
+        assertEquals(completes + 1, rowsOfSurvey(dataService.getSurveyStatisticsEngine().getCounters(1)));
+        assertEquals(dataService.getParticipationStore().countBySurvey(1),
+                     rowsOfSurvey(dataService.getSurveyStatisticsEngine().getCounters(1)));
+    }
+
+    @Test
+    @DisplayName("Should carry over participations missing from a file written after them and those appended after it")
+    void shouldCarryOverParticipationsMissingFromNewerFile() throws Exception {
+        DataServiceImpl dataService = SyntheticDataset.load(SyntheticDataset.write(tempDir, SPEC));
+        Participation exported = Participation.builder().memberId(1).surveyId(1).status(Status.COMPLETED).length(10).build();
+        Participation notExported = Participation.builder().memberId(2).surveyId(1).status(Status.COMPLETED).length(11).build();
+        Participation later = Participation.builder().memberId(3).surveyId(1).status(Status.COMPLETED).length(12).build();
+        dataService.appendParticipations(dataset -> List.of(exported, notExported));
+
+        Thread.sleep(10);
+        Path participations = tempDir.resolve(PARTICIPATION_CSV);
+        Files.writeString(participations, "1,1,4,10\n", StandardOpenOption.APPEND);
+        Files.setLastModifiedTime(participations, FileTime.from(Instant.now()));
+        Thread.sleep(10);
+        dataService.appendParticipations(dataset -> List.of(later));
+        DatasetInfo info = dataService.reload();
+
+        assertEquals(1003, info.getParticipations());
+        assertEquals(1001, dataService.getDataset().getLoadedParticipations());
+        List<List<Integer>> carriedOver = new ArrayList<>();
+        dataService.getParticipationStore().forEach(1001, 1003, (memberId, surveyId, statusId, length) ->
+                carriedOver.add(List.of(memberId, surveyId, statusId, length)));
+        assertEquals(List.of(List.of(2, 1, 4, 11), List.of(3, 1, 4, 12)), carriedOver);
+        assertEquals(dataService.getParticipationStore().countBySurvey(1),
+                     rowsOfSurvey(dataService.getSurveyStatisticsEngine().getCounters(1)));
+
+        Files.writeString(participations, "Member Id,Survey Id,Status,Length\n5,5,4,5\n");
+        info = dataService.reload();
+
+        assertEquals(3, info.getParticipations());
+    }
+
+    @Test
+    @DisplayName("Should reload the data when a watched data file changes")
+    void shouldReloadWhenDataFileChanges() throws Exception {
+        DataProperties dataProperties = new DataProperties();
+        dataProperties.setWatch(true);
+        dataProperties.setWatchDelay(Duration.ofMillis(100));
+        DataServiceImpl dataService = SyntheticDataset.createDataService(SyntheticDataset.write(tempDir, SPEC), dataProperties);
+        dataService.loadData();
+        DataDirectoryWatcher watcher = new DataDirectoryWatcher(dataService, dataProperties, Thread.ofVirtual().factory());
+        watcher.start();
+        try {
+            assertTrue(watcher.isWatching());
+
+            Files.writeString(tempDir.resolve(PARTICIPATION_CSV), "Member Id,Survey Id,Status,Length\n1,1,4,10\n");
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (dataService.getDatasetInfo().getVersion() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(2, dataService.getDatasetInfo().getVersion());
+            assertEquals(1, dataService.getParticipationStore().size());
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    private static int rowsOfSurvey(SurveyCounters counters) {
+        return counters.getCompletes() + counters.getFiltered() + counters.getRejected();
+    }
+}
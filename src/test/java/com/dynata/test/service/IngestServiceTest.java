@@ -0,0 +1,145 @@
+package com.dynata.test.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import com.dynata.test.exception.ApiException;
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Participation;
+import com.dynata.test.model.Status;
+import com.dynata.test.model.Survey;
+import com.dynata.test.service.DataService.DatasetInfo;
+import com.dynata.test.service.IngestService.IngestResult;
+import com.dynata.test.service.IngestService.ParticipationEvent;
+import com.dynata.test.service.impl.IngestServiceImpl;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.ParticipationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Ingest Service Tests")
+class IngestServiceTest {
+
+    @Mock
+    private DataService dataService;
+
+    @InjectMocks
+    private IngestServiceImpl ingestService;
+
+    private final List<Participation> appended = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Dataset dataset = Dataset.build(3,
+                                        List.of(Member.builder().id(1).fullname("John Doe").email("john@example.com").active(true).build()),
+                                        List.of(Survey.builder().id(1).name("Survey 1").build()),
+                                        List.of(Status.NOT_ASKED, Status.REJECTED, Status.FILTERED, Status.COMPLETED),
+                                        new ParticipationStore(),
+                                        System.nanoTime());
+        given(dataService.appendParticipations(any())).willAnswer(invocation -> {
+            Function<Dataset, Collection<Participation>> participations = invocation.getArgument(0);
+            appended.addAll(participations.apply(dataset));
+            return DatasetInfo.builder().version(3).participations(12).build();
+        });
+    }
+
+    @Test
+    @DisplayName("Should append a valid event with its status")
+    void ingest() {
+        IngestResult result = ingestService.ingest(new ParticipationEvent(1, 1, Status.COMPLETED.getId(), 25));
+
+        assertEquals(1, appended.size());
+        Participation participation = appended.getFirst();
+        assertEquals(1, participation.getMemberId());
+        assertEquals(1, participation.getSurveyId());
+        assertEquals(Status.COMPLETED.getId(), participation.getStatus().getId());
+        assertEquals(25, participation.getLength());
+        assertEquals(1, result.getAccepted());
+        assertEquals(3, result.getDatasetVersion());
+        assertEquals(12, result.getParticipations());
+    }
+
+    @Test
+    @DisplayName("Should append a valid batch with a single call")
+    void ingestAll() {
+        IngestResult result = ingestService.ingestAll(List.of(new ParticipationEvent(1, 1, Status.COMPLETED.getId(), 25),
+                                                              new ParticipationEvent(1, 1, Status.FILTERED.getId(), 0)));
+
+        assertEquals(2, appended.size());
+        assertEquals(2, result.getAccepted());
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch when an event is invalid")
+    void ingestAllRejectsInvalidEvent() {
+        List<ParticipationEvent> events = List.of(new ParticipationEvent(1, 1, Status.COMPLETED.getId(), 25),
+                                                  new ParticipationEvent(1, 1, 9, 0));
+
+        ApiException exception = assertThrows(ApiException.class, () -> ingestService.ingestAll(events));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertEquals("Status with id 9 not found", exception.getMessage());
+        assertTrue(appended.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown members and surveys, negative lengths and empty batches")
+    void ingestRejectsInvalidEvents() {
+        assertEquals("Member with id 2 not found",
+                     assertThrows(ApiException.class, () -> ingestService.ingest(new ParticipationEvent(2, 1, 4, 0))).getMessage());
+        assertEquals("Survey with id 2 not found",
+                     assertThrows(ApiException.class, () -> ingestService.ingest(new ParticipationEvent(1, 2, 4, 0))).getMessage());
+        assertEquals("Length cannot be negative",
+                     assertThrows(ApiException.class, () -> ingestService.ingest(new ParticipationEvent(1, 1, 4, -1))).getMessage());
+        assertEquals("No participation events to ingest",
+                     assertThrows(ApiException.class, () -> ingestService.ingestAll(List.of())).getMessage());
+        assertTrue(appended.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject batches larger than the maximum batch size")
+    void ingestAllRejectsOversizedBatch() {
+        List<ParticipationEvent> events = Collections.nCopies(10_001, new ParticipationEvent(1, 1, Status.COMPLETED.getId(), 25));
+
+        ApiException exception = assertThrows(ApiException.class, () -> ingestService.ingestAll(events));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertEquals("Batch cannot contain more than 10000 participation events", exception.getMessage());
+        assertEquals(10_000, ingestService.ingestAll(events.subList(0, 10_000)).getAccepted());
+        assertEquals(10_000, appended.size());
+    }
+
+    @Test
+    @DisplayName("Should reject null events")
+    void ingestRejectsNullEvents() {
+        List<ParticipationEvent> events = Arrays.asList(new ParticipationEvent(1, 1, Status.COMPLETED.getId(), 25), null);
+
+        ApiException exception = assertThrows(ApiException.class, () -> ingestService.ingestAll(events));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertEquals("Participation events cannot be null", exception.getMessage());
+        assertEquals("Participation events cannot be null",
+                     assertThrows(ApiException.class, () -> ingestService.ingest(null)).getMessage());
+        assertTrue(appended.isEmpty());
+    }
+}
@@ -2,15 +2,25 @@ package com.dynata.test.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.dynata.test.exception.ApiException;
 import com.dynata.test.model.Member;
+import com.dynata.test.model.Status;
 import com.dynata.test.model.Survey;
+import com.dynata.test.service.MemberService.LeaderboardEntry;
+import com.dynata.test.service.MemberService.MemberFilter;
+import com.dynata.test.service.MemberService.MemberQueryResult;
+import com.dynata.test.service.MemberService.ParticipationFilter;
 import com.dynata.test.service.impl.MemberServiceImpl;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.ParticipationStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +30,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -53,6 +64,8 @@ class MemberServiceTest {
         given(dataService.getMemberById(2)).willReturn(member2);
         given(dataService.getMemberById(3)).willReturn(member3);
         given(dataService.getMemberById(4)).willReturn(null);
+        given(dataService.getDataset()).willReturn(Dataset.build(1, List.of(member3, member1, member2), List.of(survey1), List.of(),
+                                                                 new ParticipationStore(), System.nanoTime()));
     }
 
     @Test
@@ -84,6 +97,45 @@ class MemberServiceTest {
         assertEquals(member2, members.get(1));
     }
 
+    @Test
+    @DisplayName("Should return pages of members ordered by id")
+    void getMembersPage() {
+        MemberPage first = memberService.getMembers(null, 2);
+        assertEquals(List.of(member1, member2), first.getMembers());
+
+        MemberPage second = memberService.getMembers(first.getNextCursor(), 2);
+        assertEquals(List.of(member3), second.getMembers());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should return pages of active members ordered by id")
+    void getActiveMembersPage() {
+        MemberPage page = memberService.getActiveMembers(null, 2);
+        assertEquals(List.of(member1, member2), page.getMembers());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid page sizes and cursors")
+    void getMembersPageRejectsInvalidParameters() {
+        assertThrows(ApiException.class, () -> memberService.getMembers(null, 0));
+        assertThrows(ApiException.class, () -> memberService.getMembers(null, 10_001));
+        assertThrows(ApiException.class, () -> memberService.getMembers("not a cursor", 2));
+    }
+
+    @Test
+    @DisplayName("Should pass all members and active members ordered by id")
+    void forEachMember() {
+        List<Member> members = new ArrayList<>();
+        memberService.forEachMember(members::add);
+        assertEquals(List.of(member1, member2, member3), members);
+
+        List<Member> activeMembers = new ArrayList<>();
+        memberService.forEachActiveMember(activeMembers::add);
+        assertEquals(List.of(member1, member2), activeMembers);
+    }
+
     @Test
     @DisplayName("Should return surveys completed by member")
     void getSurveysCompletedByMember() {
@@ -107,4 +159,119 @@ class MemberServiceTest {
         assertEquals(10, points.get(1));
         assertEquals(5, points.get(2));
     }
+
+    @Test
+    @DisplayName("Should return the leaderboard and the rank of a member")
+    void getLeaderboard() {
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 1, Status.FILTERED.getId(), 0);
+        store.append(2, 1, Status.COMPLETED.getId(), 10);
+        given(dataService.getDataset()).willReturn(Dataset.build(1, List.of(member1, member2, member3), List.of(survey1), List.of(),
+                                                                 store, System.nanoTime()));
+
+        List<LeaderboardEntry> leaderboard = memberService.getLeaderboard(2);
+
+        assertEquals(2, leaderboard.size());
+        assertEquals(member2, leaderboard.get(0).getMember());
+        assertEquals(10, leaderboard.get(0).getPoints());
+        assertEquals(1, leaderboard.get(0).getRank());
+        assertEquals(member1, leaderboard.get(1).getMember());
+        assertEquals(2, leaderboard.get(1).getRank());
+        assertEquals(3, memberService.getLeaderboardEntry(3).getRank());
+        assertEquals(0, memberService.getLeaderboardEntry(3).getPoints());
+        assertNull(memberService.getLeaderboardEntry(4));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the leaderboard size is invalid")
+    void getLeaderboardInvalidSize() {
+        assertThrows(ApiException.class, () -> memberService.getLeaderboard(0));
+        assertThrows(ApiException.class, () -> memberService.getLeaderboard(10_001));
+    }
+
+    @Test
+    @DisplayName("Should search members by email and name prefix or exact email")
+    void searchMembers() {
+        assertEquals(List.of(member2, member1, member3), memberService.searchMembers("J", 10));
+        assertEquals(List.of(member3), memberService.searchMembers("bob@", 10));
+        assertEquals(List.of(member2), memberService.searchMembers("jane smi", 10));
+        assertEquals(List.of(member1), memberService.getMembersByEmail("John@Example.com"));
+        assertEquals(List.of(), memberService.getMembersByEmail("nobody@example.com"));
+        assertThrows(ApiException.class, () -> memberService.searchMembers(" ", 10));
+        assertThrows(ApiException.class, () -> memberService.searchMembers("jo", 0));
+    }
+
+    @Test
+    @DisplayName("Should query members with filters compiled to bitmap operations")
+    void queryMembers() {
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 1, Status.COMPLETED.getId(), 10);
+        store.append(1, 2, Status.FILTERED.getId(), 5);
+        store.append(2, 1, Status.FILTERED.getId(), 3);
+        store.append(2, 2, Status.COMPLETED.getId(), 20);
+        store.append(3, 2, Status.COMPLETED.getId(), 30);
+        store.append(99, 1, Status.COMPLETED.getId(), 10);
+        given(dataService.getDataset()).willReturn(Dataset.build(1, List.of(member1, member2, member3), List.of(survey1), List.of(),
+                                                                 store, System.nanoTime()));
+
+        MemberFilter active = MemberFilter.builder().active(true).build();
+        MemberFilter completedSurvey1 = participated(ParticipationFilter.builder().surveyId(1).statusId(Status.COMPLETED.getId()).build());
+        MemberFilter filteredOnSurvey2 = participated(ParticipationFilter.builder().surveyId(2).statusId(Status.FILTERED.getId()).build());
+        MemberFilter survey2 = participated(ParticipationFilter.builder().surveyId(2).build());
+
+        MemberQueryResult result = memberService.queryMembers(MemberFilter.builder().and(List.of(active, completedSurvey1, filteredOnSurvey2)).build(), "ids", 10);
+        assertEquals(1, result.getCount());
+        assertEquals(List.of(1), result.getMemberIds());
+
+        assertEquals(List.of(3), ids(MemberFilter.builder().not(active).build()));
+        assertEquals(List.of(1, 2, 3), ids(MemberFilter.builder().or(List.of(participated(ParticipationFilter.builder().surveyId(1).build()),
+                                                                              participated(ParticipationFilter.builder().minLength(25).build()))).build()));
+        assertEquals(List.of(), ids(MemberFilter.builder().and(List.of(MemberFilter.builder().not(survey2).build())).build()));
+        assertEquals(List.of(2, 3), ids(participated(ParticipationFilter.builder().minLength(15).build())));
+        assertEquals(List.of(1, 2), ids(participated(ParticipationFilter.builder().statusId(Status.FILTERED.getId()).build())));
+        assertEquals(List.of(2), ids(participated(ParticipationFilter.builder().surveyId(2).statusId(Status.COMPLETED.getId()).maxLength(25).build())));
+
+        MemberQueryResult members = memberService.queryMembers(survey2, "members", 1);
+        assertEquals(3, members.getCount());
+        assertEquals(List.of(member1), members.getMembers());
+        assertNull(memberService.queryMembers(survey2, "count", 0).getMemberIds());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the member query is invalid")
+    void queryMembersInvalid() {
+        MemberFilter active = MemberFilter.builder().active(true).build();
+
+        assertThrows(ApiException.class, () -> memberService.queryMembers(MemberFilter.builder().active(true).not(active).build(), "count", 100));
+        assertThrows(ApiException.class, () -> memberService.queryMembers(MemberFilter.builder().build(), "count", 100));
+        assertThrows(ApiException.class, () -> memberService.queryMembers(MemberFilter.builder().and(List.of()).build(), "count", 100));
+        assertThrows(ApiException.class, () -> memberService.queryMembers(MemberFilter.builder().or(List.of(active, new MemberFilter())).build(), "count", 100));
+        assertThrows(ApiException.class, () -> memberService.queryMembers(active, "all", 100));
+        assertThrows(ApiException.class, () -> memberService.queryMembers(active, "ids", 0));
+    }
+
+    @Test
+    @DisplayName("Should reject member queries nested too deeply")
+    void queryMembersTooDeep() {
+        given(dataService.getDataset()).willReturn(Dataset.build(1, List.of(member1, member2, member3), List.of(survey1), List.of(),
+                                                                 new ParticipationStore(), System.nanoTime()));
+        MemberFilter filter = MemberFilter.builder().active(true).build();
+        for (int depth = 1; depth < 32; depth++) {
+            filter = MemberFilter.builder().not(filter).build();
+        }
+        assertEquals(1, memberService.queryMembers(filter, "count", 100).getCount());
+
+        MemberFilter tooDeep = MemberFilter.builder().and(List.of(filter)).build();
+        ApiException exception = assertThrows(ApiException.class, () -> memberService.queryMembers(tooDeep, "count", 100));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertEquals("Filters cannot be nested more than 32 levels deep", exception.getMessage());
+    }
+
+    private List<Integer> ids(MemberFilter filter) {
+        return memberService.queryMembers(filter, "ids", 100).getMemberIds();
+    }
+
+    private static MemberFilter participated(ParticipationFilter filter) {
+        return MemberFilter.builder().participated(filter).build();
+    }
 }
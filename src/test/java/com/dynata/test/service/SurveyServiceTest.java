@@ -1,17 +1,27 @@
 package com.dynata.test.service;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.dynata.test.exception.ApiException;
 import com.dynata.test.model.Member;
 import com.dynata.test.model.Participation;
 import com.dynata.test.model.Status;
 import com.dynata.test.model.Survey;
 import com.dynata.test.service.impl.SurveyServiceImpl;
+import com.dynata.test.store.Dataset;
+import com.dynata.test.store.ParticipationStore;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -55,12 +65,19 @@ class SurveyServiceTest {
         given(dataService.getAllMembers()).willReturn(List.of(member1, member2, member3));
         given(dataService.getAllSurveys()).willReturn(List.of(survey1, survey2));
         given(dataService.getAllParticipations()).willReturn(List.of(participation1, participation2, participation3, participation4));
+        ParticipationStore participationStore = ParticipationStore.of(List.of(participation1, participation2, participation3, participation4));
+        Dataset dataset = Dataset.build(1,
+                                        List.of(member1, member2, member3),
+                                        List.of(survey1, survey2),
+                                        List.of(Status.NOT_ASKED, Status.REJECTED, Status.FILTERED, Status.COMPLETED),
+                                        participationStore,
+                                        System.nanoTime());
+        given(dataService.getDataset()).willReturn(dataset);
+        given(dataService.getParticipationStore()).willReturn(participationStore);
+        given(dataService.getSurveyStatisticsEngine()).willReturn(dataset.getSurveyStatisticsEngine());
+        given(dataService.getMemberBitmapIndex()).willReturn(dataset.getMemberBitmapIndex());
 
-        Map<Integer, Member> membersMap = new HashMap<>();
-        membersMap.put(1, member1);
-        membersMap.put(2, member2);
-        membersMap.put(3, member3);
-        given(dataService.getMembersMap()).willReturn(membersMap);
+        given(dataService.getMemberStore()).willReturn(dataset.getMemberStore());
         given(dataService.getMemberById(1)).willReturn(member1);
         given(dataService.getMemberById(2)).willReturn(member2);
         given(dataService.getMemberById(3)).willReturn(member3);
@@ -98,6 +115,111 @@ class SurveyServiceTest {
         assertEquals(10, points.get(2)); // Filtered points for survey2
     }
 
+    @Test
+    @DisplayName("Should return the results of every id of a batch in request order")
+    void getBatches() {
+        Map<Integer, Map<Integer, Integer>> points = surveyService.getPointsCollectedByMembers(List.of(3, 1, 3, 4));
+        assertEquals(List.of(3, 1, 4), List.copyOf(points.keySet()));
+        assertEquals(surveyService.getPointsCollectedByMember(1), points.get(1));
+        assertEquals(Map.of(2, 20), points.get(3));
+        assertTrue(points.get(4).isEmpty());
+
+        Map<Integer, List<Survey>> surveys = surveyService.getSurveysCompletedByMembers(List.of(1, 2));
+        assertEquals(List.of(survey1), surveys.get(1));
+        assertTrue(surveys.get(2).isEmpty());
+
+        Map<Integer, List<Member>> respondents = surveyService.getRespondentsWhoCompletedSurveys(List.of(2, 1));
+        assertEquals(List.of(2, 1), List.copyOf(respondents.keySet()));
+        assertEquals(List.of(member1), respondents.get(1));
+        assertEquals(3, respondents.get(2).getFirst().getId());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when a batch is empty, too large or contains null")
+    void getBatchesInvalid() {
+        assertThrows(ApiException.class, () -> surveyService.getPointsCollectedByMembers(List.of()));
+        assertThrows(ApiException.class, () -> surveyService.getSurveysCompletedByMembers(Collections.nCopies(10_001, 1)));
+        assertThrows(ApiException.class, () -> surveyService.getRespondentsWhoCompletedSurveys(Arrays.asList(1, null)));
+    }
+
+    @Test
+    @DisplayName("Should return the fulfilment of every survey, filtered and sorted")
+    void getSurveyFulfilment() {
+        List<SurveyService.SurveyFulfilment> fulfilment = surveyService.getSurveyFulfilment(false, "id");
+
+        assertEquals(List.of(1, 2), fulfilment.stream().map(SurveyService.SurveyFulfilment::getSurveyId).toList());
+        assertEquals(100, fulfilment.getFirst().getExpectedCompletes());
+        assertEquals(1, fulfilment.getFirst().getCompletes());
+        assertEquals(99, fulfilment.getFirst().getRemainingCompletes());
+        assertEquals(1.0, fulfilment.getFirst().getPercentFulfilled());
+        assertEquals(0.5, fulfilment.get(1).getPercentFulfilled());
+        assertEquals(List.of(2, 1), surveyService.getSurveyFulfilment(false, "remaining").stream().map(SurveyService.SurveyFulfilment::getSurveyId).toList());
+        assertEquals(List.of(2, 1), surveyService.getSurveyFulfilment(true, "fulfilled").stream().map(SurveyService.SurveyFulfilment::getSurveyId).toList());
+        assertThrows(ApiException.class, () -> surveyService.getSurveyFulfilment(false, "name"));
+
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 1, Status.COMPLETED.getId(), 10);
+        store.append(2, 1, Status.COMPLETED.getId(), 10);
+        given(dataService.getDataset()).willReturn(Dataset.build(1, List.of(member1, member2),
+                                                                 List.of(Survey.builder().id(1).expectedCompletes(2).build(),
+                                                                         Survey.builder().id(2).expectedCompletes(0).build(),
+                                                                         Survey.builder().id(3).expectedCompletes(5).build()),
+                                                                 List.of(Status.COMPLETED), store, System.nanoTime()));
+
+        assertEquals(List.of(3), surveyService.getSurveyFulfilment(true, "id").stream().map(SurveyService.SurveyFulfilment::getSurveyId).toList());
+        assertEquals(100.0, surveyService.getSurveyFulfilment(false, "id").get(1).getPercentFulfilled());
+    }
+
+    @Test
+    @DisplayName("Should plan invitations from the survey and member completion rates")
+    void planInvitations() {
+        SurveyService.InvitationPlan plan = surveyService.planInvitations(2, 10);
+
+        assertEquals(200, plan.getExpectedCompletes());
+        assertEquals(1, plan.getCompletes());
+        assertEquals(199, plan.getRemainingCompletes());
+        assertEquals(0.5, plan.getCompletionRate());
+        assertEquals(0.5, plan.getFilterRate());
+        assertEquals(0.0, plan.getRejectionRate());
+        assertEquals(0.5, plan.getOverallCompletionRate());
+        assertEquals(398, plan.getEstimatedInvites());
+        assertEquals(1, plan.getInvitableMembers());
+        assertEquals(1, plan.getInvites().size());
+        assertEquals(member2, plan.getInvites().getFirst().getMember());
+        assertEquals(2.5 / 6, plan.getInvites().getFirst().getCompletionProbability(), 1e-6);
+        assertNull(surveyService.planInvitations(99, 10));
+        assertThrows(ApiException.class, () -> surveyService.planInvitations(2, 0));
+    }
+
+    @Test
+    @DisplayName("Should invite the most likely members until the remaining completes are covered")
+    void planInvitationsRanksMembers() {
+        List<Member> members = new ArrayList<>();
+        for (int id = 1; id <= 6; id++) {
+            members.add(Member.builder().id(id).fullname("Member " + id).email(id + "@example.com").active(id != 6).build());
+        }
+        ParticipationStore store = new ParticipationStore();
+        int[][] history = {{1, 3, 3}, {2, 1, 3}, {3, 0, 3}, {5, 1, 1}};
+        for (int[] member : history) {
+            for (int i = 0; i < member[2]; i++) {
+                store.append(member[0], 20, i < member[1] ? Status.COMPLETED.getId() : Status.REJECTED.getId(), 0);
+            }
+        }
+        Survey survey = Survey.builder().id(10).name("Survey 10").expectedCompletes(2).build();
+        given(dataService.getDataset()).willReturn(Dataset.build(1, members, List.of(survey, Survey.builder().id(20).build()),
+                                                                 List.of(Status.REJECTED, Status.COMPLETED), store, System.nanoTime()));
+
+        SurveyService.InvitationPlan plan = surveyService.planInvitations(10, 100);
+
+        assertEquals(2, plan.getRemainingCompletes());
+        assertEquals(4, plan.getEstimatedInvites());
+        assertEquals(5, plan.getInvitableMembers());
+        assertEquals(List.of(1, 5, 4, 2), plan.getInvites().stream().map(invite -> invite.getMember().getId()).toList());
+        assertEquals(List.of(1, 2, 3, 4), plan.getInvites().stream().map(SurveyService.PlannedInvite::getRank).toList());
+        assertEquals(5.5 / 8 + 3.5 / 6 + 0.5 + 3.5 / 8, plan.getExpectedCompletesOfInvites(), 1e-6);
+        assertEquals(List.of(1, 5), surveyService.planInvitations(10, 2).getInvites().stream().map(invite -> invite.getMember().getId()).toList());
+    }
+
     @Test
     @DisplayName("Should return members who can be invited for the survey")
     void getMembersWhoCanBeInvitedForSurvey() {
@@ -106,6 +228,42 @@ class SurveyServiceTest {
         assertEquals(member2, members.getFirst()); // Only member2 is active and has not participated in survey2
     }
 
+    @Test
+    @DisplayName("Should return pages of members who can be invited for the survey")
+    void getMembersWhoCanBeInvitedForSurveyPage() {
+        MemberPage page = surveyService.getMembersWhoCanBeInvitedForSurvey(1, null, 1);
+        assertEquals(List.of(), page.getMembers());
+        assertNull(page.getNextCursor());
+
+        page = surveyService.getMembersWhoCanBeInvitedForSurvey(99, null, 1);
+        assertEquals(List.of(member1), page.getMembers());
+        page = surveyService.getMembersWhoCanBeInvitedForSurvey(99, page.getNextCursor(), 1);
+        assertEquals(List.of(member2), page.getMembers());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should pass the members who can be invited for the survey")
+    void forEachMemberWhoCanBeInvitedForSurvey() {
+        List<Member> members = new ArrayList<>();
+        surveyService.forEachMemberWhoCanBeInvitedForSurvey(2, members::add);
+        assertEquals(List.of(member2), members);
+    }
+
+    @Test
+    @DisplayName("Should return ids of members who can be invited for the survey")
+    void getIdsOfMembersWhoCanBeInvitedForSurvey() {
+        assertArrayEquals(new int[]{2}, surveyService.getIdsOfMembersWhoCanBeInvitedForSurvey(2));
+        assertArrayEquals(new int[]{}, surveyService.getIdsOfMembersWhoCanBeInvitedForSurvey(1));
+    }
+
+    @Test
+    @DisplayName("Should count members who can be invited for the survey")
+    void countMembersWhoCanBeInvitedForSurvey() {
+        assertEquals(1, surveyService.countMembersWhoCanBeInvitedForSurvey(2));
+        assertEquals(2, surveyService.countMembersWhoCanBeInvitedForSurvey(3)); // Nobody participated in survey3 yet
+    }
+
     @Test
     @DisplayName("Should return survey statistics")
     void getSurveyStatistics() {
@@ -121,6 +279,11 @@ class SurveyServiceTest {
         assertEquals(0, stats1.getNumberOfFilteredParticipants());
         assertEquals(1, stats1.getNumberOfRejectedParticipants());
         assertEquals(15.0, stats1.getAverageLengthOfTime());
+        assertEquals(15, stats1.getMinLengthOfTime());
+        assertEquals(15, stats1.getMedianLengthOfTime());
+        assertEquals(15, stats1.getP90LengthOfTime());
+        assertEquals(15, stats1.getP99LengthOfTime());
+        assertEquals(15, stats1.getMaxLengthOfTime());
 
         SurveyService.SurveyStatistics stats2 = statistics.stream()
                                                           .filter(s -> s.getSurveyId() == 2)
@@ -0,0 +1,144 @@
+package com.dynata.test.snapshot;
+
+import static com.dynata.test.config.DataProperties.PARTICIPATION_CSV;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.dynata.test.config.DataProperties;
+import com.dynata.test.generator.DatasetSpec;
+import com.dynata.test.generator.SyntheticDataset;
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Status;
+import com.dynata.test.model.Survey;
+import com.dynata.test.service.impl.DataServiceImpl;
+import com.dynata.test.store.ParticipationStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Snapshot Reader Tests")
+class SnapshotReaderTest {
+
+    private static final long FINGERPRINT = 42;
+
+    @TempDir
+    private Path tempDir;
+
+    private final SnapshotReader snapshotReader = new SnapshotReader();
+    private final SnapshotWriter snapshotWriter = new SnapshotWriter();
+
+    @Test
+    @DisplayName("Should read back the data that was written")
+    void shouldReadWrittenData() throws IOException {
+        List<Member> members = List.of(new Member(1, "Zoë \"Z\" Solar", "zoe@example.com", true),
+                                       new Member(2, "Teri Villalobos", "teri@example.com", false),
+                                       new Member(3, "Zoë \"Z\" Solar", "zoe2@example.com", true));
+        List<Survey> surveys = List.of(new Survey(7, "Survey 07", 30, 5, 2));
+        List<Status> statuses = List.of(Status.NOT_ASKED, Status.COMPLETED);
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 7, 4, 12);
+        store.append(2, 7, 1, 0);
+        Path file = tempDir.resolve("data.snapshot");
+
+        snapshotWriter.write(file, FINGERPRINT, members, surveys, statuses, store);
+        DataSnapshot snapshot = snapshotReader.read(file, FINGERPRINT).orElseThrow();
+
+        assertEquals(FINGERPRINT, snapshot.getFingerprint());
+        assertEquals(members.toString(), snapshot.getMembers().toString());
+        assertEquals(surveys.toString(), snapshot.getSurveys().toString());
+        assertEquals(List.of(1, 4), snapshot.getStatuses().stream().map(Status::getId).toList());
+        assertEquals(List.of("Not asked", "Completed"), snapshot.getStatuses().stream().map(Status::getName).toList());
+        List<int[]> rows = new ArrayList<>();
+        snapshot.forEachParticipation((memberId, surveyId, statusId, length) -> rows.add(new int[]{memberId, surveyId, statusId, length}));
+        assertEquals(2, rows.size());
+        assertArrayEquals(new int[]{1, 7, 4, 12}, rows.get(0));
+        assertArrayEquals(new int[]{2, 7, 1, 0}, rows.get(1));
+        assertEquals(List.of("data.snapshot"), listFileNames());
+    }
+
+    @Test
+    @DisplayName("Should return empty when the snapshot is missing or stale")
+    void shouldReturnEmptyWhenMissingOrStale() throws IOException {
+        Path file = tempDir.resolve("data.snapshot");
+        assertTrue(snapshotReader.read(file, FINGERPRINT).isEmpty());
+
+        snapshotWriter.write(file, FINGERPRINT, List.of(), List.of(), List.of(), new ParticipationStore());
+
+        assertTrue(snapshotReader.read(file, FINGERPRINT).isPresent());
+        assertTrue(snapshotReader.read(file, FINGERPRINT + 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the snapshot is corrupt")
+    void shouldThrowExceptionWhenCorrupt() throws IOException {
+        Path file = tempDir.resolve("data.snapshot");
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 1, 4, 10);
+        snapshotWriter.write(file, FINGERPRINT, List.of(), List.of(), List.of(Status.COMPLETED), store);
+        byte[] bytes = Files.readAllBytes(file);
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IOException.class, () -> snapshotReader.read(file, FINGERPRINT));
+
+        Files.writeString(file, "Member Id,Survey Id,Status,Length\n");
+        assertThrows(IOException.class, () -> snapshotReader.read(file, FINGERPRINT));
+    }
+
+    @Test
+    @DisplayName("Should load the data service from the snapshot until the CSV files change")
+    void shouldLoadDataServiceFromSnapshot() throws IOException {
+        Path directory = SyntheticDataset.write(tempDir.resolve("data"), DatasetSpec.builder().members(200).surveys(10).participations(1000).build());
+        Path file = tempDir.resolve("cache").resolve("data.snapshot");
+
+        DataServiceImpl fromCsv = loadWithSnapshot(directory, file);
+        assertTrue(Files.exists(file));
+        FileTime written = Files.getLastModifiedTime(file);
+
+        DataServiceImpl fromSnapshot = loadWithSnapshot(directory, file);
+        assertEquals(written, Files.getLastModifiedTime(file));
+        assertEquals(fromCsv.getAllMembers().toString(), fromSnapshot.getAllMembers().toString());
+        assertEquals(fromCsv.getAllSurveys().toString(), fromSnapshot.getAllSurveys().toString());
+        assertEquals(rowsOf(fromCsv.getParticipationStore()), rowsOf(fromSnapshot.getParticipationStore()));
+        assertEquals(fromCsv.getMemberBitmapIndex().getInvitableMembers(1), fromSnapshot.getMemberBitmapIndex().getInvitableMembers(1));
+        assertEquals(fromCsv.getSurveyStatisticsEngine().getCounters(1).getCompletedLength(),
+                     fromSnapshot.getSurveyStatisticsEngine().getCounters(1).getCompletedLength());
+
+        Files.writeString(directory.resolve(PARTICIPATION_CSV), "1,1,4,10\n", StandardOpenOption.APPEND);
+        DataServiceImpl reloaded = loadWithSnapshot(directory, file);
+        assertEquals(1001, reloaded.getParticipationStore().size());
+        assertEquals(1001, loadWithSnapshot(directory, file).getParticipationStore().size());
+        assertFalse(snapshotReader.read(file, 0).isPresent());
+    }
+
+    private DataServiceImpl loadWithSnapshot(Path directory, Path file) {
+        DataProperties dataProperties = new DataProperties();
+        dataProperties.setSnapshotFile(file.toString());
+        DataServiceImpl dataService = SyntheticDataset.createDataService(directory, dataProperties);
+        dataService.loadData();
+        return dataService;
+    }
+
+    private static List<List<Integer>> rowsOf(ParticipationStore store) {
+        List<List<Integer>> rows = new ArrayList<>();
+        store.forEach((memberId, surveyId, statusId, length) -> rows.add(List.of(memberId, surveyId, statusId, length)));
+        return rows;
+    }
+
+    private List<String> listFileNames() throws IOException {
+        try (var files = Files.list(tempDir)) {
+            return files.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Participation;
+import com.dynata.test.model.Status;
+import com.dynata.test.model.Survey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Dataset Tests")
+class DatasetTest {
+
+    private static final List<Member> MEMBERS = List.of(Member.builder().id(1).fullname("John Doe").email("john@example.com").active(true).build(),
+                                                        Member.builder().id(2).fullname("Jane Smith").email("jane@example.com").active(true).build());
+    private static final List<Survey> SURVEYS = List.of(Survey.builder().id(1).name("Survey 1").build(),
+                                                        Survey.builder().id(2).name("Survey 2").build());
+    private static final List<Status> STATUSES = List.of(Status.NOT_ASKED, Status.REJECTED, Status.FILTERED, Status.COMPLETED);
+
+    private Dataset dataset;
+
+    @BeforeEach
+    void setUp() {
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 1, Status.COMPLETED.getId(), 10);
+        dataset = Dataset.build(1, MEMBERS, SURVEYS, STATUSES, store, System.nanoTime());
+    }
+
+    @Test
+    @DisplayName("Should build maps and indexes of the loaded data")
+    void shouldBuildMapsAndIndexes() {
+        assertEquals(1, dataset.getVersion());
+        assertEquals(1, dataset.getLoadedParticipations());
+        assertEquals("Jane Smith", dataset.getMemberStore().get(2).getFullname());
+        assertEquals(Status.COMPLETED.getId(), dataset.getStatusesMap().get(4).getId());
+        assertEquals(1, dataset.getSurveyStatisticsEngine().getCounters(1).getCompletes());
+        assertEquals(bits(2), dataset.getMemberBitmapIndex().getInvitableMembers(1));
+        assertThrows(UnsupportedOperationException.class, () -> dataset.getMembers().add(MEMBERS.getFirst()));
+        assertThrows(UnsupportedOperationException.class, () -> dataset.getSurveysMap().remove(1));
+    }
+
+    @Test
+    @DisplayName("Should update store, statistics and bitmaps when participations are appended")
+    void shouldUpdateIndexesWhenAppending() {
+        assertEquals(0, dataset.getRevision());
+
+        dataset.appendParticipation(2, 1, Status.COMPLETED.getId(), 20);
+        dataset.appendParticipations(List.of(Participation.builder().memberId(1).surveyId(2).status(Status.FILTERED).length(0).build()));
+
+        assertEquals(3, dataset.getParticipationStore().size());
+        assertEquals(1, dataset.getLoadedParticipations());
+        assertEquals(2, dataset.getRevision());
+        assertEquals(2, dataset.getSurveyStatisticsEngine().getCounters(1).getCompletes());
+        assertEquals(15.0, dataset.getSurveyStatisticsEngine().getCounters(1).getAverageCompletedLength());
+        assertEquals(1, dataset.getSurveyStatisticsEngine().getCounters(2).getFiltered());
+        assertTrue(dataset.getMemberBitmapIndex().getInvitableMembers(1).isEmpty());
+        assertEquals(bits(2), dataset.getMemberBitmapIndex().getInvitableMembers(2));
+    }
+
+    @Test
+    @DisplayName("Should carry over only the participations appended after the previous dataset was loaded")
+    void shouldCarryOverAppendedParticipations() {
+        dataset.appendParticipation(2, 2, Status.REJECTED.getId(), 0);
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 1, Status.COMPLETED.getId(), 10);
+        store.append(1, 2, Status.COMPLETED.getId(), 30);
+        Dataset reloaded = Dataset.build(2, MEMBERS, SURVEYS, STATUSES, store, System.nanoTime());
+
+        assertEquals(1, reloaded.carryOverAppendedParticipations(dataset));
+
+        assertEquals(3, reloaded.getParticipationStore().size());
+        assertEquals(2, reloaded.getLoadedParticipations());
+        assertEquals(1, reloaded.getSurveyStatisticsEngine().getCounters(2).getRejected());
+        assertTrue(reloaded.getMemberBitmapIndex().getInvitableMembers(2).isEmpty());
+    }
+
+    private static BitSet bits(int... values) {
+        BitSet bitSet = new BitSet();
+        for (int value : values) {
+            bitSet.set(value);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,89 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Length Histogram Tests")
+class LengthHistogramTest {
+
+    @Test
+    @DisplayName("Should return exact percentiles of small lengths")
+    void shouldReturnExactPercentilesOfSmallLengths() {
+        LengthHistogram histogram = new LengthHistogram();
+        for (int length = 1; length <= 50; length++) {
+            histogram.record(length);
+        }
+        histogram.record(10);
+
+        assertEquals(1, histogram.getMin());
+        assertEquals(50, histogram.getMax());
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(25, histogram.getPercentile(50));
+        assertEquals(45, histogram.getPercentile(90));
+        assertEquals(50, histogram.getPercentile(99));
+        assertEquals(50, histogram.getPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Should estimate percentiles of large lengths within the bucket precision")
+    void shouldEstimatePercentilesOfLargeLengths() {
+        Random random = new Random(7);
+        int[] lengths = new int[100_000];
+        LengthHistogram histogram = new LengthHistogram();
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = random.nextInt(1_000_000);
+            histogram.record(lengths[i]);
+        }
+        Arrays.sort(lengths);
+
+        for (double percentile : new double[]{1, 50, 90, 99, 99.9}) {
+            int exact = lengths[(int) Math.ceil(percentile / 100 * lengths.length) - 1];
+            int estimate = histogram.getPercentile(percentile);
+            assertTrue(estimate >= exact && estimate <= exact * 1.04, percentile + ": " + estimate + " vs " + exact);
+        }
+        assertEquals(lengths[lengths.length - 1], histogram.getPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Should merge histograms into the histogram of all lengths")
+    void shouldMergeHistograms() {
+        LengthHistogram all = new LengthHistogram();
+        LengthHistogram low = new LengthHistogram();
+        LengthHistogram high = new LengthHistogram();
+        for (int length = 0; length < 1000; length++) {
+            all.record(length);
+            (length < 300 ? low : high).record(length);
+        }
+
+        low.merge(high);
+
+        assertEquals(all.getMin(), low.getMin());
+        assertEquals(all.getMax(), low.getMax());
+        for (double percentile : new double[]{0, 10, 50, 90, 99, 100}) {
+            assertEquals(all.getPercentile(percentile), low.getPercentile(percentile));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return zero when empty and count negative lengths as zero")
+    void shouldHandleEmptyAndNegativeLengths() {
+        LengthHistogram histogram = new LengthHistogram();
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(50));
+
+        histogram.record(-5);
+        histogram.record(Integer.MAX_VALUE);
+
+        assertEquals(-5, histogram.getMin());
+        assertEquals(Integer.MAX_VALUE, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Integer.MAX_VALUE, histogram.getPercentile(100));
+    }
+}
@@ -0,0 +1,126 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.IntPredicate;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Member Bitmap Index Tests")
+class MemberBitmapIndexTest {
+
+    private MemberBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = List.of(Member.builder().id(1).fullname("John Doe").email("john@example.com").active(true).build(),
+                                       Member.builder().id(2).fullname("Jane Smith").email("jane@example.com").active(true).build(),
+                                       Member.builder().id(3).fullname("Bob Johnson").email("bob@example.com").active(false).build(),
+                                       Member.builder().id(200).fullname("Ann Lee").email("ann@example.com").active(true).build());
+
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 10, Status.COMPLETED.getId(), 10);
+        store.append(3, 10, Status.REJECTED.getId(), 0);
+        store.append(200, 20, Status.NOT_ASKED.getId(), 0);
+
+        index = MemberBitmapIndex.build(members, store);
+    }
+
+    @Test
+    @DisplayName("Should return active members who did not participate in the survey")
+    void shouldReturnInvitableMembers() {
+        assertArrayEquals(new int[]{2, 200}, index.getInvitableMembers(10).stream().toArray());
+        assertArrayEquals(new int[]{1, 2}, index.getInvitableMembers(20).stream().toArray());
+        assertArrayEquals(new int[]{1, 2, 200}, index.getInvitableMembers(99).stream().toArray());
+    }
+
+    @Test
+    @DisplayName("Should not expose the internal bitmaps")
+    void shouldReturnCopies() {
+        index.getActiveMembers().clear();
+        index.getParticipants(10).clear();
+        index.getInvitableMembers(10).clear();
+
+        assertEquals(3, index.countActiveMembers());
+        assertEquals(2, index.getParticipants(10).cardinality());
+    }
+
+    @Test
+    @DisplayName("Should reflect changes of the active flag and new participations")
+    void shouldUpdateIncrementally() {
+        index.setActive(2, false);
+        index.recordParticipation(200, 10, Status.COMPLETED.getId());
+
+        assertEquals(0, index.getInvitableMembers(10).cardinality());
+    }
+
+    @Test
+    @DisplayName("Should return the participants of every status, loaded and recorded")
+    void shouldReturnParticipantsByStatus() {
+        index.recordParticipation(2, 20, Status.COMPLETED.getId());
+
+        assertArrayEquals(new int[]{1, 2}, index.getParticipantsWithStatus(Status.COMPLETED.getId()).stream().toArray());
+        assertArrayEquals(new int[]{3}, index.getParticipantsWithStatus(Status.REJECTED.getId()).stream().toArray());
+        assertArrayEquals(new int[]{}, index.getParticipantsWithStatus(Status.FILTERED.getId()).stream().toArray());
+        assertArrayEquals(new int[]{1, 2, 3, 200}, index.getAllParticipants().stream().toArray());
+        assertArrayEquals(new int[]{1, 2, 3, 200}, index.getMembers().stream().toArray());
+    }
+
+    @Test
+    @DisplayName("Should return the participants of a survey with a status, loaded and recorded")
+    void shouldReturnParticipantsBySurveyAndStatus() {
+        index.recordParticipation(2, 20, Status.COMPLETED.getId());
+
+        assertArrayEquals(new int[]{1}, index.getParticipantsWithStatus(10, Status.COMPLETED.getId()).stream().toArray());
+        assertArrayEquals(new int[]{3}, index.getParticipantsWithStatus(10, Status.REJECTED.getId()).stream().toArray());
+        assertArrayEquals(new int[]{2}, index.getParticipantsWithStatus(20, Status.COMPLETED.getId()).stream().toArray());
+        assertArrayEquals(new int[]{200}, index.getParticipantsWithStatus(20, Status.NOT_ASKED.getId()).stream().toArray());
+        assertArrayEquals(new int[]{}, index.getParticipantsWithStatus(99, Status.COMPLETED.getId()).stream().toArray());
+    }
+
+    @Test
+    @DisplayName("Should visit member ids in ascending order from the given id")
+    void shouldVisitMembersFromId() {
+        assertEquals(List.of(1, 2, 3, 200), visit((fromId, visitor) -> index.forEachMember(fromId, visitor), 0, 10));
+        assertEquals(List.of(2, 200), visit((fromId, visitor) -> index.forEachActiveMember(fromId, visitor), 2, 10));
+        assertEquals(List.of(2, 200), visit((fromId, visitor) -> index.forEachInvitableMember(10, fromId, visitor), 0, 10));
+        assertEquals(List.of(1), visit((fromId, visitor) -> index.forEachInvitableMember(99, fromId, visitor), 0, 1));
+        assertEquals(List.of(), visit((fromId, visitor) -> index.forEachMember(fromId, visitor), 201, 10));
+    }
+
+    @Test
+    @DisplayName("Should visit member ids across bitmap blocks")
+    void shouldVisitMembersAcrossBlocks() {
+        index.setActive(5000, true);
+        index.setActive(100_000, true);
+        index.recordParticipation(5000, 10, Status.COMPLETED.getId());
+
+        assertEquals(List.of(2, 200, 100_000), visit((fromId, visitor) -> index.forEachInvitableMember(10, fromId, visitor), 0, 10));
+        assertEquals(List.of(5000, 100_000), visit((fromId, visitor) -> index.forEachActiveMember(fromId, visitor), 201, 10));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when member id is negative")
+    void shouldThrowExceptionWhenMemberIdIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> index.setActive(-1, true));
+        assertThrows(IllegalArgumentException.class, () -> index.recordParticipation(-1, 10, Status.COMPLETED.getId()));
+    }
+
+    private static List<Integer> visit(BiConsumer<Integer, IntPredicate> forEach, int fromId, int limit) {
+        List<Integer> ids = new ArrayList<>();
+        forEach.accept(fromId, id -> {
+            ids.add(id);
+            return ids.size() < limit;
+        });
+        return ids;
+    }
+}
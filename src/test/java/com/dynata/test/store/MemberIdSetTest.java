@@ -0,0 +1,73 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Member Id Set Tests")
+class MemberIdSetTest {
+
+    @Test
+    @DisplayName("Should keep sparse ids sorted and without duplicates")
+    void shouldAddSparseIds() {
+        MemberIdSet set = new MemberIdSet();
+        for (int memberId : new int[]{900_000, 5, 300, 5, 70_000, 0, 300}) {
+            set.add(memberId);
+        }
+        BitSet added = new BitSet();
+        added.set(42);
+        added.set(70_000);
+        set.addAll(added);
+
+        assertArrayEquals(new int[]{0, 5, 42, 300, 70_000, 900_000}, set.toBitSet().stream().toArray());
+    }
+
+    @Test
+    @DisplayName("Should return the same ids once dense, added one by one and in bulk")
+    void shouldAddDenseIds() {
+        MemberIdSet set = new MemberIdSet();
+        BitSet expected = new BitSet();
+        Random random = new Random(7);
+        IntStream.range(0, 5_000).map(i -> random.nextInt(20_000)).forEach(memberId -> {
+            set.add(memberId);
+            expected.set(memberId);
+        });
+        BitSet added = new BitSet();
+        added.set(19_000, 25_000);
+        set.addAll(added);
+        expected.or(added);
+
+        assertEquals(expected, set.toBitSet());
+        set.toBitSet().clear();
+        assertEquals(expected, set.toBitSet());
+    }
+
+    @Test
+    @DisplayName("Should copy sparse and dense sets independently of the original")
+    void shouldCopy() {
+        MemberIdSet sparse = new MemberIdSet();
+        sparse.add(1_000);
+        MemberIdSet dense = new MemberIdSet();
+        IntStream.range(0, 100).forEach(dense::add);
+
+        for (MemberIdSet original : List.of(sparse, dense)) {
+            BitSet expected = original.toBitSet();
+            MemberIdSet copy = new MemberIdSet(original);
+            copy.add(5_000);
+
+            assertEquals(expected, original.toBitSet());
+            assertFalse(original.contains(5_000));
+            assertTrue(copy.contains(5_000));
+            assertTrue(copy.contains(expected.nextSetBit(0)));
+        }
+    }
+}
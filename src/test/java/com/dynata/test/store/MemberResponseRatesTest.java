@@ -0,0 +1,55 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Member Response Rates Tests")
+class MemberResponseRatesTest {
+
+    private static final double DELTA = 1e-6;
+
+    private MemberStore memberStore;
+    private MemberResponseRates rates;
+
+    @BeforeEach
+    void setUp() {
+        memberStore = MemberStore.of(List.of(new Member(1, "A", "a@example.com", true),
+                                             new Member(2, "B", "b@example.com", true),
+                                             new Member(3, "C", "c@example.com", true)));
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 1, Status.COMPLETED.getId(), 10);
+        store.append(1, 2, Status.COMPLETED.getId(), 10);
+        store.append(2, 1, Status.FILTERED.getId(), 0);
+        store.append(2, 2, Status.REJECTED.getId(), 0);
+        store.append(9, 1, Status.NOT_ASKED.getId(), 0);
+
+        rates = MemberResponseRates.build(memberStore, store);
+    }
+
+    @Test
+    @DisplayName("Should smooth member completion rates towards the overall rate")
+    void shouldSmoothCompletionRates() {
+        assertEquals(0.4, rates.getOverallCompletionRate(), DELTA);
+        assertEquals((2 + 5 * 0.4) / 7, rates.getCompletionRateAt(memberStore.slotOf(1)), DELTA);
+        assertEquals(5 * 0.4 / 7, rates.getCompletionRateAt(memberStore.slotOf(2)), DELTA);
+        assertEquals(0.4, rates.getCompletionRateAt(memberStore.slotOf(3)), DELTA);
+        assertEquals(0.4, rates.smoothedRate(0, 0), DELTA);
+    }
+
+    @Test
+    @DisplayName("Should update rates in place when participation is recorded")
+    void shouldUpdateRatesInPlace() {
+        rates.recordParticipation(3, Status.COMPLETED.getId());
+        rates.recordParticipation(8, Status.REJECTED.getId());
+
+        assertEquals(3.0 / 7, rates.getOverallCompletionRate(), DELTA);
+        assertEquals((1 + 5 * 0.4) / 6, rates.getCompletionRateAt(memberStore.slotOf(3)), DELTA);
+    }
+}
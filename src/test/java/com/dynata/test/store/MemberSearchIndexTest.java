@@ -0,0 +1,49 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import com.dynata.test.model.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Member Search Index Tests")
+class MemberSearchIndexTest {
+
+    private static final MemberSearchIndex INDEX = MemberSearchIndex.build(List.of(new Member(3, "Zoë Solar", "zoe@example.com", true),
+                                                                                   new Member(1, "John Doe", "John.Doe@example.com", false),
+                                                                                   new Member(2, "Mary-Jane Johnson", "mj@example.org", true),
+                                                                                   new Member(5, null, null, true),
+                                                                                   new Member(4, "Jon Dorsey", "john.doe@example.com", true)));
+
+    @Test
+    @DisplayName("Should find members by email prefix and name word prefix, ignoring case")
+    void shouldSearchByPrefix() {
+        assertEquals(List.of(1, 4, 2), INDEX.search("JOH", 10));
+        assertEquals(List.of(1, 4), INDEX.search("john.doe@", 10));
+        assertEquals(List.of(0), INDEX.search(" zoë ", 10));
+        assertEquals(List.of(2), INDEX.search("jane", 10));
+        assertEquals(List.of(2), INDEX.search("mj@example.org", 10));
+        assertEquals(List.of(), INDEX.search("smith", 10));
+        assertEquals(List.of(1), INDEX.search("joh", 1));
+    }
+
+    @Test
+    @DisplayName("Should find members matching every word of the search")
+    void shouldSearchByWords() {
+        assertEquals(List.of(1, 4), INDEX.search("jo do", 10));
+        assertEquals(List.of(4), INDEX.search("Dor Jon", 10));
+        assertEquals(List.of(2), INDEX.search("mary jane", 10));
+        assertEquals(List.of(), INDEX.search("mary doe", 10));
+    }
+
+    @Test
+    @DisplayName("Should find members by exact email, ignoring case")
+    void shouldFindByEmail() {
+        assertEquals(List.of(1, 4), INDEX.findByEmail("JOHN.DOE@example.com"));
+        assertEquals(List.of(0), INDEX.findByEmail("zoe@example.com"));
+        assertEquals(List.of(), INDEX.findByEmail("zoe@example"));
+        assertEquals(List.of(), INDEX.findByEmail("jo"));
+    }
+}
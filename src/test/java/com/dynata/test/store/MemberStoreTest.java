@@ -0,0 +1,83 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dynata.test.model.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Member Store Tests")
+class MemberStoreTest {
+
+    private static final List<Member> MEMBERS = List.of(new Member(3, "Zoë Solar", "zoe@example.com", true),
+                                                        new Member(1, "John Doe", "john@example.com", false),
+                                                        new Member(2, "", null, true));
+
+    @Test
+    @DisplayName("Should look members up by id")
+    void shouldLookMembersUpById() {
+        MemberStore store = MemberStore.of(MEMBERS);
+
+        assertEquals(3, store.size());
+        assertEquals(MEMBERS.get(0), store.get(3));
+        assertEquals("Zoë Solar", store.get(3).getFullname());
+        assertEquals("john@example.com", store.get(1).getEmail());
+        assertEquals("", store.get(2).getFullname());
+        assertNull(store.get(2).getEmail());
+        assertEquals(MEMBERS.get(1).toString(), store.get(1).toString());
+        assertNull(store.get(4));
+        assertNull(store.get(-1));
+        assertTrue(store.contains(1));
+        assertFalse(store.contains(0));
+        assertTrue(store.isActive(3));
+        assertFalse(store.isActive(1));
+        assertFalse(store.isActive(4));
+    }
+
+    @Test
+    @DisplayName("Should list members in load order")
+    void shouldListMembersInLoadOrder() {
+        MemberStore store = MemberStore.of(MEMBERS);
+        List<Integer> ids = new ArrayList<>();
+
+        store.forEachId(ids::add);
+
+        assertEquals(List.of(3, 1, 2), ids);
+        assertEquals(MEMBERS, store.asList());
+        assertThrows(UnsupportedOperationException.class, () -> store.asList().add(MEMBERS.getFirst()));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.asList().get(3));
+    }
+
+    @Test
+    @DisplayName("Should look sparse and duplicate ids up by binary search")
+    void shouldLookSparseIdsUp() {
+        List<Member> members = List.of(new Member(1_000_000, "A", "a@example.com", true),
+                                       new Member(-5, "B", "b@example.com", false),
+                                       new Member(7, "C", "c@example.com", true),
+                                       new Member(-5, "D", "d@example.com", true));
+        MemberStore store = MemberStore.of(members);
+
+        assertEquals("A", store.get(1_000_000).getFullname());
+        assertEquals("C", store.get(7).getFullname());
+        assertEquals("D", store.get(-5).getFullname());
+        assertNull(store.get(8));
+        assertEquals(4, store.asList().size());
+    }
+
+    @Test
+    @DisplayName("Should keep the last of members with the same dense id")
+    void shouldKeepLastOfDuplicateIds() {
+        MemberStore store = MemberStore.of(List.of(new Member(1, "A", "a@example.com", true),
+                                                   new Member(1, "B", "b@example.com", false)));
+
+        assertEquals("B", store.get(1).getFullname());
+        assertFalse(store.isActive(1));
+    }
+}
@@ -0,0 +1,209 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dynata.test.model.Participation;
+import com.dynata.test.model.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Participation Store Tests")
+class ParticipationStoreTest {
+
+    private ParticipationStore store;
+
+    @BeforeEach
+    void setUp() {
+        // A tiny initial capacity makes sure the columns have to grow
+        store = new ParticipationStore(1);
+        store.append(1, 10, Status.COMPLETED.getId(), 15);
+        store.append(1, 20, Status.FILTERED.getId(), 0);
+        store.append(2, 10, Status.REJECTED.getId(), 0);
+        store.append(3, 20, Status.COMPLETED.getId(), 20);
+    }
+
+    @Test
+    @DisplayName("Should keep every column of every row")
+    void shouldKeepAllColumns() {
+        assertEquals(4, store.size());
+        assertEquals(3, store.getMemberId(3));
+        assertEquals(20, store.getSurveyId(3));
+        assertEquals(Status.COMPLETED.getId(), store.getStatusId(3));
+        assertEquals(20, store.getLength(3));
+    }
+
+    @Test
+    @DisplayName("Should visit all rows in insertion order")
+    void shouldVisitAllRows() {
+        List<String> rows = new ArrayList<>();
+
+        store.forEach((memberId, surveyId, statusId, length) -> rows.add(memberId + ":" + surveyId + ":" + statusId + ":" + length));
+
+        assertEquals(List.of("1:10:4:15", "1:20:3:0", "2:10:2:0", "3:20:4:20"), rows);
+    }
+
+    @Test
+    @DisplayName("Should visit only the rows of the given survey")
+    void shouldVisitRowsOfSurvey() {
+        List<Integer> memberIds = new ArrayList<>();
+
+        store.forEachOfSurvey(10, (memberId, surveyId, statusId, length) -> memberIds.add(memberId));
+
+        assertEquals(List.of(1, 2), memberIds);
+        assertEquals(2, store.countBySurvey(10));
+        assertEquals(0, store.countBySurvey(99));
+    }
+
+    @Test
+    @DisplayName("Should visit only the rows of the given member")
+    void shouldVisitRowsOfMember() {
+        List<Integer> surveyIds = new ArrayList<>();
+
+        store.forEachOfMember(1, (memberId, surveyId, statusId, length) -> surveyIds.add(surveyId));
+
+        assertEquals(List.of(10, 20), surveyIds);
+        assertEquals(2, store.countByMember(1));
+        assertEquals(0, store.countByMember(99));
+    }
+
+    @Test
+    @DisplayName("Should create store from participation objects")
+    void shouldCreateStoreFromParticipations() {
+        var participation = Participation.builder().memberId(5).surveyId(6).status(Status.FILTERED).length(7).build();
+
+        var created = ParticipationStore.of(List.of(participation));
+
+        assertEquals(1, created.size());
+        assertEquals(5, created.getMemberId(0));
+        assertEquals(6, created.getSurveyId(0));
+        assertEquals(Status.FILTERED.getId(), created.getStatusId(0));
+        assertEquals(7, created.getLength(0));
+    }
+
+    @Test
+    @DisplayName("Should create store from columns with the same indexes as appended rows")
+    void shouldCreateStoreFromColumns() {
+        var created = ParticipationStore.of(new int[]{1, 1, 2, 3, 0}, new int[]{10, 20, 10, 20, 0}, new byte[]{4, 3, 2, 4, 0}, new int[]{15, 0, 0, 20, 0}, 4);
+        created.append(1, 30, Status.COMPLETED.getId(), 5);
+        List<Integer> surveyIds = new ArrayList<>();
+        List<Integer> memberIds = new ArrayList<>();
+
+        created.forEachOfMember(1, (memberId, surveyId, statusId, length) -> surveyIds.add(surveyId));
+        created.forEachOfSurvey(20, (memberId, surveyId, statusId, length) -> memberIds.add(memberId));
+
+        assertEquals(5, created.size());
+        assertEquals(List.of(10, 20, 30), surveyIds);
+        assertEquals(List.of(1, 3), memberIds);
+        assertEquals(0, created.countBySurvey(0));
+    }
+
+    @Test
+    @DisplayName("Should create store from columns with sparse and negative ids")
+    void shouldCreateStoreFromColumnsWithSparseIds() {
+        var created = ParticipationStore.of(new int[]{-1, 2_000_000_000, -1}, new int[]{7, 7, 8}, new byte[]{4, 4, 4}, new int[]{1, 2, 3}, 3);
+        List<Integer> lengths = new ArrayList<>();
+
+        created.forEachOfMember(-1, (memberId, surveyId, statusId, length) -> lengths.add(length));
+
+        assertEquals(List.of(1, 3), lengths);
+        assertEquals(1, created.countByMember(2_000_000_000));
+        assertEquals(2, created.countBySurvey(7));
+        assertThrows(IllegalArgumentException.class, () -> ParticipationStore.of(new int[1], new int[1], new byte[0], new int[1], 1));
+    }
+
+    @Test
+    @DisplayName("Should build store from visited rows beyond the initial capacity")
+    void shouldBuildStoreFromVisitedRows() {
+        ParticipationStore.Builder builder = ParticipationStore.builder();
+        for (int i = 0; i < 3_000; i++) {
+            builder.visit(i % 7, 10 + i % 3, Status.COMPLETED.getId(), i);
+        }
+        var created = builder.build();
+        created.append(6, 10, Status.FILTERED.getId(), 3_000);
+
+        assertEquals(3_001, created.size());
+        assertEquals(1_000, created.countBySurvey(11));
+        assertEquals(429, created.countByMember(6));
+        assertEquals(2_999, created.getLength(2_999));
+        assertThrows(IllegalArgumentException.class, () -> ParticipationStore.builder().visit(1, 1, 300, 0));
+    }
+
+    @Test
+    @DisplayName("Should append a batch of participations and index them")
+    void shouldAppendAll() {
+        int firstRow = store.appendAll(List.of(Participation.builder().memberId(4).surveyId(10).status(Status.COMPLETED).length(30).build(),
+                                               Participation.builder().memberId(1).surveyId(30).status(Status.FILTERED).length(0).build()));
+
+        assertEquals(4, firstRow);
+        assertEquals(6, store.size());
+        assertEquals(3, store.countBySurvey(10));
+        assertEquals(3, store.countByMember(1));
+        assertEquals(30, store.getLength(4));
+    }
+
+    @Test
+    @DisplayName("Should keep and index every row appended by concurrent writers in row order")
+    void shouldAppendConcurrently() throws InterruptedException {
+        int writers = 4;
+        int appendsPerWriter = 5_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            int memberId = 100 + writer;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < appendsPerWriter; i++) {
+                    if (i % 2 == 0) {
+                        store.append(memberId, 10 + i % 3, Status.COMPLETED.getId(), i);
+                    } else {
+                        store.appendAll(List.of(Participation.builder().memberId(memberId).surveyId(10 + i % 3).status(Status.FILTERED).length(i).build()));
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4 + writers * appendsPerWriter, store.size());
+        for (int writer = 0; writer < writers; writer++) {
+            List<Integer> lengths = new ArrayList<>();
+            store.forEachOfMember(100 + writer, (memberId, surveyId, statusId, length) -> lengths.add(length));
+            assertEquals(appendsPerWriter, lengths.size());
+            for (int i = 0; i < appendsPerWriter; i++) {
+                assertEquals(i, lengths.get(i));
+            }
+        }
+        int[] rowsOfSurvey = {0};
+        store.forEach((memberId, surveyId, statusId, length) -> rowsOfSurvey[0] += surveyId == 11 ? 1 : 0);
+        assertEquals(rowsOfSurvey[0], store.countBySurvey(11));
+    }
+
+    @Test
+    @DisplayName("Should keep appending after a batch is rejected")
+    void shouldKeepAppendingAfterRejectedBatch() {
+        int size = store.size();
+        List<Participation> rejected = List.of(
+              Participation.builder().memberId(1).surveyId(1).status(Status.COMPLETED).length(1).build(),
+              Participation.builder().memberId(1).surveyId(1).status(new Status(300, "Out of range")).length(2).build());
+
+        assertThrows(IllegalArgumentException.class, () -> store.appendAll(rejected));
+        assertEquals(size, store.append(2, 2, Status.COMPLETED.getId(), 3));
+        assertEquals(size + 1, store.size());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when status id does not fit into the store")
+    void shouldThrowExceptionWhenStatusIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> store.append(1, 1, 300, 0));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when row is out of bounds")
+    void shouldThrowExceptionWhenRowOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getMemberId(4));
+    }
+}
@@ -0,0 +1,141 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.dynata.test.model.Member;
+import com.dynata.test.model.Status;
+import com.dynata.test.model.Survey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Points Leaderboard Tests")
+class PointsLeaderboardTest {
+
+    private static final int COMPLETED = Status.COMPLETED.getId();
+    private static final int FILTERED = Status.FILTERED.getId();
+    private static final int REJECTED = Status.REJECTED.getId();
+
+    private final Map<Integer, Survey> surveysMap = Map.of(1, Survey.builder().id(1).completionPoints(10).filteredPoints(5).build(),
+                                                           2, Survey.builder().id(2).completionPoints(20).filteredPoints(10).build(),
+                                                           3, Survey.builder().id(3).completionPoints(1000).filteredPoints(0).build());
+    private final ParticipationStore store = new ParticipationStore();
+
+    @Test
+    @DisplayName("Should rank members by points and then by member id, sharing the rank of equal points")
+    void shouldRankMembersByPoints() {
+        store.append(1, 1, COMPLETED, 10);
+        store.append(2, 2, COMPLETED, 10);
+        store.append(3, 1, FILTERED, 0);
+        store.append(3, 2, FILTERED, 0);
+        store.append(4, 2, REJECTED, 0);
+        store.append(9, 2, COMPLETED, 10);
+
+        PointsLeaderboard leaderboard = PointsLeaderboard.build(members(1, 2, 3, 4), surveysMap, store);
+
+        assertEquals(4, leaderboard.size());
+        assertEquals(List.of(new PointsLeaderboard.Entry(1, 2, 20),
+                             new PointsLeaderboard.Entry(2, 3, 15),
+                             new PointsLeaderboard.Entry(3, 1, 10)), leaderboard.getTop(3));
+        assertEquals(new PointsLeaderboard.Entry(4, 4, 0), leaderboard.getEntry(4));
+        assertEquals(new PointsLeaderboard.Entry(1, 2, 20), leaderboard.getEntry(2));
+        assertNull(leaderboard.getEntry(9));
+
+        store.append(1, 1, FILTERED, 0);
+        leaderboard.recordParticipation(1);
+        store.append(1, 2, COMPLETED, 10);
+        leaderboard.recordParticipation(1);
+        store.append(9, 1, COMPLETED, 10);
+        leaderboard.recordParticipation(9);
+
+        assertEquals(List.of(new PointsLeaderboard.Entry(1, 1, 25),
+                             new PointsLeaderboard.Entry(2, 2, 20),
+                             new PointsLeaderboard.Entry(3, 3, 15),
+                             new PointsLeaderboard.Entry(4, 4, 0)), leaderboard.getTop(10));
+        assertEquals(new PointsLeaderboard.Entry(2, 2, 20), leaderboard.getEntry(2));
+
+        store.append(4, 3, COMPLETED, 10);
+        leaderboard.recordParticipation(4);
+
+        assertEquals(List.of(new PointsLeaderboard.Entry(1, 4, 1000), new PointsLeaderboard.Entry(2, 1, 25)), leaderboard.getTop(2));
+        assertEquals(new PointsLeaderboard.Entry(3, 2, 20), leaderboard.getEntry(2));
+        assertEquals(new PointsLeaderboard.Entry(1, 4, 1000), leaderboard.getEntry(4));
+    }
+
+    @Test
+    @DisplayName("Should rank members with huge totals without allocating per point")
+    void shouldRankHugeTotals() {
+        Map<Integer, Survey> hugeSurveys = Map.of(1, Survey.builder().id(1).completionPoints(Integer.MAX_VALUE).filteredPoints(1 << 30).build(),
+                                                  2, Survey.builder().id(2).completionPoints(500_000_000).filteredPoints(7).build());
+        store.append(1, 1, COMPLETED, 10);
+        store.append(1, 2, COMPLETED, 10);
+        store.append(2, 1, FILTERED, 0);
+        store.append(3, 2, FILTERED, 0);
+
+        PointsLeaderboard leaderboard = PointsLeaderboard.build(members(1, 2, 3, 4), hugeSurveys, store);
+
+        assertEquals(List.of(new PointsLeaderboard.Entry(1, 1, Integer.MAX_VALUE),
+                             new PointsLeaderboard.Entry(2, 2, 1 << 30),
+                             new PointsLeaderboard.Entry(3, 3, 7),
+                             new PointsLeaderboard.Entry(4, 4, 0)), leaderboard.getTop(10));
+
+        store.append(4, 2, COMPLETED, 10);
+        leaderboard.recordParticipation(4);
+        store.append(3, 1, COMPLETED, 10);
+        leaderboard.recordParticipation(3);
+
+        assertEquals(new PointsLeaderboard.Entry(4, 4, 500_000_000), leaderboard.getEntry(4));
+        assertEquals(new PointsLeaderboard.Entry(1, 3, Integer.MAX_VALUE), leaderboard.getEntry(3));
+        assertEquals(List.of(new PointsLeaderboard.Entry(1, 1, Integer.MAX_VALUE),
+                             new PointsLeaderboard.Entry(1, 3, Integer.MAX_VALUE),
+                             new PointsLeaderboard.Entry(3, 2, 1 << 30)), leaderboard.getTop(3));
+    }
+
+    @Test
+    @DisplayName("Should match ranks computed by sorting the points of every member")
+    void shouldMatchSortedRanks() {
+        Random random = new Random(7);
+        int[] ids = new int[500];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+        }
+        PointsLeaderboard leaderboard = PointsLeaderboard.build(members(ids), surveysMap, store);
+        for (int i = 0; i < 5000; i++) {
+            int memberId = 1 + random.nextInt(ids.length);
+            store.append(memberId, 1 + random.nextInt(2), 1 + random.nextInt(4), 0);
+            leaderboard.recordParticipation(memberId);
+        }
+
+        Map<Integer, Integer> points = new HashMap<>();
+        for (int id : ids) {
+            points.put(id, leaderboard.getEntry(id).points());
+        }
+        List<PointsLeaderboard.Entry> top = leaderboard.getTop(ids.length);
+        assertEquals(ids.length, top.size());
+        for (PointsLeaderboard.Entry entry : top) {
+            long higher = points.values().stream().filter(value -> value > entry.points()).count();
+            assertEquals(higher + 1, entry.rank());
+            assertEquals(entry, leaderboard.getEntry(entry.memberId()));
+        }
+        for (int i = 1; i < top.size(); i++) {
+            PointsLeaderboard.Entry previous = top.get(i - 1);
+            PointsLeaderboard.Entry entry = top.get(i);
+            assertTrue(previous.points() > entry.points() || previous.memberId() < entry.memberId());
+        }
+    }
+
+    private static List<Member> members(int... ids) {
+        List<Member> members = new ArrayList<>();
+        for (int id : ids) {
+            members.add(Member.builder().id(id).fullname("Member " + id).active(true).build());
+        }
+        return members;
+    }
+}
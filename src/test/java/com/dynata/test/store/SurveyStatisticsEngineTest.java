@@ -0,0 +1,111 @@
+package com.dynata.test.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import com.dynata.test.model.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Survey Statistics Engine Tests")
+class SurveyStatisticsEngineTest {
+
+    private SurveyStatisticsEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        ParticipationStore store = new ParticipationStore();
+        store.append(1, 10, Status.COMPLETED.getId(), 10);
+        store.append(2, 10, Status.COMPLETED.getId(), 20);
+        store.append(3, 10, Status.FILTERED.getId(), 5);
+        store.append(4, 10, Status.REJECTED.getId(), 0);
+        store.append(5, 10, Status.NOT_ASKED.getId(), 0);
+        store.append(1, 20, Status.REJECTED.getId(), 0);
+
+        engine = SurveyStatisticsEngine.build(store);
+    }
+
+    @Test
+    @DisplayName("Should aggregate counters of every survey")
+    void shouldAggregateCounters() {
+        SurveyCounters counters = engine.getCounters(10);
+
+        assertEquals(2, counters.getCompletes());
+        assertEquals(1, counters.getFiltered());
+        assertEquals(1, counters.getRejected());
+        assertEquals(30, counters.getCompletedLength());
+        assertEquals(15.0, counters.getAverageCompletedLength());
+        assertEquals(10, counters.getCompletedLengths().getMin());
+        assertEquals(10, counters.getCompletedLengths().getPercentile(50));
+        assertEquals(20, counters.getCompletedLengths().getPercentile(90));
+        assertEquals(20, counters.getCompletedLengths().getMax());
+
+        assertEquals(0, engine.getCounters(20).getCompletes());
+        assertEquals(1, engine.getCounters(20).getRejected());
+    }
+
+    @Test
+    @DisplayName("Should return empty counters for survey without participations")
+    void shouldReturnEmptyCountersForUnknownSurvey() {
+        SurveyCounters counters = engine.getCounters(99);
+
+        assertEquals(0, counters.getCompletes());
+        assertEquals(0, counters.getFiltered());
+        assertEquals(0, counters.getRejected());
+        assertEquals(0.0, counters.getAverageCompletedLength());
+    }
+
+    @Test
+    @DisplayName("Should update counters in place when participation is recorded")
+    void shouldUpdateCountersInPlace() {
+        engine.record(20, Status.COMPLETED.getId(), 40);
+
+        assertEquals(1, engine.getCounters(20).getCompletes());
+        assertEquals(40.0, engine.getCounters(20).getAverageCompletedLength());
+    }
+
+    @Test
+    @DisplayName("Should aggregate the same counters in parallel as sequentially")
+    void shouldAggregateSameCountersInParallel() {
+        Random random = new Random(42);
+        ParticipationStore store = new ParticipationStore();
+        for (int i = 0; i < 300_000; i++) {
+            store.append(random.nextInt(10_000), random.nextInt(200), random.nextInt(7), random.nextInt(5_000));
+        }
+        store.append(1, 1_000_000, Status.COMPLETED.getId(), 7);
+
+        SurveyStatisticsEngine sequential = SurveyStatisticsEngine.build(store);
+        for (int parallelism : new int[]{1, 2, 3, 8}) {
+            SurveyStatisticsEngine parallel = SurveyStatisticsEngine.build(store, parallelism);
+            for (int surveyId : store.distinctSurveyIds()) {
+                SurveyCounters expected = sequential.getCounters(surveyId);
+                SurveyCounters actual = parallel.getCounters(surveyId);
+                assertEquals(expected.getCompletes(), actual.getCompletes());
+                assertEquals(expected.getFiltered(), actual.getFiltered());
+                assertEquals(expected.getRejected(), actual.getRejected());
+                assertEquals(expected.getCompletedLength(), actual.getCompletedLength());
+                for (double percentile : new double[]{0, 50, 90, 99, 100}) {
+                    assertEquals(expected.getCompletedLengths().getPercentile(percentile), actual.getCompletedLengths().getPercentile(percentile));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should update counters aggregated in parallel in place")
+    void shouldUpdateParallelCountersInPlace() {
+        ParticipationStore store = new ParticipationStore();
+        for (int i = 0; i < 200_000; i++) {
+            store.append(i, i % 3, Status.COMPLETED.getId(), 2);
+        }
+        SurveyStatisticsEngine parallel = SurveyStatisticsEngine.build(store, 4);
+
+        parallel.record(1, Status.COMPLETED.getId(), 5);
+
+        SurveyCounters counters = parallel.getCounters(1);
+        assertEquals(66_668, counters.getCompletes());
+        assertEquals(66_667 * 2 + 5, counters.getCompletedLength());
+    }
+}